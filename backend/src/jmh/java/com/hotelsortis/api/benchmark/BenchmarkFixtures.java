@@ -0,0 +1,63 @@
+package com.hotelsortis.api.benchmark;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.effects.HighRollerEffect;
+import com.hotelsortis.api.game.skill.effects.LuckyRerollEffect;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SafeBetEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import com.hotelsortis.api.service.MutatorService;
+
+import java.util.List;
+
+/**
+ * 벤치마크용 게임 컴포넌트 구성 (Spring 컨텍스트 없이 직접 생성)
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * 등록된 스킬 ID (장착 개수 파라미터에 따라 앞에서부터 사용)
+     * DICE_ROLL 2개(2, 4) + BEFORE_DAMAGE 2개(3, 5)
+     */
+    static final List<Long> SKILL_IDS = List.of(2L, 5L, 4L, 3L);
+
+    private BenchmarkFixtures() {
+    }
+
+    static SkillEffectEngine skillEffectEngine() {
+        SkillEffectEngine engine = new SkillEffectEngine();
+        engine.registerSkillEffects(List.of(
+                new LuckyRerollEffect(),
+                new SteadyHandEffect(),
+                new SafeBetEffect(),
+                new HighRollerEffect(),
+                new PairMasterEffect()));
+        return engine;
+    }
+
+    static MutatorService mutatorService() {
+        return new MutatorService(null);
+    }
+
+    static TurnProcessor turnProcessor(DiceSource diceSource) {
+        return new TurnProcessor(new HandEvaluator(diceSource), skillEffectEngine(), mutatorService());
+    }
+
+    static List<Long> skills(int count) {
+        return SKILL_IDS.subList(0, count);
+    }
+
+    static Battle newBattle(String mutatorId) {
+        return Battle.builder()
+                .id(1L)
+                .playerId(1L)
+                .battleType(Battle.BattleType.PVE)
+                .floor(1)
+                .mutatorId(mutatorId)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.hotelsortis.api.benchmark;
+
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HandEvaluator 족보 판정 / 주사위 굴림 벤치마크
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandEvaluatorBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final HandEvaluator evaluator = new HandEvaluator();
+    private final DiceSource splittable = new SplittableDiceSource(42L);
+    private int[][] samples;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        samples = new int[SAMPLES][];
+        DiceSource source = new SplittableDiceSource(7L);
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = source.rollDice();
+        }
+    }
+
+    private int[] next() {
+        cursor = (cursor + 1) & (SAMPLES - 1);
+        return samples[cursor];
+    }
+
+    @Benchmark
+    public HandEvaluator.HandResult evaluateArray() {
+        return evaluator.evaluate(next());
+    }
+
+    @Benchmark
+    public HandEvaluator.HandResult evaluateScalar() {
+        int[] dice = next();
+        return evaluator.evaluate(dice[0], dice[1], dice[2]);
+    }
+
+    @Benchmark
+    public int[] rollDiceSecure() {
+        return evaluator.rollDice();
+    }
+
+    @Benchmark
+    public int[] rollDiceSplittable() {
+        return evaluator.rollDice(splittable);
+    }
+}
@@ -0,0 +1,34 @@
+package com.hotelsortis.api.benchmark;
+
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MutatorPipeline.transformDice 벤치마크 (전투 시작 시 컴파일된 파이프라인)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MutatorBenchmark {
+
+    @Param({"none", "gravity", "chaos", "fog", "gravity,chaos"})
+    public String mutatorId;
+
+    private final SplittableDiceSource dice = new SplittableDiceSource(42L);
+    private MutatorPipeline mutators;
+    private int[] rolled;
+
+    @Setup
+    public void setUp() {
+        mutators = BenchmarkFixtures.mutatorService().compilePipeline("none".equals(mutatorId) ? null : mutatorId);
+        rolled = dice.rollDice();
+    }
+
+    @Benchmark
+    public int[] transformDice() {
+        return mutators.transformDice(rolled, dice);
+    }
+}
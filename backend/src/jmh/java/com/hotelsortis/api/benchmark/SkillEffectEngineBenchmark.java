@@ -0,0 +1,77 @@
+package com.hotelsortis.api.benchmark;
+
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.skill.GameState;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.SkillTrigger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SkillEffectEngine.executeSkillsByTrigger 벤치마크 (장착 스킬 0-4개)
+ * ID 목록 경로(캐시 조회 포함)와 컴파일된 Loadout 경로를 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SkillEffectEngineBenchmark {
+
+    @Param({"0", "1", "2", "3", "4"})
+    public int equippedSkills;
+
+    private final HandEvaluator evaluator = new HandEvaluator();
+    private final SplittableDiceSource dice = new SplittableDiceSource(42L);
+    private SkillEffectEngine engine;
+    private List<Long> skills;
+    private Loadout loadout;
+
+    @Setup
+    public void setUp() {
+        engine = BenchmarkFixtures.skillEffectEngine();
+        skills = BenchmarkFixtures.skills(equippedSkills);
+        loadout = engine.compileLoadout(skills);
+    }
+
+    private GameState newState() {
+        return GameState.builder()
+                .dice(dice.rollDice())
+                .playerHp(100)
+                .enemyHp(100)
+                .turnCount(1)
+                .currentTurn("PLAYER")
+                .diceSource(dice)
+                .build();
+    }
+
+    @Benchmark
+    public GameState diceRollTrigger() {
+        return engine.executeSkillsByTrigger(SkillTrigger.DICE_ROLL, skills, newState());
+    }
+
+    @Benchmark
+    public GameState diceRollTriggerCompiled() {
+        return engine.executeSkillsByTrigger(SkillTrigger.DICE_ROLL, loadout, newState());
+    }
+
+    @Benchmark
+    public GameState beforeDamageTrigger() {
+        GameState state = newState();
+        HandEvaluator.HandResult hand = evaluator.evaluate(state.getDice());
+        state.setHand(hand);
+        state.setDamage(hand.getPower());
+        return engine.executeSkillsByTrigger(SkillTrigger.BEFORE_DAMAGE, skills, state);
+    }
+
+    @Benchmark
+    public GameState beforeDamageTriggerCompiled() {
+        GameState state = newState();
+        HandEvaluator.HandResult hand = evaluator.evaluate(state.getDice());
+        state.setHand(hand);
+        state.setDamage(hand.getPower());
+        return engine.executeSkillsByTrigger(SkillTrigger.BEFORE_DAMAGE, loadout, state);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hotelsortis.api.benchmark;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리상 전체 턴 (플레이어 공격 + 적 공격) 벤치마크
+ * DB 저장을 제외한 BattleService.rollDice 경로와 동일
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TurnBenchmark {
+
+    @Param({"0", "4"})
+    public int equippedSkills;
+
+    @Param({"none", "gravity", "chaos"})
+    public String mutatorId;
+
+    private final SplittableDiceSource dice = new SplittableDiceSource(42L);
+    private TurnProcessor turnProcessor;
+    private Loadout skills;
+    private MutatorPipeline mutators;
+    private Battle battle;
+    private TurnProcessor.TurnContext context;
+
+    @Setup
+    public void setUp() {
+        turnProcessor = BenchmarkFixtures.turnProcessor(dice);
+        skills = turnProcessor.compileLoadout(BenchmarkFixtures.skills(equippedSkills));
+        battle = BenchmarkFixtures.newBattle("none".equals(mutatorId) ? null : mutatorId);
+        mutators = turnProcessor.compileMutators(battle.getMutatorId());
+        battle.setStatus(Battle.Status.DRAW); // 첫 호출에서 초기화
+        context = TurnProcessor.TurnContext.builder()
+                .battle(battle)
+                .playerSkills(skills)
+                .enemySkills(skills)
+                .mutators(mutators)
+                .dice(dice)
+                .build();
+    }
+
+    private void resetIfNeeded() {
+        // 적 턴까지 항상 진행되도록 HP를 높게 유지하고, 턴 제한 전에 2턴째 상태로 되돌림 (BATTLE_START 제외)
+        if (battle.getStatus() != Battle.Status.ONGOING || battle.getTurnCount() >= TurnProcessor.MAX_TURNS - 1) {
+            battle.setPlayerHp(1_000);
+            battle.setEnemyHp(1_000);
+            battle.setTurnCount(2);
+            battle.setStatus(Battle.Status.ONGOING);
+            battle.setCurrentTurn(Battle.TurnActor.PLAYER);
+        }
+    }
+
+    @Benchmark
+    public TurnProcessor.TurnOutcome playTurn() {
+        resetIfNeeded();
+        return turnProcessor.playTurn(context, null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hotelsortis.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 DataSource 구성 (spring.datasource.replica.url이 있을 때만)
+ *
+ * primary는 spring.datasource.* / spring.datasource.hikari.*,
+ * 복제본은 spring.datasource.replica.* / spring.datasource.replica.hikari.* 로 각각 Hikari 풀을 만듭니다.
+ * 설정이 없으면 Spring Boot 기본 단일 DataSource를 그대로 사용합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    private static final String REPLICA_PREFIX = "spring.datasource.replica";
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties primaryProperties,
+            Environment environment,
+            @Value("${spring.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+            @Value("${spring.datasource.replica.lag-check-interval-ms:1000}") long lagCheckIntervalMs
+    ) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(primaryProperties, binder, "spring.datasource.hikari", "primary");
+
+        DataSourceProperties replicaProperties = binder.bind(REPLICA_PREFIX, DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException(REPLICA_PREFIX + " is not configured"));
+        HikariDataSource replica = pool(replicaProperties, binder, REPLICA_PREFIX + ".hikari", "replica");
+        replica.setReadOnly(true);
+
+        // 확인 3번을 연달아 놓치면 복제본 상태를 알 수 없는 것으로 보고 primary 사용
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, maxLagSeconds, lagCheckIntervalMs * 3);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        routing.afterPropertiesSet();
+
+        log.info("Read replica routing enabled: replica={}, max lag={}s", replicaProperties.getUrl(), maxLagSeconds);
+        return routing;
+    }
+
+    /**
+     * JPA/JDBC가 쓰는 DataSource (트랜잭션 readOnly 플래그가 정해진 뒤 첫 쿼리에서 경로 결정)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 지연 감시기를 빈으로 등록 (@Scheduled 주기 확인)
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return replicaRoutingDataSource.getLagMonitor();
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, String hikariPrefix,
+                                         String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(hikariPrefix, Bindable.ofInstance(dataSource));
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName(poolName);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,114 @@
+package com.hotelsortis.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+/**
+ * 읽기 복제본 지연 감시
+ *
+ * 복제본에서 SHOW REPLICA STATUS의 Seconds_Behind_Master(MySQL 8: Seconds_Behind_Source)를 주기적으로 읽어
+ * maxLagSeconds 이하일 때만 읽기 전용 트랜잭션을 복제본으로 보냅니다.
+ * 복제가 멈췄거나(NULL), 접속에 실패했거나, 마지막 확인이 staleAfterMillis보다 오래되면 primary로 보냅니다.
+ * 복제 설정이 없는 인스턴스(로컬 대체 인스턴스 등)는 상태 행이 없으므로 지연 0으로 봅니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String STATUS_QUERY = "SHOW REPLICA STATUS";
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private final long staleAfterMillis;
+
+    private volatile Long lagSeconds;
+    private volatile boolean usable;
+    private volatile long checkedAtMillis;
+    private volatile LocalDateTime checkedAt;
+    private volatile String lastError;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds, long staleAfterMillis) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.staleAfterMillis = staleAfterMillis;
+    }
+
+    /**
+     * 복제본 지연 확인
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(STATUS_QUERY)) {
+            if (!rs.next()) {
+                record(0L, null); // 복제 설정 없음 (단독 인스턴스)
+                return;
+            }
+            record(secondsBehind(rs), null);
+        } catch (SQLException e) {
+            record(null, e.getMessage());
+        }
+    }
+
+    /**
+     * 확인 결과 반영
+     *
+     * @param lag 지연 초 (null이면 복제 중단 또는 확인 실패)
+     * @param error 확인 실패 사유 (성공 시 null)
+     */
+    void record(Long lag, String error) {
+        boolean wasUsable = usable;
+        lagSeconds = lag;
+        lastError = error != null ? error : (lag == null ? "Replication is not running" : null);
+        usable = lag != null && lag <= maxLagSeconds;
+        checkedAtMillis = System.currentTimeMillis();
+        checkedAt = LocalDateTime.now();
+
+        if (wasUsable && !usable) {
+            log.warn("Read replica unavailable, routing reads to primary (lag={}s, max={}s, error={})",
+                    lag, maxLagSeconds, lastError);
+        } else if (!wasUsable && usable) {
+            log.info("Read replica available (lag={}s)", lag);
+        }
+    }
+
+    /**
+     * 읽기를 복제본으로 보내도 되는지 (최근 확인 기준)
+     */
+    public boolean isReplicaUsable() {
+        return usable && System.currentTimeMillis() - checkedAtMillis <= staleAfterMillis;
+    }
+
+    public Long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public long getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    public LocalDateTime getCheckedAt() {
+        return checkedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    private static Long secondsBehind(ResultSet rs) throws SQLException {
+        long lag;
+        try {
+            lag = rs.getLong("Seconds_Behind_Master");
+        } catch (SQLException e) {
+            lag = rs.getLong("Seconds_Behind_Source");
+        }
+        return rs.wasNull() ? null : lag;
+    }
+}
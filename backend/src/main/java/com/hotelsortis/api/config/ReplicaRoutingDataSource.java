@@ -0,0 +1,133 @@
+package com.hotelsortis.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 복제본으로 보내는 DataSource
+ *
+ * 연결을 실제로 얻는 시점의 트랜잭션 readOnly 플래그로 경로를 정하므로,
+ * 트랜잭션 시작 후 첫 쿼리까지 연결 획득을 미루는 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ * 쓰기 트랜잭션 안에서 호출된 읽기 전용 메서드는 바깥 트랜잭션을 따라 primary를 씁니다.
+ * 서비스 트랜잭션 밖에서 리포지토리를 직접 호출할 때 Spring Data가 여는 기본 읽기 전용 트랜잭션도
+ * 읽은 뒤 바로 저장하는 경우가 많으므로(전투 적재, PvP ELO 갱신 등) primary를 씁니다.
+ * 복제본 지연이 크거나 확인에 실패하면(ReplicaLagMonitor) 읽기도 primary로 보냅니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    /**
+     * 경로 결정 사유별 연결 수
+     */
+    public enum Decision {
+        /** 쓰기, 트랜잭션 밖, 리포지토리 기본 트랜잭션 → primary */
+        PRIMARY,
+        /** 읽기 전용 → 복제본 */
+        REPLICA,
+        /** 읽기 전용이지만 복제본 지연/장애 → primary */
+        REPLICA_FALLBACK
+    }
+
+    /**
+     * Spring Data 리포지토리가 직접 연 트랜잭션 이름의 접두사 (SimpleJpaRepository.findById 등)
+     */
+    private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<Decision, LongAdder> decisions = new EnumMap<>(Decision.class);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        for (Decision decision : Decision.values()) {
+            decisions.put(decision, new LongAdder());
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        targets.put(Route.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    /**
+     * 현재 트랜잭션의 경로 결정 (결정 수 집계 포함)
+     */
+    Route route() {
+        Decision decision;
+        if (!isDeclaredReadOnly()) {
+            decision = Decision.PRIMARY;
+        } else if (lagMonitor.isReplicaUsable()) {
+            decision = Decision.REPLICA;
+        } else {
+            decision = Decision.REPLICA_FALLBACK;
+        }
+        decisions.get(decision).increment();
+        return decision == Decision.REPLICA ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    private static boolean isDeclaredReadOnly() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name == null || !name.startsWith(REPOSITORY_TRANSACTION_PREFIX);
+    }
+
+    public long getDecisionCount(Decision decision) {
+        return decisions.get(decision).sum();
+    }
+
+    public ReplicaLagMonitor getLagMonitor() {
+        return lagMonitor;
+    }
+
+    /**
+     * 경로별 Hikari 풀 상태 (Hikari가 아니거나 풀 시작 전이면 null)
+     */
+    public HikariPoolMXBean getPool(Route route) {
+        DataSource target = route == Route.REPLICA ? replica : primary;
+        return target instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null;
+    }
+
+    /**
+     * 풀 최대 크기 (Hikari가 아니면 null)
+     */
+    public Integer getMaxPoolSize(Route route) {
+        DataSource target = route == Route.REPLICA ? replica : primary;
+        return target instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : null;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+}
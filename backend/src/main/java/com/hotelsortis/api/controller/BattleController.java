@@ -40,7 +40,7 @@ public class BattleController {
 
         model.add(WebMvcLinkBuilder.linkTo(
                 WebMvcLinkBuilder.methodOn(BattleController.class)
-                        .rollDice(response.getBattleId(), null))
+                        .rollDice(response.getBattleId(), null, null))
                 .withRel("roll-dice"));
 
         return ResponseEntity.ok(model);
@@ -51,13 +51,19 @@ public class BattleController {
      * POST /api/v1/battles/{battleId}/roll
      *
      * IMPORTANT: Dice are generated SERVER-SIDE only!
+     *
+     * Idempotency-Key 헤더(또는 body의 idempotencyKey)가 같은 재시도는 같은 응답을 반환합니다.
      */
     @PostMapping("/{battleId}/roll")
     public ResponseEntity<EntityModel<BattleDto.RollResponse>> rollDice(
             @PathVariable Long battleId,
-            @RequestBody BattleDto.RollRequest request
+            @RequestBody BattleDto.RollRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        log.info("Rolling dice for battle: {}, player: {}", battleId, request.getPlayerId());
+        log.debug("Rolling dice for battle: {}, player: {}", battleId, request.getPlayerId());
+        if (idempotencyKey != null && request.getIdempotencyKey() == null) {
+            request.setIdempotencyKey(idempotencyKey);
+        }
 
         BattleDto.RollResponse response = battleService.rollDice(battleId, request);
 
@@ -73,13 +79,167 @@ public class BattleController {
         if ("ONGOING".equals(response.getStatus())) {
             model.add(WebMvcLinkBuilder.linkTo(
                     WebMvcLinkBuilder.methodOn(BattleController.class)
-                            .rollDice(battleId, null))
+                            .rollDice(battleId, null, null))
+                    .withRel("roll-dice"));
+        }
+
+        return ResponseEntity.ok(model);
+    }
+
+    /**
+     * Hold/reroll phase: first call rolls the dice, later calls reroll the dice not in holdMask
+     * POST /api/v1/battles/{battleId}/reroll
+     *
+     * The turn is finished with /roll, which attacks with these dice.
+     */
+    @PostMapping("/{battleId}/reroll")
+    public ResponseEntity<EntityModel<BattleDto.RerollResponse>> reroll(
+            @PathVariable Long battleId,
+            @RequestBody BattleDto.RollRequest request
+    ) {
+        log.debug("Rerolling dice for battle: {}, player: {}, holdMask: {}",
+                battleId, request.getPlayerId(), request.getHoldMask());
+
+        BattleDto.RerollResponse response = battleService.reroll(battleId, request);
+
+        EntityModel<BattleDto.RerollResponse> model = EntityModel.of(response);
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .getBattleStatus(battleId))
+                .withSelfRel());
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .rollDice(battleId, null, null))
+                .withRel("roll-dice"));
+
+        if (response.getRerollsLeft() > 0) {
+            model.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(BattleController.class)
+                            .reroll(battleId, null))
+                    .withRel("reroll"));
+            model.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(BattleController.class)
+                            .getHoldAdvice(battleId, request.getPlayerId()))
+                    .withRel("hold-advice"));
+        }
+
+        return ResponseEntity.ok(model);
+    }
+
+    /**
+     * Suggest the hold that maximizes expected damage for the pending dice
+     * GET /api/v1/battles/{battleId}/hold-advice?playerId=
+     */
+    @GetMapping("/{battleId}/hold-advice")
+    public ResponseEntity<EntityModel<BattleDto.HoldAdvice>> getHoldAdvice(
+            @PathVariable Long battleId,
+            @RequestParam Long playerId
+    ) {
+        BattleDto.HoldAdvice advice = battleService.getHoldAdvice(battleId, playerId);
+
+        EntityModel<BattleDto.HoldAdvice> model = EntityModel.of(advice);
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .getHoldAdvice(battleId, playerId))
+                .withSelfRel());
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .getBattleStatus(battleId))
+                .withRel("battle"));
+
+        return ResponseEntity.ok(model);
+    }
+
+    /**
+     * Resolve a PvE battle for up to N turns (or to completion) in one request
+     * The response is returned only after the result is written to the database
+     * POST /api/v1/battles/{battleId}/resolve?turns=N
+     */
+    @PostMapping("/{battleId}/resolve")
+    public ResponseEntity<EntityModel<BattleDto.ResolveResponse>> resolveBattle(
+            @PathVariable Long battleId,
+            @RequestParam(required = false) Integer turns,
+            @RequestBody BattleDto.RollRequest request
+    ) {
+        log.debug("Resolving battle: {}, player: {}, turns: {}", battleId, request.getPlayerId(), turns);
+
+        BattleDto.ResolveResponse response = battleService.resolveBattle(battleId, request, turns);
+
+        EntityModel<BattleDto.ResolveResponse> model = EntityModel.of(response);
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .getBattleStatus(battleId))
+                .withSelfRel());
+
+        if ("ONGOING".equals(response.getStatus())) {
+            model.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(BattleController.class)
+                            .rollDice(battleId, null, null))
                     .withRel("roll-dice"));
+            model.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(BattleController.class)
+                            .resolveBattle(battleId, null, null))
+                    .withRel("resolve"));
         }
 
         return ResponseEntity.ok(model);
     }
 
+    /**
+     * Reveal the dice seed after the battle ends
+     * GET /api/v1/battles/{battleId}/reveal
+     */
+    @GetMapping("/{battleId}/reveal")
+    public ResponseEntity<EntityModel<BattleDto.DiceReveal>> revealDice(
+            @PathVariable Long battleId
+    ) {
+        BattleDto.DiceReveal reveal = battleService.revealDice(battleId);
+
+        EntityModel<BattleDto.DiceReveal> model = EntityModel.of(reveal);
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .revealDice(battleId))
+                .withSelfRel());
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .getBattleEvents(battleId))
+                .withRel("events"));
+
+        return ResponseEntity.ok(model);
+    }
+
+    /**
+     * Get the battle's turn event log (replay / audit)
+     * GET /api/v1/battles/{battleId}/events
+     */
+    @GetMapping("/{battleId}/events")
+    public ResponseEntity<EntityModel<BattleDto.EventLogResponse>> getBattleEvents(
+            @PathVariable Long battleId
+    ) {
+        BattleDto.EventLogResponse events = battleService.getBattleEvents(battleId);
+
+        EntityModel<BattleDto.EventLogResponse> model = EntityModel.of(events);
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .getBattleEvents(battleId))
+                .withSelfRel());
+
+        model.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(BattleController.class)
+                        .getBattleStatus(battleId))
+                .withRel("battle"));
+
+        return ResponseEntity.ok(model);
+    }
+
     /**
      * Get current battle status
      * GET /api/v1/battles/{battleId}
@@ -100,8 +260,12 @@ public class BattleController {
         if ("ONGOING".equals(status.getStatus())) {
             model.add(WebMvcLinkBuilder.linkTo(
                     WebMvcLinkBuilder.methodOn(BattleController.class)
-                            .rollDice(battleId, null))
+                            .rollDice(battleId, null, null))
                     .withRel("roll-dice"));
+            model.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(BattleController.class)
+                            .reroll(battleId, null))
+                    .withRel("reroll"));
         }
 
         return ResponseEntity.ok(model);
@@ -2,6 +2,7 @@ package com.hotelsortis.api.controller;
 
 import com.hotelsortis.api.dto.CampaignDto;
 import com.hotelsortis.api.service.CampaignService;
+import com.hotelsortis.api.service.LoadoutRecommendationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.hateoas.EntityModel;
@@ -19,6 +20,7 @@ import java.util.Locale;
 public class CampaignController {
 
     private final CampaignService campaignService;
+    private final LoadoutRecommendationService loadoutRecommendationService;
 
     private String resolveLanguage(String acceptLanguage) {
         if (acceptLanguage == null || acceptLanguage.isBlank()) return "en";
@@ -120,4 +122,20 @@ public class CampaignController {
 
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Rank the player's owned-skill loadouts by simulated win rate against a floor or boss
+     * GET /api/v1/campaigns/{playerId}/loadouts/recommended?floor=N or ?bossId=mammon
+     */
+    @GetMapping("/{playerId}/loadouts/recommended")
+    public ResponseEntity<CampaignDto.LoadoutRecommendationResponse> getRecommendedLoadouts(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) Integer floor,
+            @RequestParam(required = false) String bossId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("Recommending loadouts for player: {} (floor={}, boss={})", playerId, floor, bossId);
+
+        return ResponseEntity.ok(loadoutRecommendationService.recommend(playerId, floor, bossId, limit));
+    }
 }
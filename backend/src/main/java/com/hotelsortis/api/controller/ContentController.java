@@ -0,0 +1,51 @@
+package com.hotelsortis.api.controller;
+
+import com.hotelsortis.api.dto.ContentDto;
+import com.hotelsortis.api.service.ContentCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 정적 콘텐츠 카탈로그 API (관리자 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/content")
+@RequiredArgsConstructor
+public class ContentController {
+
+    private final ContentCatalog contentCatalog;
+
+    /**
+     * 현재 카탈로그 버전 조회
+     * GET /api/v1/admin/content
+     */
+    @GetMapping
+    public ResponseEntity<ContentDto.CatalogInfo> getCatalog() {
+        return ResponseEntity.ok(toInfo(contentCatalog.current()));
+    }
+
+    /**
+     * floors/bosses/mutators/skills 테이블을 다시 읽어 카탈로그 교체
+     * POST /api/v1/admin/content/reload
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<ContentDto.CatalogInfo> reload() {
+        log.info("Reloading content catalog (current v{})", contentCatalog.getVersion());
+
+        return ResponseEntity.ok(toInfo(contentCatalog.reload()));
+    }
+
+    private ContentDto.CatalogInfo toInfo(ContentCatalog.Snapshot snapshot) {
+        return ContentDto.CatalogInfo.builder()
+                .version(snapshot.getVersion())
+                .loadedAt(snapshot.getLoadedAt())
+                .floors(snapshot.getFloors().size())
+                .bosses(snapshot.getBossCount())
+                .mutators(snapshot.getMutatorCount())
+                .skills(snapshot.getSkills().size())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.hotelsortis.api.controller;
+
+import com.hotelsortis.api.config.ReplicaLagMonitor;
+import com.hotelsortis.api.config.ReplicaRoutingDataSource;
+import com.hotelsortis.api.dto.DataSourceDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource 라우팅/커넥션 풀 상태 API (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/datasources")
+@RequiredArgsConstructor
+public class DataSourceController {
+
+    private final ObjectProvider<ReplicaRoutingDataSource> routingDataSource;
+    private final DataSource dataSource;
+
+    /**
+     * 경로별 연결 수, 복제본 지연, 풀 상태 조회
+     * GET /api/v1/admin/datasources
+     */
+    @GetMapping
+    public ResponseEntity<DataSourceDto.RoutingInfo> getRouting() {
+        ReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing == null) {
+            // 복제본 미설정: 단일 풀
+            HikariPoolMXBean pool = dataSource instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null;
+            Integer maxSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : null;
+            return ResponseEntity.ok(DataSourceDto.RoutingInfo.builder()
+                    .replicaEnabled(false)
+                    .replicaUsable(false)
+                    .pools(pool != null ? List.of(toPoolInfo("PRIMARY", pool, maxSize)) : List.of())
+                    .build());
+        }
+
+        List<DataSourceDto.PoolInfo> pools = new ArrayList<>(2);
+        for (ReplicaRoutingDataSource.Route route : ReplicaRoutingDataSource.Route.values()) {
+            HikariPoolMXBean pool = routing.getPool(route);
+            if (pool != null) {
+                pools.add(toPoolInfo(route.name(), pool, routing.getMaxPoolSize(route)));
+            }
+        }
+
+        ReplicaLagMonitor lag = routing.getLagMonitor();
+        return ResponseEntity.ok(DataSourceDto.RoutingInfo.builder()
+                .replicaEnabled(true)
+                .replicaUsable(lag.isReplicaUsable())
+                .replicaLagSeconds(lag.getLagSeconds())
+                .maxLagSeconds(lag.getMaxLagSeconds())
+                .lagCheckedAt(lag.getCheckedAt())
+                .lastError(lag.getLastError())
+                .primaryConnections(routing.getDecisionCount(ReplicaRoutingDataSource.Decision.PRIMARY))
+                .replicaConnections(routing.getDecisionCount(ReplicaRoutingDataSource.Decision.REPLICA))
+                .fallbackConnections(routing.getDecisionCount(ReplicaRoutingDataSource.Decision.REPLICA_FALLBACK))
+                .pools(pools)
+                .build());
+    }
+
+    private static DataSourceDto.PoolInfo toPoolInfo(String route, HikariPoolMXBean pool, Integer maxSize) {
+        return DataSourceDto.PoolInfo.builder()
+                .route(route)
+                .active(pool.getActiveConnections())
+                .idle(pool.getIdleConnections())
+                .total(pool.getTotalConnections())
+                .waiting(pool.getThreadsAwaitingConnection())
+                .maxSize(maxSize)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.hotelsortis.api.controller;
+
+import com.hotelsortis.api.dto.SimulationDto;
+import com.hotelsortis.api.service.SimulationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 밸런스 시뮬레이션 API (관리자 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/simulations")
+@RequiredArgsConstructor
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    /**
+     * 로드아웃/층/변형 규칙 조합별 승률, 평균 턴 수, 데미지 분포 계산
+     * POST /api/v1/admin/simulations
+     */
+    @PostMapping
+    public ResponseEntity<SimulationDto.Response> simulate(@RequestBody SimulationDto.Request request) {
+        log.info("Running simulation: floors={}, loadouts={}, mutators={}, battles={}",
+                request.getFloors(), request.getLoadouts(), request.getMutators(), request.getBattles());
+
+        return ResponseEntity.ok(simulationService.simulate(request));
+    }
+}
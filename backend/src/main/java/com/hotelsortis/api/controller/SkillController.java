@@ -116,6 +116,27 @@ public class SkillController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 장착 스킬/변형 규칙 조합의 족보·데미지 확률 (정확한 값, 조합별 캐시)
+     *
+     * GET /api/v1/skills/odds?skills=2,5&mutator=gravity&firstTurn=false
+     *
+     * @param skills 장착 스킬 ID 목록 (쉼표로 구분, 최대 4개)
+     * @param mutator 변형 규칙 ID (여러 개는 쉼표로 구분)
+     * @param firstTurn true면 BATTLE_START 스킬 포함
+     * @return 확률 분포
+     */
+    @GetMapping("/odds")
+    public ResponseEntity<SkillDto.OddsResponse> getOdds(
+            @RequestParam(required = false) List<Long> skills,
+            @RequestParam(required = false) String mutator,
+            @RequestParam(defaultValue = "false") boolean firstTurn
+    ) {
+        log.info("GET /api/v1/skills/odds?skills={}&mutator={}&firstTurn={}", skills, mutator, firstTurn);
+
+        return ResponseEntity.ok(skillService.getOdds(skills, mutator, firstTurn));
+    }
+
     /**
      * Accept-Language 헤더에서 언어 코드 추출
      *
@@ -46,6 +46,7 @@ public class BattleDto {
         private String bossName;
         private String mutatorId;
         private Boolean fogActive; // true if fog mutator hides hand names
+        private String diceCommitment; // SHA-256(seed), 전투 종료 후 /reveal로 시드 공개
     }
 
     @Data
@@ -54,6 +55,40 @@ public class BattleDto {
     @AllArgsConstructor
     public static class RollRequest {
         private Long playerId;
+        private Integer holdMask; // /reroll 전용: 남길 주사위 (비트 i = i번째 주사위), 이번 턴 첫 굴림이면 생략
+        private String idempotencyKey; // /roll 전용: 재시도 시 같은 값이면 턴을 다시 실행하지 않고 같은 응답 (최대 64자)
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RerollResponse {
+        private Long battleId;
+        private int[] dice; // 보류/재굴림 단계의 주사위 (/roll이 이 주사위로 공격)
+        private Integer rerollsLeft;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldAdvice {
+        private Long battleId;
+        private int[] dice;
+        private Integer rerollsLeft;
+        private Integer holdMask; // 기대 데미지가 가장 큰 보류 마스크 (7이면 재굴림하지 않고 /roll)
+        private Double expectedDamage;
+        private List<HoldOption> options; // 마스크 0-7 순서
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldOption {
+        private Integer holdMask;
+        private Double expectedDamage; // 이 마스크로 보류하고 이후 재굴림을 최선으로 했을 때
     }
 
     @Data
@@ -62,7 +97,7 @@ public class BattleDto {
     @AllArgsConstructor
     public static class RollResponse {
         private int[] dice;
-        private String hash;
+        private String hash; // 주사위 hash 체인: SHA-256(이전 hash || turn || 굴린 주사위), 첫 이전 hash = commitment
         private HandResult hand;
         private Integer damage;
         private Integer playerHp;
@@ -75,6 +110,58 @@ public class BattleDto {
         private BossPhaseTransition bossPhaseTransition; // 보스 페이즈 전환 정보
         private Boolean fogActive; // true if fog mutator hides hand names
         private Boolean skillsSilenced; // true if silence mutator blocked skills this turn
+        private Boolean replayed; // true if this is the stored response of an earlier request with the same idempotencyKey
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResolveResponse {
+        private Long battleId;
+        private Integer turnsPlayed;
+        private String status;
+        private List<RollResponse> turns; // 턴 순서대로
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DiceReveal {
+        private Long battleId;
+        private String commitment; // SHA-256(seed)
+        private String seed; // hex, HashDrbgDiceSource 시드
+        private String finalChain; // 마지막 턴 hash
+        private Long bytesConsumed; // 전투 중 DRBG에서 소비한 바이트 수
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EventLogResponse {
+        private Long battleId;
+        private List<EventEntry> events;
+        private BattleStatus replayed; // 이벤트로 재구성한 상태 (battles 행과 일치해야 함)
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EventEntry {
+        private String type; // START, ATTACK, BOSS_PHASE, END
+        private Integer turn;
+        private String actor; // ATTACK only
+        private int[] rolledDice;
+        private int[] dice;
+        private String hand;
+        private Integer damage;
+        private List<Long> skillsActivated;
+        private Boolean skillsSilenced;
+        private Integer bossPhase;
+        private String status; // END only
     }
 
     @Data
@@ -122,6 +209,8 @@ public class BattleDto {
         private Integer turnCount;
         private String currentTurn;
         private String status;
+        private int[] pendingDice; // 보류/재굴림 단계의 주사위 (없으면 null)
+        private Integer rerollsLeft;
     }
 
     public static StartResponse fromEntity(Battle battle) {
@@ -139,7 +228,6 @@ public class BattleDto {
                 .bossId(battle.getBossId())
                 .bossPhase(battle.getBossPhase())
                 .mutatorId(battle.getMutatorId())
-                .fogActive("fog".equals(battle.getMutatorId()))
                 .build();
     }
 }
@@ -33,6 +33,7 @@ public class CampaignDto {
         private Integer floor;
         private String floorType;
         private Integer battleCount;
+        private Integer battlesWon; // victories on this floor in the current run
         private Boolean cleared;
         private Boolean locked;
         private String description;
@@ -112,4 +113,29 @@ public class CampaignDto {
         private Long playerId;
         private Long selectedSkillId;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LoadoutRecommendationResponse {
+        private Integer floor;
+        private String bossId;
+        private String mutatorId;
+        private Integer candidates; // 평가한 조합 수 (효과가 있는 보유 스킬 기준, 빈 로드아웃 포함)
+        private Long battlesSimulated;
+        private List<RecommendedLoadout> loadouts; // 승률 순
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecommendedLoadout {
+        private List<Long> skillIds; // 효과가 있는 스킬만, 남는 슬롯은 자유
+        private Double winRate;
+        private Double winRateLow; // 신뢰 구간 하한
+        private Double winRateHigh; // 신뢰 구간 상한
+        private Long battles;
+    }
 }
@@ -0,0 +1,24 @@
+package com.hotelsortis.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class ContentDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CatalogInfo {
+        private Long version; // 리로드마다 1씩 증가
+        private LocalDateTime loadedAt;
+        private Integer floors;
+        private Integer bosses;
+        private Integer mutators;
+        private Integer skills;
+    }
+}
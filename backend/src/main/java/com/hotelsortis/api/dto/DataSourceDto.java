@@ -0,0 +1,42 @@
+package com.hotelsortis.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DataSourceDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoutingInfo {
+        private Boolean replicaEnabled; // spring.datasource.replica.url 설정 여부
+        private Boolean replicaUsable; // 지금 읽기 전용 트랜잭션을 복제본으로 보내는지
+        private Long replicaLagSeconds; // 마지막 확인 값 (복제 중단/확인 실패 시 null)
+        private Long maxLagSeconds;
+        private LocalDateTime lagCheckedAt;
+        private String lastError;
+        private Long primaryConnections; // 쓰기, 트랜잭션 밖, 리포지토리 기본 트랜잭션
+        private Long replicaConnections; // 읽기 전용 → 복제본
+        private Long fallbackConnections; // 읽기 전용이지만 복제본 지연/장애로 primary
+        private List<PoolInfo> pools;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PoolInfo {
+        private String route; // PRIMARY or REPLICA
+        private Integer active;
+        private Integer idle;
+        private Integer total;
+        private Integer waiting; // 연결을 기다리는 스레드 수
+        private Integer maxSize;
+    }
+}
@@ -0,0 +1,53 @@
+package com.hotelsortis.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+public class SimulationDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private List<List<Long>> loadouts; // 플레이어 장착 스킬 조합 목록 (각 최대 4개)
+        private List<Integer> floors; // 시뮬레이션할 층 목록
+        private List<String> mutators; // 변형 규칙 덮어쓰기 (없으면 층 기본값, "none"이면 변형 없음)
+        private Integer battles; // 조합별 전투 수
+        private Long seed; // 재현용 시드 (없으면 무작위)
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private Long seed;
+        private List<ScenarioResult> results;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScenarioResult {
+        private List<Long> loadout;
+        private Integer floor;
+        private String mutatorId;
+        private String bossId;
+        private Long battles;
+        private Long victories;
+        private Long defeats;
+        private Long draws;
+        private Double winRate;
+        private Double averageTurns;
+        private Long bossPhaseTransitions;
+        private Map<Integer, Long> playerDamageDistribution; // 데미지 -> 횟수
+        private Map<Integer, Long> enemyDamageDistribution;
+    }
+}
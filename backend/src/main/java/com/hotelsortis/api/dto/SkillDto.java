@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 스킬 DTO (i18n 지원)
@@ -86,4 +87,22 @@ public class SkillDto {
         private Integer total;
         private String language;  // 응답에 사용된 언어
     }
+
+    /**
+     * 족보/데미지 확률 응답 (완전 열거, 몬테카를로 아님)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OddsResponse {
+        private List<Long> skillIds;
+        private String mutatorId;
+        private Boolean firstTurn;        // true면 BATTLE_START 스킬 포함
+        private Long outcomes;            // 열거한 경우의 수
+        private Map<String, Double> handRanks;  // 족보 이름(영문) → 확률
+        private Map<Integer, Double> damage;    // 데미지 → 확률
+        private Double expectedDamage;
+        private Double skillsSilenced;    // 스킬이 봉인될 확률 (silence)
+    }
 }
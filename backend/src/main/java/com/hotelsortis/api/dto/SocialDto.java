@@ -45,6 +45,7 @@ public class SocialDto {
         private String status;
         private LocalDateTime createdAt;
         private LocalDateTime acceptedAt;
+        private Integer highestFloorCleared;
 
         public static FriendResponse fromEntity(Friend friend, Player friendPlayer) {
             return FriendResponse.builder()
@@ -0,0 +1,172 @@
+package com.hotelsortis.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관된 전투 (종료 후 일정 기간이 지나 battles에서 옮긴 행)
+ *
+ * 진행 중에만 필요한 필드(쉴드, 현재 턴, 보류 주사위 등)는 버리고,
+ * battle_events 묶음들은 순서대로 이어 붙여 events 한 컬럼에 담습니다 (BattleEventLog.decode로 그대로 해석).
+ * ID는 원래 전투 ID를 그대로 씁니다.
+ */
+@Entity
+@Table(name = "battle_archive",
+    indexes = {
+        @Index(name = "idx_archive_player", columnList = "player_id, battle_type, ended_at"),
+        @Index(name = "idx_archive_enemy", columnList = "enemy_id, battle_type, ended_at")
+    }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedBattle implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Column(name = "enemy_id")
+    private Long enemyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "battle_type", nullable = false)
+    private Battle.BattleType battleType;
+
+    @Column
+    private Integer floor;
+
+    @Column(name = "boss_id", length = 50)
+    private String bossId;
+
+    @Column(name = "mutator_id", length = 50)
+    private String mutatorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Battle.Status status;
+
+    @Column(name = "player_hp", nullable = false)
+    private Integer playerHp;
+
+    @Column(name = "enemy_hp", nullable = false)
+    private Integer enemyHp;
+
+    @Column(name = "turn_count", nullable = false)
+    private Integer turnCount;
+
+    @Convert(converter = PackedLoadoutConverter.class)
+    @Column(name = "player_loadout", nullable = false)
+    private PackedLoadout playerLoadout;
+
+    @Convert(converter = PackedLoadoutConverter.class)
+    @Column(name = "enemy_loadout", nullable = false)
+    private PackedLoadout enemyLoadout;
+
+    @Column(name = "dice_seed", length = 64)
+    private String diceSeed;
+
+    @Column(name = "dice_commitment", length = 64)
+    private String diceCommitment;
+
+    @Column(name = "dice_position")
+    private Long dicePosition;
+
+    @Column(name = "dice_chain", length = 64)
+    private String diceChain;
+
+    /**
+     * 전투의 모든 BattleEvent 레코드 (battle_events 묶음을 ID 순으로 이어 붙인 것)
+     */
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] events;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * DB에 이미 있는 행인지 (원래 ID를 그대로 쓰므로 저장 시 SELECT 없이 INSERT 하기 위함)
+     */
+    @Transient
+    @Builder.Default
+    private boolean stored = false;
+
+    /**
+     * 종료된 전투와 그 이벤트 묶음(ID 순)으로 보관 행 생성
+     */
+    public static ArchivedBattle of(Battle battle, List<BattleEventChunk> chunks, LocalDateTime archivedAt) {
+        ByteArrayOutputStream events = new ByteArrayOutputStream();
+        for (BattleEventChunk chunk : chunks) {
+            events.writeBytes(chunk.getEvents());
+        }
+
+        return ArchivedBattle.builder()
+                .id(battle.getId())
+                .playerId(battle.getPlayerId())
+                .enemyId(battle.getEnemyId())
+                .battleType(battle.getBattleType())
+                .floor(battle.getFloor())
+                .bossId(battle.getBossId())
+                .mutatorId(battle.getMutatorId())
+                .status(battle.getStatus())
+                .playerHp(battle.getPlayerHp())
+                .enemyHp(battle.getEnemyHp())
+                .turnCount(battle.getTurnCount())
+                .playerLoadout(battle.getPlayerLoadout())
+                .enemyLoadout(battle.getEnemyLoadout())
+                .diceSeed(battle.getDiceSeed())
+                .diceCommitment(battle.getDiceCommitment())
+                .dicePosition(battle.getDicePosition())
+                .diceChain(battle.getDiceChain())
+                .events(events.toByteArray())
+                .startedAt(battle.getStartedAt())
+                .endedAt(battle.getEndedAt())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    /**
+     * 조회용 Battle로 변환 (보관하지 않은 필드는 기본값, 저장하지 말 것)
+     */
+    public Battle toBattle() {
+        return toSummary().toBattle();
+    }
+
+    /**
+     * events를 뺀 요약 (ArchivedBattleRepository.SELECT_SUMMARY와 같은 내용)
+     */
+    public ArchivedBattleSummary toSummary() {
+        return new ArchivedBattleSummary(id, playerId, enemyId, battleType, floor, bossId, mutatorId, status,
+                playerHp, enemyHp, turnCount, playerLoadout, enemyLoadout,
+                diceSeed, diceCommitment, dicePosition, diceChain, startedAt, endedAt);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+}
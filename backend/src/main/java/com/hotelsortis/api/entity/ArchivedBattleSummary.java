@@ -0,0 +1,60 @@
+package com.hotelsortis.api.entity;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * events를 뺀 보관 전투 (JPQL 생성자 식으로 읽어 MEDIUMBLOB 컬럼을 가져오지 않음)
+ */
+@Value
+public class ArchivedBattleSummary {
+
+    Long id;
+    Long playerId;
+    Long enemyId;
+    Battle.BattleType battleType;
+    Integer floor;
+    String bossId;
+    String mutatorId;
+    Battle.Status status;
+    Integer playerHp;
+    Integer enemyHp;
+    Integer turnCount;
+    PackedLoadout playerLoadout;
+    PackedLoadout enemyLoadout;
+    String diceSeed;
+    String diceCommitment;
+    Long dicePosition;
+    String diceChain;
+    LocalDateTime startedAt;
+    LocalDateTime endedAt;
+
+    /**
+     * 조회용 Battle로 변환 (보관하지 않은 필드는 기본값, 저장하지 말 것)
+     */
+    public Battle toBattle() {
+        return Battle.builder()
+                .id(id)
+                .playerId(playerId)
+                .enemyId(enemyId)
+                .battleType(battleType)
+                .floor(floor)
+                .bossId(bossId)
+                .mutatorId(mutatorId)
+                .status(status)
+                .playerHp(playerHp)
+                .enemyHp(enemyHp)
+                .turnCount(turnCount)
+                .playerLoadout(playerLoadout)
+                .enemyLoadout(enemyLoadout)
+                .diceSeed(diceSeed)
+                .diceCommitment(diceCommitment)
+                .dicePosition(dicePosition)
+                .diceChain(diceChain)
+                .draftCompleted(true)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .build();
+    }
+}
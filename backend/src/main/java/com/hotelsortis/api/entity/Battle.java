@@ -1,5 +1,6 @@
 package com.hotelsortis.api.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,7 +10,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "battles")
+@Table(name = "battles",
+    indexes = {
+        @Index(name = "idx_battles_ended_at", columnList = "ended_at")
+    }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,7 +22,10 @@ import java.time.LocalDateTime;
 public class Battle {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "battles_id")
+    @TableGenerator(name = "battles_id", table = PooledIds.TABLE, pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "battles",
+            allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "player_id", nullable = false)
@@ -73,16 +81,74 @@ public class Battle {
     @Builder.Default
     private TurnActor currentTurn = TurnActor.PLAYER;
 
-    @Column(name = "player_equipped_skills", columnDefinition = "JSON")
-    private String playerEquippedSkills;
+    /**
+     * 플레이어 장착 스킬 (PackedLoadout 참고)
+     */
+    @Convert(converter = PackedLoadoutConverter.class)
+    @Column(name = "player_loadout", nullable = false)
+    @Builder.Default
+    private PackedLoadout playerLoadout = PackedLoadout.EMPTY;
 
-    @Column(name = "enemy_equipped_skills", columnDefinition = "JSON")
-    private String enemyEquippedSkills;
+    @Convert(converter = PackedLoadoutConverter.class)
+    @Column(name = "enemy_loadout", nullable = false)
+    @Builder.Default
+    private PackedLoadout enemyLoadout = PackedLoadout.EMPTY;
 
     @Column(name = "draft_completed")
     @Builder.Default
     private Boolean draftCompleted = false;
 
+    /**
+     * 캠페인 런 번호 (CampaignService.startFloor로 시작한 전투, 승리 수에 반영하면 null)
+     */
+    @Column(name = "campaign_run")
+    private Integer campaignRun;
+
+    /**
+     * 주사위 DRBG 시드 (hex, 전투 종료 전까지 비공개)
+     */
+    @JsonIgnore
+    @Column(name = "dice_seed", length = 64)
+    private String diceSeed;
+
+    /**
+     * 시드 commitment = SHA-256(seed) (hex, 전투 시작 시 공개)
+     */
+    @Column(name = "dice_commitment", length = 64)
+    private String diceCommitment;
+
+    /**
+     * DRBG에서 소비한 바이트 수 (재적재 시 이어서 사용)
+     */
+    @Column(name = "dice_position", nullable = false)
+    @Builder.Default
+    private Long dicePosition = 0L;
+
+    /**
+     * 마지막 턴의 주사위 hash 체인 값 (hex)
+     */
+    @Column(name = "dice_chain", length = 64)
+    private String diceChain;
+
+    /**
+     * 보류/재굴림 단계에서 굴려 둔 플레이어 주사위 (HandEvaluator.indexOf, 없으면 null)
+     */
+    @Column(name = "pending_dice")
+    private Integer pendingDice;
+
+    /**
+     * 이번 턴 남은 플레이어 재굴림 횟수 (pendingDice가 있을 때만 의미 있음)
+     */
+    @Column(name = "rerolls_left")
+    private Integer rerollsLeft;
+
+    /**
+     * 낙관적 잠금 버전 (메모리 사본의 저장이 다른 쓰기보다 오래된 경우 감지, 새 전투는 null → 저장 시 0)
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "started_at", nullable = false, updatable = false)
     private LocalDateTime startedAt;
 
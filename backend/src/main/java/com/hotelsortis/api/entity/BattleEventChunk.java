@@ -0,0 +1,46 @@
+package com.hotelsortis.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전투 이벤트 묶음 (추가 전용)
+ * events는 BattleEvent 고정 길이 레코드를 이어 붙인 바이너리 (BattleEventLog.decode로 해석)
+ */
+@Entity
+@Table(name = "battle_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleEventChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "battle_events_id")
+    @TableGenerator(name = "battle_events_id", table = PooledIds.TABLE, pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "battle_events",
+            allocationSize = PooledIds.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "battle_id", nullable = false)
+    private Long battleId;
+
+    @Column(name = "event_count", nullable = false)
+    private Integer eventCount;
+
+    @Column(nullable = false, columnDefinition = "VARBINARY(8192)")
+    private byte[] events;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
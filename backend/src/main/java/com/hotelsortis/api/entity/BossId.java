@@ -2,6 +2,8 @@ package com.hotelsortis.api.entity;
 
 import lombok.Getter;
 
+import java.util.Optional;
+
 /**
  * Boss ID Enum
  *
@@ -10,18 +12,26 @@ import lombok.Getter;
  * - ELIGOR (Floor 10)
  * - LUCIFUGE (Floor 15)
  *
- * Each boss has a lowercase string value for database compatibility.
+ * Each boss has a lowercase string value for database compatibility,
+ * and a fixed bit in campaign_progress.progress_mask for its defeat flag.
  */
 @Getter
 public enum BossId {
-    MAMMON("mammon"),
-    ELIGOR("eligor"),
-    LUCIFUGE("lucifuge");
+    MAMMON("mammon", 16),
+    ELIGOR("eligor", 17),
+    LUCIFUGE("lucifuge", 18);
 
     private final String value;
 
-    BossId(String value) {
+    /**
+     * Bit index of this boss's defeat flag in campaign_progress.progress_mask
+     * (16-30, stored in existing rows: never change or reuse a bit, new bosses take a free one)
+     */
+    private final int progressBit;
+
+    BossId(String value, int progressBit) {
         this.value = value;
+        this.progressBit = progressBit;
     }
 
     /**
@@ -36,14 +46,23 @@ public enum BossId {
             throw new IllegalArgumentException("Boss ID value cannot be null");
         }
 
+        return find(value).orElseThrow(() -> new IllegalArgumentException("Invalid boss ID: " + value +
+            ". Valid values are: mammon, eligor, lucifuge"));
+    }
+
+    /**
+     * Find BossId by string value without throwing
+     *
+     * @param value The lowercase boss ID string (may be null)
+     * @return The corresponding BossId, or empty if value is null or unknown
+     */
+    public static Optional<BossId> find(String value) {
         for (BossId bossId : values()) {
             if (bossId.value.equals(value)) {
-                return bossId;
+                return Optional.of(bossId);
             }
         }
-
-        throw new IllegalArgumentException("Invalid boss ID: " + value +
-            ". Valid values are: mammon, eligor, lucifuge");
+        return Optional.empty();
     }
 
     /**
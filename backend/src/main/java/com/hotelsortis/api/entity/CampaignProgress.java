@@ -16,6 +16,19 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class CampaignProgress {
 
+    /**
+     * 캠페인 층 수
+     */
+    public static final int MAX_FLOOR = 15;
+
+    private static final int FLOOR_BITS = (1 << MAX_FLOOR) - 1;
+
+    /**
+     * 층별 승리 수 칸 크기 (4비트, 최대 15승)
+     */
+    private static final int VICTORY_COUNT_BITS = 4;
+    private static final long VICTORY_COUNT_MAX = (1L << VICTORY_COUNT_BITS) - 1;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,77 +44,27 @@ public class CampaignProgress {
     @Builder.Default
     private Integer currentRunHp = 100;
 
-    @Column(name = "floor_1_cleared")
-    @Builder.Default
-    private Boolean floor1Cleared = false;
-
-    @Column(name = "floor_2_cleared")
-    @Builder.Default
-    private Boolean floor2Cleared = false;
-
-    @Column(name = "floor_3_cleared")
-    @Builder.Default
-    private Boolean floor3Cleared = false;
-
-    @Column(name = "floor_4_cleared")
-    @Builder.Default
-    private Boolean floor4Cleared = false;
-
-    @Column(name = "floor_5_cleared")
-    @Builder.Default
-    private Boolean floor5Cleared = false;
-
-    @Column(name = "floor_6_cleared")
-    @Builder.Default
-    private Boolean floor6Cleared = false;
-
-    @Column(name = "floor_7_cleared")
-    @Builder.Default
-    private Boolean floor7Cleared = false;
-
-    @Column(name = "floor_8_cleared")
-    @Builder.Default
-    private Boolean floor8Cleared = false;
-
-    @Column(name = "floor_9_cleared")
-    @Builder.Default
-    private Boolean floor9Cleared = false;
-
-    @Column(name = "floor_10_cleared")
-    @Builder.Default
-    private Boolean floor10Cleared = false;
-
-    @Column(name = "floor_11_cleared")
-    @Builder.Default
-    private Boolean floor11Cleared = false;
-
-    @Column(name = "floor_12_cleared")
-    @Builder.Default
-    private Boolean floor12Cleared = false;
-
-    @Column(name = "floor_13_cleared")
-    @Builder.Default
-    private Boolean floor13Cleared = false;
-
-    @Column(name = "floor_14_cleared")
-    @Builder.Default
-    private Boolean floor14Cleared = false;
-
-    @Column(name = "floor_15_cleared")
+    /**
+     * 클리어 층/격파 보스 비트마스크
+     * 비트 0-14 = 1-15층 클리어, 비트 BossId.progressBit = 보스 격파 (enum 순서와 무관)
+     */
+    @Column(name = "progress_mask", nullable = false)
     @Builder.Default
-    private Boolean floor15Cleared = false;
+    private Integer progressMask = 0;
 
-    @Column(name = "mammon_defeated")
+    /**
+     * 현재 런의 층별 승리 수 (층 N = 비트 4(N-1)부터 4비트)
+     */
+    @Column(name = "run_victory_counts", nullable = false)
     @Builder.Default
-    private Boolean mammonDefeated = false;
+    private Long runVictoryCounts = 0L;
 
-    @Column(name = "eligor_defeated")
+    /**
+     * 현재 런 번호 (새 런마다 1 증가, 이번 런에 시작한 전투에 Battle.campaignRun으로 기록)
+     */
+    @Column(name = "run_number", nullable = false)
     @Builder.Default
-    private Boolean eligorDefeated = false;
-
-    @Column(name = "lucifuge_defeated")
-    @Builder.Default
-    private Boolean lucifugeDefeated = false;
+    private Integer runNumber = 1;
 
     @Column(name = "total_runs", nullable = false)
     @Builder.Default
@@ -133,50 +96,88 @@ public class CampaignProgress {
     }
 
     public boolean isFloorCleared(int floor) {
-        return switch (floor) {
-            case 1 -> Boolean.TRUE.equals(floor1Cleared);
-            case 2 -> Boolean.TRUE.equals(floor2Cleared);
-            case 3 -> Boolean.TRUE.equals(floor3Cleared);
-            case 4 -> Boolean.TRUE.equals(floor4Cleared);
-            case 5 -> Boolean.TRUE.equals(floor5Cleared);
-            case 6 -> Boolean.TRUE.equals(floor6Cleared);
-            case 7 -> Boolean.TRUE.equals(floor7Cleared);
-            case 8 -> Boolean.TRUE.equals(floor8Cleared);
-            case 9 -> Boolean.TRUE.equals(floor9Cleared);
-            case 10 -> Boolean.TRUE.equals(floor10Cleared);
-            case 11 -> Boolean.TRUE.equals(floor11Cleared);
-            case 12 -> Boolean.TRUE.equals(floor12Cleared);
-            case 13 -> Boolean.TRUE.equals(floor13Cleared);
-            case 14 -> Boolean.TRUE.equals(floor14Cleared);
-            case 15 -> Boolean.TRUE.equals(floor15Cleared);
-            default -> false;
-        };
+        return isFloorCleared(mask(), floor);
     }
 
     public void markFloorCleared(int floor) {
-        switch (floor) {
-            case 1 -> floor1Cleared = true;
-            case 2 -> floor2Cleared = true;
-            case 3 -> floor3Cleared = true;
-            case 4 -> floor4Cleared = true;
-            case 5 -> floor5Cleared = true;
-            case 6 -> floor6Cleared = true;
-            case 7 -> floor7Cleared = true;
-            case 8 -> floor8Cleared = true;
-            case 9 -> floor9Cleared = true;
-            case 10 -> floor10Cleared = true;
-            case 11 -> floor11Cleared = true;
-            case 12 -> floor12Cleared = true;
-            case 13 -> floor13Cleared = true;
-            case 14 -> floor14Cleared = true;
-            case 15 -> floor15Cleared = true;
+        if (floor >= 1 && floor <= MAX_FLOOR) {
+            progressMask = mask() | 1 << (floor - 1);
         }
     }
 
     public int getHighestClearedFloor() {
-        for (int i = 15; i >= 1; i--) {
-            if (isFloorCleared(i)) return i;
+        return highestClearedFloor(mask());
+    }
+
+    public boolean isBossDefeated(BossId bossId) {
+        return isBossDefeated(mask(), bossId);
+    }
+
+    public void markBossDefeated(BossId bossId) {
+        progressMask = mask() | 1 << bossId.getProgressBit();
+    }
+
+    /**
+     * 현재 런에서 해당 층의 승리 수
+     */
+    public int getRunVictories(int floor) {
+        if (floor < 1 || floor > MAX_FLOOR) {
+            return 0;
         }
-        return 0;
+        return (int) (runVictoryCounts() >>> shift(floor) & VICTORY_COUNT_MAX);
+    }
+
+    /**
+     * 현재 런의 승리 1회 반영 (같은 전투를 두 번 세지 않는 것은 호출 측에서 보장)
+     */
+    public void recordRunVictory(int floor) {
+        if (floor < 1 || floor > MAX_FLOOR) {
+            return;
+        }
+
+        int victories = getRunVictories(floor);
+        if (victories < VICTORY_COUNT_MAX) {
+            runVictoryCounts = runVictoryCounts() & ~(VICTORY_COUNT_MAX << shift(floor))
+                    | (long) (victories + 1) << shift(floor);
+        }
+    }
+
+    /**
+     * 새 런 시작 (층별 승리 수 초기화, 이전 런 번호로 시작한 전투는 더 이상 세지 않음)
+     */
+    public void resetRun() {
+        runVictoryCounts = 0L;
+        currentRunFloor = 1;
+        runNumber = getRunNumber() + 1;
+    }
+
+    public int getRunNumber() {
+        return runNumber != null ? runNumber : 1;
+    }
+
+    private long runVictoryCounts() {
+        return runVictoryCounts != null ? runVictoryCounts : 0L;
+    }
+
+    private static int shift(int floor) {
+        return (floor - 1) * VICTORY_COUNT_BITS;
+    }
+
+    private int mask() {
+        return progressMask != null ? progressMask : 0;
+    }
+
+    // 일괄 조회(프로젝션)에서 엔티티 없이 마스크만으로 판정할 때 사용
+
+    public static boolean isFloorCleared(int progressMask, int floor) {
+        return floor >= 1 && floor <= MAX_FLOOR && (progressMask & 1 << (floor - 1)) != 0;
+    }
+
+    public static int highestClearedFloor(int progressMask) {
+        return 32 - Integer.numberOfLeadingZeros(progressMask & FLOOR_BITS);
+    }
+
+    public static boolean isBossDefeated(int progressMask, BossId bossId) {
+        return (progressMask & 1 << bossId.getProgressBit()) != 0;
     }
 }
@@ -29,7 +29,10 @@ import java.time.LocalDateTime;
 public class ChatMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_messages_id")
+    @TableGenerator(name = "chat_messages_id", table = PooledIds.TABLE, pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "chat_messages",
+            allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
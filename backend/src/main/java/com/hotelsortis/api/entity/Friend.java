@@ -31,7 +31,10 @@ import java.time.LocalDateTime;
 public class Friend {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "friends_id")
+    @TableGenerator(name = "friends_id", table = PooledIds.TABLE, pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "friends",
+            allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
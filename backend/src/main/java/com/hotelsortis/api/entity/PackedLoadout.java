@@ -0,0 +1,100 @@
+package com.hotelsortis.api.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전투에 장착한 스킬 ID 목록 (최대 4개, 발동 순서 유지)
+ *
+ * DB에는 BIGINT 하나로 저장합니다: 슬롯 i의 스킬 ID가 비트 16*i ~ 16*i+15에 들어가고,
+ * 0은 빈 슬롯입니다. 스킬 ID는 1 ~ 65535만 허용합니다.
+ * JSON으로는 기존처럼 스킬 ID 배열로 직렬화됩니다.
+ */
+@EqualsAndHashCode(of = "packed")
+public final class PackedLoadout {
+
+    public static final int MAX_SKILLS = 4;
+
+    public static final long MAX_SKILL_ID = 0xFFFF;
+
+    private static final int SLOT_BITS = 16;
+
+    public static final PackedLoadout EMPTY = new PackedLoadout(0L, List.of());
+
+    private final long packed;
+    private final List<Long> skillIds;
+
+    private PackedLoadout(long packed, List<Long> skillIds) {
+        this.packed = packed;
+        this.skillIds = skillIds;
+    }
+
+    /**
+     * 스킬 ID 목록으로 생성
+     *
+     * @throws IllegalArgumentException 5개 이상이거나 범위를 벗어난 ID가 있는 경우
+     */
+    @JsonCreator
+    public static PackedLoadout of(List<Long> skillIds) {
+        if (skillIds == null || skillIds.isEmpty()) {
+            return EMPTY;
+        }
+        if (skillIds.size() > MAX_SKILLS) {
+            throw new IllegalArgumentException("Maximum " + MAX_SKILLS + " skills allowed");
+        }
+
+        long packed = 0L;
+        for (int i = 0; i < skillIds.size(); i++) {
+            Long skillId = skillIds.get(i);
+            if (skillId == null || skillId < 1 || skillId > MAX_SKILL_ID) {
+                throw new IllegalArgumentException("Invalid skill ID: " + skillId);
+            }
+            packed |= skillId << (SLOT_BITS * i);
+        }
+        return new PackedLoadout(packed, List.copyOf(skillIds));
+    }
+
+    /**
+     * DB 값으로 생성 (첫 빈 슬롯에서 끝)
+     */
+    public static PackedLoadout fromPacked(long packed) {
+        if (packed == 0L) {
+            return EMPTY;
+        }
+
+        List<Long> skillIds = new ArrayList<>(MAX_SKILLS);
+        for (int i = 0; i < MAX_SKILLS; i++) {
+            long skillId = (packed >>> (SLOT_BITS * i)) & MAX_SKILL_ID;
+            if (skillId == 0) {
+                break;
+            }
+            skillIds.add(skillId);
+        }
+        return of(skillIds);
+    }
+
+    public long toPacked() {
+        return packed;
+    }
+
+    /**
+     * 장착 순서대로의 스킬 ID (변경 불가)
+     */
+    @JsonValue
+    public List<Long> getSkillIds() {
+        return skillIds;
+    }
+
+    public boolean isEmpty() {
+        return skillIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return skillIds.toString();
+    }
+}
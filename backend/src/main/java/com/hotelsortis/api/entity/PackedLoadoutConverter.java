@@ -0,0 +1,21 @@
+package com.hotelsortis.api.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * PackedLoadout ↔ BIGINT 변환 (NULL은 빈 로드아웃)
+ */
+@Converter
+public class PackedLoadoutConverter implements AttributeConverter<PackedLoadout, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(PackedLoadout loadout) {
+        return loadout != null ? loadout.toPacked() : 0L;
+    }
+
+    @Override
+    public PackedLoadout convertToEntityAttribute(Long packed) {
+        return packed != null ? PackedLoadout.fromPacked(packed) : PackedLoadout.EMPTY;
+    }
+}
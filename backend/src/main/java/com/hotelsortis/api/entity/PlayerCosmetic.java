@@ -24,7 +24,10 @@ import java.time.LocalDateTime;
 public class PlayerCosmetic {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "player_cosmetics_id")
+    @TableGenerator(name = "player_cosmetics_id", table = PooledIds.TABLE, pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "player_cosmetics",
+            allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -19,7 +19,10 @@ import java.time.LocalDateTime;
 public class PlayerSkill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "player_skills_id")
+    @TableGenerator(name = "player_skills_id", table = PooledIds.TABLE, pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "player_skills",
+            allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "player_id", nullable = false)
@@ -0,0 +1,23 @@
+package com.hotelsortis.api.entity;
+
+/**
+ * 풀링 테이블 ID 생성기 설정 (id_generators 테이블)
+ *
+ * IDENTITY는 INSERT마다 생성된 키를 받아야 해서 Hibernate의 JDBC 배치가 꺼집니다.
+ * 쓰기가 많은 엔티티는 대신 테이블 생성기를 쓰고, 한 번 조회할 때 ALLOCATION_SIZE개의 ID를 메모리에 받아 둡니다.
+ * 테이블별 행(name = 테이블 이름)의 next_val은 다음에 할당할 블록의 끝 값이며,
+ * 이미 행이 있는 테이블은 next_val >= MAX(id) + ALLOCATION_SIZE로 시작해야 합니다 (docs/create.sql).
+ */
+final class PooledIds {
+
+    static final String TABLE = "id_generators";
+
+    static final String NAME_COLUMN = "name";
+
+    static final String VALUE_COLUMN = "next_val";
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private PooledIds() {
+    }
+}
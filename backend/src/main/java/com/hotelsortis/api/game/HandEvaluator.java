@@ -1,7 +1,8 @@
 package com.hotelsortis.api.game;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import com.hotelsortis.api.game.dice.DiceSource;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -17,16 +18,44 @@ import java.util.Arrays;
  * 6. Storm [1-2-3]: 16 power
  * 7. Pair [X-X-Y]: 5 + (X * 2) power (7-17)
  * 8. No Hand: sum of dice (3-16)
+ *
+ * 3개 주사위의 모든 순서 조합(6^3 = 216)은 클래스 로딩 시 미리 판정되어 테이블에 저장됩니다.
+ * evaluate 호출은 테이블 조회만 수행하며, 반환되는 HandResult는 공유되는 불변 객체입니다.
  */
 @Component
 public class HandEvaluator {
 
-    @Data
-    @AllArgsConstructor
+    /**
+     * 족보 판정 결과 (불변)
+     * 동일한 주사위 조합에 대해서는 같은 인스턴스가 공유됩니다.
+     */
+    @Value
     public static class HandResult {
-        private HandRank rank;
-        private String rankKR;
-        private int power;
+        HandRank rank;
+        String rankKR;
+        int power;
+    }
+
+    /**
+     * 주사위 조합 수 (6 * 6 * 6)
+     */
+    public static final int OUTCOME_COUNT = 216;
+
+    /**
+     * 순서 있는 주사위 조합 -> 판정 결과 테이블
+     * 인덱스는 indexOf(d1, d2, d3)로 계산
+     */
+    private static final HandResult[] RESULT_TABLE = buildResultTable();
+
+    private final DiceSource diceSource;
+
+    public HandEvaluator() {
+        this(DiceSource.secure());
+    }
+
+    @Autowired
+    public HandEvaluator(DiceSource diceSource) {
+        this.diceSource = diceSource;
     }
 
     public enum HandRank {
@@ -60,7 +89,69 @@ public class HandEvaluator {
         if (dice == null || dice.length != 3) {
             throw new IllegalArgumentException("Dice array must contain exactly 3 values");
         }
+        return evaluate(dice[0], dice[1], dice[2]);
+    }
+
+    /**
+     * Evaluates a hand of 3 dice without allocating.
+     * @return Shared HandResult for the given dice
+     */
+    public HandResult evaluate(int d1, int d2, int d3) {
+        return RESULT_TABLE[indexOf(d1, d2, d3)];
+    }
+
+    /**
+     * Returns the shared HandResult for a precomputed outcome index (0-215).
+     */
+    public static HandResult resultAt(int index) {
+        return RESULT_TABLE[index];
+    }
+
+    /**
+     * Maps an ordered dice outcome to its table index (0-215).
+     * @throws IllegalArgumentException if any value is outside 1-6
+     */
+    public static int indexOf(int d1, int d2, int d3) {
+        if (d1 < 1 || d1 > 6 || d2 < 1 || d2 > 6 || d3 < 1 || d3 > 6) {
+            throw new IllegalArgumentException(
+                    "Invalid dice values: [" + d1 + ", " + d2 + ", " + d3 + "]");
+        }
+        return (d1 - 1) * 36 + (d2 - 1) * 6 + (d3 - 1);
+    }
+
+    /**
+     * Inverse of indexOf: the ordered dice for an outcome index (0-215).
+     */
+    public static int[] diceAt(int index) {
+        if (index < 0 || index >= OUTCOME_COUNT) {
+            throw new IllegalArgumentException("Invalid outcome index: " + index);
+        }
+        return new int[]{index / 36 + 1, index / 6 % 6 + 1, index % 6 + 1};
+    }
 
+    private static HandResult[] buildResultTable() {
+        // 같은 족보/공격력 조합은 하나의 인스턴스를 공유
+        HandResult[] canonical = new HandResult[HandRank.values().length * 64];
+        HandResult[] table = new HandResult[OUTCOME_COUNT];
+        for (int d1 = 1; d1 <= 6; d1++) {
+            for (int d2 = 1; d2 <= 6; d2++) {
+                for (int d3 = 1; d3 <= 6; d3++) {
+                    HandResult computed = computeHand(new int[] {d1, d2, d3});
+                    int key = computed.getRank().ordinal() * 64 + computed.getPower();
+                    if (canonical[key] == null) {
+                        canonical[key] = computed;
+                    }
+                    table[(d1 - 1) * 36 + (d2 - 1) * 6 + (d3 - 1)] = canonical[key];
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 족보 판정 규칙 (테이블 생성 시에만 사용)
+     */
+    static HandResult computeHand(int[] dice) {
         int[] sorted = dice.clone();
         Arrays.sort(sorted);
         int a = sorted[0];
@@ -108,15 +199,18 @@ public class HandEvaluator {
     }
 
     /**
-     * Rolls 3 dice using secure random.
+     * Rolls 3 dice using the configured dice source.
      * @return Array of 3 random dice values (1-6)
      */
     public int[] rollDice() {
-        java.security.SecureRandom random = new java.security.SecureRandom();
-        return new int[] {
-            random.nextInt(6) + 1,
-            random.nextInt(6) + 1,
-            random.nextInt(6) + 1
-        };
+        return diceSource.rollDice();
+    }
+
+    /**
+     * Rolls 3 dice using the given dice source (simulation/replay).
+     * @return Array of 3 random dice values (1-6)
+     */
+    public int[] rollDice(DiceSource source) {
+        return source.rollDice();
     }
 }
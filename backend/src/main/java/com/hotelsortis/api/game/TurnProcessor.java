@@ -0,0 +1,332 @@
+package com.hotelsortis.api.game;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator.HandResult;
+import com.hotelsortis.api.game.ai.HoldMasks;
+import com.hotelsortis.api.game.ai.RerollPolicy;
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.GameState;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.SkillTrigger;
+import com.hotelsortis.api.service.MutatorService;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 전투 턴 처리 파이프라인 (DB 접근 없음)
+ *
+ * 주사위 굴림 → (플레이어/적 AI) 보류/재굴림 → 변형 규칙 → DICE_ROLL 스킬 → 족보 판정 → BEFORE_DAMAGE 스킬 → 데미지(쉴드 우선) → AFTER_DAMAGE 스킬
+ * 순서로 한 번의 공격을 처리하고, Battle 객체의 HP/쉴드/상태만 갱신합니다.
+ * 저장은 호출자(BattleService)가 담당하며, 시뮬레이터는 메모리상의 Battle로 같은 파이프라인을 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TurnProcessor {
+
+    /**
+     * 보스 페이즈 전환 시 적 HP
+     */
+    public static final int BOSS_PHASE_HP = 100;
+
+    /**
+     * 최대 턴 수 (초과 시 무승부)
+     */
+    public static final int MAX_TURNS = 10;
+
+    /**
+     * 플레이어 턴당 재굴림 횟수 (보류/재굴림 단계)
+     */
+    public static final int PLAYER_REROLLS = 2;
+
+    private final HandEvaluator handEvaluator;
+    private final SkillEffectEngine skillEffectEngine;
+    private final MutatorService mutatorService;
+
+    /**
+     * 한 번의 공격 결과
+     */
+    @Value
+    public static class AttackResult {
+        /** 굴린 직후의 주사위 (보류/재굴림 포함, 해시 계산용) */
+        int[] rolledDice;
+        /** 변형 규칙/스킬 적용 후 최종 주사위 */
+        int[] dice;
+        HandResult hand;
+        int damage;
+        boolean skillsSilenced;
+        /** 이 공격에서 발동된 스킬 (비트 i = 스킬 ID i) */
+        long triggeredSkillMask;
+    }
+
+    /**
+     * 플레이어 턴 + (필요 시) 적 턴 결과
+     */
+    @Value
+    public static class TurnOutcome {
+        AttackResult playerAttack;
+        /** 적이 쓰러졌으면 null */
+        AttackResult enemyAttack;
+        /** 보스 페이즈가 전환되었으면 새 페이즈, 아니면 0 */
+        int newBossPhase;
+    }
+
+    /**
+     * 전투 한 건이 재사용하는 양쪽 GameState (트리거 단계마다 새로 만들지 않음)
+     * 전투 단위로 하나씩 두며, 여러 스레드가 동시에 공유하면 안 됨
+     */
+    public static final class SideStates {
+        private final GameState player = new GameState();
+        private final GameState enemy = new GameState();
+
+        GameState of(Battle.TurnActor actor) {
+            return actor == Battle.TurnActor.PLAYER ? player : enemy;
+        }
+    }
+
+    /**
+     * 턴 처리 입력 (전투 한 건 동안 바뀌지 않는 값)
+     * 시뮬레이터/벤치마크는 전투마다 하나를 만들어 턴마다 재사용
+     */
+    @Value
+    @Builder
+    public static class TurnContext {
+        Battle battle;
+        @Builder.Default
+        Loadout playerSkills = Loadout.EMPTY;
+        @Builder.Default
+        Loadout enemySkills = Loadout.EMPTY;
+        /** 전투 시작 시 컴파일한 변형 규칙 (compileMutators) */
+        @Builder.Default
+        MutatorPipeline mutators = MutatorPipeline.NONE;
+        /** 적 AI 정책 (EnemyAi.policyFor, 재굴림 없으면 RerollPolicy.NONE) */
+        @Builder.Default
+        RerollPolicy enemyPolicy = RerollPolicy.NONE;
+        /** 보스전일 때 총 페이즈 수 공급자 (적 HP가 0이 된 경우에만 호출) */
+        @Builder.Default
+        IntSupplier bossTotalPhases = () -> 0;
+        DiceSource dice;
+        /** 이 전투 전용 상태 (시뮬레이터는 스레드별로 하나를 여러 전투에 재사용) */
+        @Builder.Default
+        SideStates states = new SideStates();
+
+        Loadout skillsOf(Battle.TurnActor actor) {
+            return actor == Battle.TurnActor.PLAYER ? playerSkills : enemySkills;
+        }
+    }
+
+    /**
+     * 장착 스킬 ID 목록을 실행 구성으로 컴파일 (전투 시작 시 1회, 캐시됨)
+     */
+    public Loadout compileLoadout(List<Long> skillIds) {
+        return skillEffectEngine.compileLoadout(skillIds);
+    }
+
+    /**
+     * 전투의 mutator_id를 변형 규칙 파이프라인으로 컴파일 (전투 시작 시 1회, 캐시됨)
+     */
+    public MutatorPipeline compileMutators(String mutatorIds) {
+        return mutatorService.compilePipeline(mutatorIds);
+    }
+
+    /**
+     * 플레이어 공격 → 적 처치 확인(보스 페이즈 전환/승리) → 적 공격 → 턴 종료 처리
+     *
+     * @param playerDice 플레이어가 보류/재굴림 단계에서 확정한 주사위 (null이면 새로 굴림)
+     */
+    public TurnOutcome playTurn(TurnContext context, int[] playerDice) {
+        Battle battle = context.getBattle();
+        AttackResult playerAttack = attack(context, Battle.TurnActor.PLAYER, playerDice);
+
+        if (battle.getEnemyHp() <= 0) {
+            int totalPhases = battle.getBossId() != null ? context.getBossTotalPhases().getAsInt() : 0;
+            if (advanceBossPhase(battle, totalPhases)) {
+                return new TurnOutcome(playerAttack, null, battle.getBossPhase());
+            }
+
+            // Final phase or non-boss: victory
+            battle.setStatus(Battle.Status.VICTORY);
+            battle.setEndedAt(LocalDateTime.now());
+            return new TurnOutcome(playerAttack, null, 0);
+        }
+
+        AttackResult enemyAttack = attack(context, Battle.TurnActor.ENEMY, null);
+        finishTurn(battle);
+        return new TurnOutcome(playerAttack, enemyAttack, 0);
+    }
+
+    /**
+     * 한 쪽의 공격 처리 (적 공격에는 context의 재굴림 정책 적용)
+     *
+     * @param attacker 공격하는 쪽 (PLAYER면 적에게, ENEMY면 플레이어에게 데미지)
+     */
+    public AttackResult attack(TurnContext context, Battle.TurnActor attacker) {
+        return attack(context, attacker, null);
+    }
+
+    private AttackResult attack(TurnContext context, Battle.TurnActor attacker, int[] preRolled) {
+        Battle battle = context.getBattle();
+        Loadout skills = context.skillsOf(attacker);
+        MutatorPipeline mutators = context.getMutators();
+        RerollPolicy rerollPolicy = attacker == Battle.TurnActor.ENEMY ? context.getEnemyPolicy() : RerollPolicy.NONE;
+        DiceSource diceSource = context.getDice();
+        SideStates states = context.getStates();
+
+        GameState state = states.of(attacker);
+        boolean skillsSilenced = !mutators.allowSkills(diceSource);
+
+        // 0. BATTLE_START trigger (first turn only)
+        long battleStartMask = 0L;
+        if (attacker == Battle.TurnActor.PLAYER && battle.getTurnCount() == 1 && !skillsSilenced
+                && skills.hasEffects(SkillTrigger.BATTLE_START)) {
+            loadState(state, battle, new int[]{0, 0, 0}, diceSource);
+            skillEffectEngine.executeSkillsByTrigger(SkillTrigger.BATTLE_START, skills, state);
+            battleStartMask = state.getTriggeredSkillMask();
+        }
+
+        // 1. Roll dice (SERVER-SIDE!), or take the dice the player settled on in the hold/reroll phase
+        int[] rolledDice = preRolled != null ? preRolled.clone() : handEvaluator.rollDice(diceSource);
+
+        // 1.2. Hold/reroll decision (enemy AI)
+        rolledDice = rerollPolicy.reroll(battle, rolledDice, diceSource);
+
+        // 1.5. Apply mutator dice stages in order (gravity: 1-2 -> 3, chaos: re-roll one)
+        int[] dice = mutators.transformDice(rolledDice, diceSource);
+        if (dice == rolledDice) {
+            dice = rolledDice.clone(); // 스킬이 수정해도 굴린 값은 보존
+        }
+
+        // 2. DICE_ROLL trigger - skills can modify dice (if not silenced)
+        loadState(state, battle, dice, diceSource);
+        if (!skillsSilenced) {
+            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.DICE_ROLL, skills, state);
+            dice = state.getDice();
+        }
+
+        // 3. Evaluate hand
+        HandResult hand = handEvaluator.evaluate(dice[0], dice[1], dice[2]);
+
+        // 4. BEFORE_DAMAGE trigger - skills can modify damage (if not silenced)
+        state.setHand(hand);
+        state.setDamage(hand.getPower());
+        if (!skillsSilenced) {
+            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.BEFORE_DAMAGE, skills, state);
+        }
+        int damage = state.getDamage();
+
+        // 5. Apply damage (shield absorbs first)
+        if (attacker == Battle.TurnActor.PLAYER) {
+            int shieldAbsorbed = Math.min(damage, battle.getEnemyShield());
+            battle.setEnemyShield(battle.getEnemyShield() - shieldAbsorbed);
+            battle.setEnemyHp(Math.max(0, battle.getEnemyHp() - (damage - shieldAbsorbed)));
+            state.setEnemyShield(battle.getEnemyShield());
+            state.setEnemyHp(battle.getEnemyHp());
+        } else {
+            int shieldAbsorbed = Math.min(damage, battle.getPlayerShield());
+            battle.setPlayerShield(battle.getPlayerShield() - shieldAbsorbed);
+            battle.setPlayerHp(Math.max(0, battle.getPlayerHp() - (damage - shieldAbsorbed)));
+            state.setPlayerShield(battle.getPlayerShield());
+            state.setPlayerHp(battle.getPlayerHp());
+        }
+
+        // 6. AFTER_DAMAGE trigger - skills can have post-damage effects (if not silenced)
+        if (!skillsSilenced) {
+            skillEffectEngine.executeSkillsByTrigger(SkillTrigger.AFTER_DAMAGE, skills, state);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("{} attack: rolled={}, dice={}, hand={}, damage={}, playerHp={}, enemyHp={}, silenced={}",
+                attacker, Arrays.toString(rolledDice), Arrays.toString(dice), hand.getRank(), damage,
+                battle.getPlayerHp(), battle.getEnemyHp(), skillsSilenced);
+        }
+
+        return new AttackResult(rolledDice, dice, hand, damage, skillsSilenced,
+                battleStartMask | state.getTriggeredSkillMask());
+    }
+
+    /**
+     * 보류/재굴림 단계의 첫 굴림 (공격은 playTurn에서 처리)
+     */
+    public int[] rollDice(DiceSource diceSource) {
+        return handEvaluator.rollDice(diceSource);
+    }
+
+    /**
+     * 보류하지 않은 주사위만 다시 굴림
+     *
+     * @param holdMask 비트 i = i번째 주사위를 남김 (HoldMasks.HOLD_ALL 제외)
+     * @return 새 주사위 배열
+     * @throws IllegalArgumentException 마스크가 범위를 벗어난 경우
+     */
+    public int[] reroll(int[] dice, int holdMask, DiceSource diceSource) {
+        if (holdMask < 0 || holdMask >= HoldMasks.HOLD_ALL) {
+            throw new IllegalArgumentException("holdMask must be between 0 and " + (HoldMasks.HOLD_ALL - 1));
+        }
+
+        int[] next = dice.clone();
+        for (int i = 0; i < next.length; i++) {
+            if (!HoldMasks.isHeld(holdMask, i)) {
+                next[i] = diceSource.rollDie();
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 보스에게 남은 페이즈가 있으면 다음 페이즈로 전환 (HP 리셋)
+     *
+     * @return 전환되었으면 true
+     */
+    public boolean advanceBossPhase(Battle battle, int totalPhases) {
+        int currentPhase = battle.getBossPhase() != null ? battle.getBossPhase() : 1;
+        if (currentPhase >= totalPhases) {
+            return false; // Final phase defeated (or not a boss)
+        }
+
+        battle.setBossPhase(currentPhase + 1);
+        battle.setEnemyHp(BOSS_PHASE_HP);
+        return true;
+    }
+
+    /**
+     * 턴 종료 처리: 패배/무승부 판정, 턴 수 증가, 플레이어 차례로 복귀
+     */
+    public void finishTurn(Battle battle) {
+        if (battle.getPlayerHp() <= 0) {
+            battle.setStatus(Battle.Status.DEFEAT);
+            battle.setEndedAt(LocalDateTime.now());
+        }
+
+        // Turn limit (max 10 turns)
+        if (battle.getTurnCount() >= MAX_TURNS && battle.getStatus() == Battle.Status.ONGOING) {
+            battle.setStatus(Battle.Status.DRAW);
+            battle.setEndedAt(LocalDateTime.now());
+        }
+
+        battle.setTurnCount(battle.getTurnCount() + 1);
+        battle.setCurrentTurn(Battle.TurnActor.PLAYER);
+    }
+
+    private void loadState(GameState state, Battle battle, int[] dice, DiceSource diceSource) {
+        state.reset(dice, diceSource);
+        state.setPlayerHp(battle.getPlayerHp());
+        state.setEnemyHp(battle.getEnemyHp());
+        state.setPlayerShield(battle.getPlayerShield());
+        state.setEnemyShield(battle.getEnemyShield());
+        state.setTurnCount(battle.getTurnCount());
+        state.setCurrentTurn(battle.getCurrentTurn().name());
+        state.setBattleId(battle.getId());
+        state.setPlayerId(battle.getPlayerId());
+        state.setEnemyId(battle.getEnemyId());
+    }
+}
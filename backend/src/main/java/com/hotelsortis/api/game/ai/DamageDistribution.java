@@ -0,0 +1,90 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.odds.EnumeratingDiceSource;
+import com.hotelsortis.api.game.skill.Loadout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 굴린 주사위(216가지)마다 공격 1회의 최종 데미지 분포
+ *
+ * 변형 규칙/스킬이 쓰는 난수 분기는 EnumeratingDiceSource로 모두 열거합니다.
+ * 첫 턴 전용 BATTLE_START 스킬과 HP에 따라 달라지는 효과는 반영하지 않습니다 (넉넉한 HP로 계산).
+ */
+final class DamageDistribution {
+
+    private static final int SCRATCH_HP = 10_000;
+
+    /**
+     * 굴린 주사위 인덱스 → 가능한 최종 데미지 / 확률
+     */
+    final int[][] damages;
+    final double[][] probabilities;
+
+    private DamageDistribution(int[][] damages, double[][] probabilities) {
+        this.damages = damages;
+        this.probabilities = probabilities;
+    }
+
+    static DamageDistribution enumerate(TurnProcessor turnProcessor, Battle.TurnActor attacker,
+                                        Loadout skills, MutatorPipeline mutators) {
+        EnumeratingDiceSource dice = new EnumeratingDiceSource();
+        Battle battle = Battle.builder().battleType(Battle.BattleType.PVE).build();
+        TurnProcessor.TurnContext context = TurnProcessor.TurnContext.builder()
+                .battle(battle)
+                .playerSkills(skills)
+                .enemySkills(skills)
+                .mutators(mutators)
+                .dice(dice)
+                .build();
+
+        List<TreeMap<Integer, Double>> byRoll = new ArrayList<>(HandEvaluator.OUTCOME_COUNT);
+        for (int i = 0; i < HandEvaluator.OUTCOME_COUNT; i++) {
+            byRoll.add(new TreeMap<>());
+        }
+
+        do {
+            battle.setPlayerHp(SCRATCH_HP);
+            battle.setEnemyHp(SCRATCH_HP);
+            battle.setPlayerShield(0);
+            battle.setEnemyShield(0);
+            battle.setTurnCount(2);
+            battle.setCurrentTurn(attacker);
+
+            TurnProcessor.AttackResult result = turnProcessor.attack(context, attacker);
+            int[] rolled = result.getRolledDice();
+            byRoll.get(HandEvaluator.indexOf(rolled[0], rolled[1], rolled[2]))
+                    .merge(result.getDamage(), dice.weight(), Double::sum);
+        } while (dice.advance());
+
+        // 굴린 주사위별 조건부 분포로 정규화
+        int[][] damages = new int[HandEvaluator.OUTCOME_COUNT][];
+        double[][] probabilities = new double[HandEvaluator.OUTCOME_COUNT][];
+        for (int index = 0; index < HandEvaluator.OUTCOME_COUNT; index++) {
+            TreeMap<Integer, Double> distribution = byRoll.get(index);
+            double total = distribution.values().stream().mapToDouble(Double::doubleValue).sum();
+            damages[index] = distribution.keySet().stream().mapToInt(Integer::intValue).toArray();
+            probabilities[index] = distribution.values().stream().mapToDouble(p -> p / total).toArray();
+        }
+        return new DamageDistribution(damages, probabilities);
+    }
+
+    /**
+     * 굴린 주사위별 기대 데미지
+     */
+    double[] expectedDamage() {
+        double[] expected = new double[HandEvaluator.OUTCOME_COUNT];
+        for (int index = 0; index < expected.length; index++) {
+            for (int i = 0; i < damages[index].length; i++) {
+                expected[index] += probabilities[index][i] * damages[index][i];
+            }
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,158 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.entity.Floor;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.boss.BossDefinition;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.service.ContentCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PvE 적 AI
+ *
+ * AI 레벨이 높을수록 굴린 주사위를 보류/재굴림할 기회가 많아집니다 (레벨 0은 기존처럼 굴리기만 함).
+ * 정책(EnemyPolicy)은 (적 로드아웃, 변형 규칙, AI 레벨)별로 한 번 만들어 캐시하고,
+ * 전투 중에는 결정표만 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnemyAi {
+
+    /**
+     * 캐시 상한 (넘으면 비우고 다시 채움)
+     */
+    static final int MAX_CACHED_POLICIES = 1024;
+
+    private final TurnProcessor turnProcessor;
+    private final ContentCatalog contentCatalog;
+
+    private final Map<Key, EnemyPolicy> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 전투의 적 정책 (PvP는 재굴림 없음, 보스전은 페이즈별 AI 레벨)
+     */
+    public RerollPolicy policyFor(Battle battle, Loadout enemySkills, MutatorPipeline mutators) {
+        if (battle.getBattleType() != Battle.BattleType.PVE) {
+            return RerollPolicy.NONE;
+        }
+        return policyFor(enemySkills, mutators, aiLevels(battle.getFloor(), battle.getBossId()));
+    }
+
+    /**
+     * 페이즈별 AI 레벨로 정책 구성
+     *
+     * @param aiLevels 보스 페이즈 순서의 AI 레벨 (일반 층은 1개)
+     */
+    public RerollPolicy policyFor(Loadout enemySkills, MutatorPipeline mutators, List<Integer> aiLevels) {
+        if (aiLevels == null || aiLevels.isEmpty()) {
+            return RerollPolicy.NONE;
+        }
+
+        RerollPolicy[] byPhase = new RerollPolicy[aiLevels.size()];
+        boolean uniform = true;
+        for (int i = 0; i < byPhase.length; i++) {
+            byPhase[i] = policy(enemySkills, mutators, aiLevels.get(i));
+            uniform &= byPhase[i] == byPhase[0];
+        }
+        if (uniform) {
+            return byPhase[0];
+        }
+
+        return (battle, rolled, diceSource) -> {
+            int phase = battle.getBossPhase() != null ? battle.getBossPhase() : 1;
+            return byPhase[Math.max(1, Math.min(phase, byPhase.length)) - 1].reroll(battle, rolled, diceSource);
+        };
+    }
+
+    /**
+     * AI 레벨별 정책 (같은 로드아웃/변형 규칙/레벨이면 캐시된 인스턴스)
+     */
+    public RerollPolicy policy(Loadout enemySkills, MutatorPipeline mutators, int aiLevel) {
+        if (EnemyPolicy.rerollsFor(aiLevel) == 0) {
+            return RerollPolicy.NONE;
+        }
+
+        Key key = new Key(enemySkills, mutators, Math.min(aiLevel, 3));
+        EnemyPolicy cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (cache.size() >= MAX_CACHED_POLICIES) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(key, k -> build(k.loadout, k.mutators, k.aiLevel));
+    }
+
+    /**
+     * 층/보스 설정에서 페이즈별 AI 레벨 조회
+     * 보스 페이즈는 phase_config의 aiLevel과 층 ai_level 중 높은 값을 사용
+     */
+    public List<Integer> aiLevels(Integer floorNum, String bossId) {
+        int floorLevel = floorNum != null
+                ? contentCatalog.findFloor(floorNum).map(Floor::getAiLevel).filter(Objects::nonNull).orElse(0)
+                : 0;
+
+        BossDefinition boss = bossId != null ? contentCatalog.findBossDefinition(bossId).orElse(null) : null;
+        if (boss == null || boss.getTotalPhases() <= 0) {
+            return List.of(floorLevel);
+        }
+
+        List<Integer> levels = new ArrayList<>(boss.getTotalPhases());
+        for (int phase = 1; phase <= boss.getTotalPhases(); phase++) {
+            levels.add(Math.max(floorLevel, boss.findPhase(phase).map(BossDefinition.Phase::getAiLevel).orElse(0)));
+        }
+        return List.copyOf(levels);
+    }
+
+    /**
+     * 적 공격 1회의 데미지 분포를 정확히 구해 정책 생성
+     */
+    private EnemyPolicy build(Loadout enemySkills, MutatorPipeline mutators, int aiLevel) {
+        long start = System.nanoTime();
+        EnemyPolicy policy = new EnemyPolicy(aiLevel,
+                DamageDistribution.enumerate(turnProcessor, Battle.TurnActor.ENEMY, enemySkills, mutators));
+        log.debug("Built enemy policy (skills={}, mutators={}, aiLevel={}) in {} us",
+                enemySkills.getSkillIds(), mutators.getMutatorIds(), aiLevel, (System.nanoTime() - start) / 1_000);
+        return policy;
+    }
+
+    /**
+     * 캐시 키 (Loadout/MutatorPipeline은 각각 캐시된 인스턴스이므로 동일성 비교)
+     */
+    private static final class Key {
+        private final Loadout loadout;
+        private final MutatorPipeline mutators;
+        private final int aiLevel;
+
+        Key(Loadout loadout, MutatorPipeline mutators, int aiLevel) {
+            this.loadout = loadout;
+            this.mutators = mutators;
+            this.aiLevel = aiLevel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return loadout == other.loadout && mutators == other.mutators && aiLevel == other.aiLevel;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(loadout) * 31 + System.identityHashCode(mutators)) * 31 + aiLevel;
+        }
+    }
+}
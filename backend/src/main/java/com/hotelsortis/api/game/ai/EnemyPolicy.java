@@ -0,0 +1,134 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.dice.DiceSource;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 적 AI의 재굴림 정책 (로드아웃/변형 규칙/AI 레벨별 1개, EnemyAi가 캐시)
+ *
+ * 굴린 주사위마다 최종 데미지 분포(스킬/변형 규칙 반영)를 미리 구해 두고,
+ * 남은 재굴림 횟수별 최선의 보류 마스크를 expectimax로 계산한 결정표를 만듭니다.
+ * 결정표는 대상 유효 HP(HP + 쉴드) 구간마다 처음 필요할 때 한 번 계산하며,
+ * 이후 적 턴은 표 조회만 합니다.
+ *
+ * 적이 공격하는 쪽이라고 가정합니다 (대상 = 플레이어).
+ */
+public final class EnemyPolicy implements RerollPolicy {
+
+    /**
+     * 처치 가능한 결과에 더하는 효용 (데미지 기대값보다 처치 확률을 우선)
+     */
+    private static final double LETHAL_BONUS = 1_000.0;
+
+    private final int aiLevel;
+    private final int rerolls;
+    private final boolean lethalAware;
+
+    /**
+     * 굴린 주사위 인덱스 → 가능한 최종 데미지 / 확률
+     */
+    private final int[][] damages;
+    private final double[][] probabilities;
+    private final int maxDamage;
+
+    /**
+     * 대상 HP 구간 → [남은 재굴림][주사위 인덱스] 보류 마스크
+     * 구간 maxDamage + 1은 처치 불가 (기대 데미지만 최대화)
+     */
+    private final AtomicReferenceArray<byte[][]> tables;
+
+    EnemyPolicy(int aiLevel, DamageDistribution distribution) {
+        this.aiLevel = aiLevel;
+        this.rerolls = rerollsFor(aiLevel);
+        this.lethalAware = aiLevel >= 3;
+        this.damages = distribution.damages;
+        this.probabilities = distribution.probabilities;
+
+        int max = 0;
+        for (int[] outcomes : damages) {
+            for (int damage : outcomes) {
+                max = Math.max(max, damage);
+            }
+        }
+        this.maxDamage = max;
+        this.tables = new AtomicReferenceArray<>(max + 2);
+        table(max + 1);
+    }
+
+    /**
+     * AI 레벨별 재굴림 횟수 (0: 없음, 1: 1회, 2 이상: 2회)
+     */
+    static int rerollsFor(int aiLevel) {
+        return Math.max(0, Math.min(aiLevel, 2));
+    }
+
+    public int getAiLevel() {
+        return aiLevel;
+    }
+
+    public int getRerolls() {
+        return rerolls;
+    }
+
+    /**
+     * 보류 마스크 조회
+     *
+     * @param targetHp 대상 유효 HP (HP + 쉴드)
+     * @param rerollsLeft 남은 재굴림 횟수
+     * @return HoldMasks.HOLD_ALL이면 재굴림하지 않음
+     */
+    public int holdMask(int targetHp, int rerollsLeft, int[] dice) {
+        if (rerollsLeft <= 0) {
+            return HoldMasks.HOLD_ALL;
+        }
+        int bucket = lethalAware ? Math.max(1, Math.min(targetHp, maxDamage + 1)) : maxDamage + 1;
+        return table(bucket)[Math.min(rerollsLeft, rerolls)][HandEvaluator.indexOf(dice[0], dice[1], dice[2])];
+    }
+
+    @Override
+    public int[] reroll(Battle battle, int[] rolled, DiceSource diceSource) {
+        int targetHp = battle.getPlayerHp() + battle.getPlayerShield();
+        for (int left = rerolls; left > 0; left--) {
+            int hold = holdMask(targetHp, left, rolled);
+            if (hold == HoldMasks.HOLD_ALL) {
+                break;
+            }
+            for (int i = 0; i < rolled.length; i++) {
+                if (!HoldMasks.isHeld(hold, i)) {
+                    rolled[i] = diceSource.rollDie();
+                }
+            }
+        }
+        return rolled;
+    }
+
+    private byte[][] table(int bucket) {
+        byte[][] table = tables.get(bucket);
+        if (table == null) {
+            // 같은 구간을 동시에 계산해도 결과가 같으므로 먼저 저장된 것을 사용
+            tables.compareAndSet(bucket, null, solve(bucket));
+            table = tables.get(bucket);
+        }
+        return table;
+    }
+
+    /**
+     * 대상 HP 구간의 효용으로 expectimax 결정표 계산 (HoldTable)
+     */
+    private byte[][] solve(int bucket) {
+        double[] stop = new double[HandEvaluator.OUTCOME_COUNT];
+        for (int index = 0; index < stop.length; index++) {
+            for (int i = 0; i < damages[index].length; i++) {
+                stop[index] += probabilities[index][i] * utility(damages[index][i], bucket);
+            }
+        }
+        return HoldTable.solve(stop, rerolls).bestMasks();
+    }
+
+    private double utility(int damage, int bucket) {
+        return bucket <= maxDamage && damage >= bucket ? damage + LETHAL_BONUS : damage;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어 보류/재굴림 조언 (기대 데미지 최대화)
+ *
+ * (플레이어 로드아웃, 변형 규칙)별로 HoldTable을 한 번 만들어 캐시하고,
+ * 조언 요청은 표 조회만 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldAdvisor {
+
+    /**
+     * 캐시 상한 (넘으면 비우고 다시 채움)
+     */
+    static final int MAX_CACHED_TABLES = 1024;
+
+    private final TurnProcessor turnProcessor;
+
+    private final Map<Key, HoldTable> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 로드아웃/변형 규칙의 보류표 (같은 로드아웃/변형 규칙이면 캐시된 인스턴스)
+     */
+    public HoldTable table(Loadout playerSkills, MutatorPipeline mutators) {
+        Key key = new Key(playerSkills, mutators);
+        HoldTable cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (cache.size() >= MAX_CACHED_TABLES) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(key, k -> build(k.loadout, k.mutators));
+    }
+
+    private HoldTable build(Loadout playerSkills, MutatorPipeline mutators) {
+        long start = System.nanoTime();
+        DamageDistribution distribution =
+                DamageDistribution.enumerate(turnProcessor, Battle.TurnActor.PLAYER, playerSkills, mutators);
+        HoldTable table = HoldTable.solve(distribution.expectedDamage(), TurnProcessor.PLAYER_REROLLS);
+        log.debug("Built hold table (skills={}, mutators={}) in {} us",
+                playerSkills.getSkillIds(), mutators.getMutatorIds(), (System.nanoTime() - start) / 1_000);
+        return table;
+    }
+
+    /**
+     * 캐시 키 (Loadout/MutatorPipeline은 각각 캐시된 인스턴스이므로 동일성 비교)
+     */
+    private static final class Key {
+        private final Loadout loadout;
+        private final MutatorPipeline mutators;
+
+        Key(Loadout loadout, MutatorPipeline mutators) {
+            this.loadout = loadout;
+            this.mutators = mutators;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return loadout == other.loadout && mutators == other.mutators;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(loadout) * 31 + System.identityHashCode(mutators);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.game.HandEvaluator;
+
+/**
+ * 주사위 보류 마스크 (비트 i = i번째 주사위를 남김)
+ *
+ * 주사위 조합 인덱스(HandEvaluator.indexOf)와 보류 마스크마다
+ * 재굴림 후 나올 수 있는 조합 인덱스를 미리 풀어 둡니다 (각각 같은 확률).
+ */
+public final class HoldMasks {
+
+    /**
+     * 마스크 수 (0b000 - 0b111)
+     */
+    public static final int COUNT = 8;
+
+    /**
+     * 모두 보류 (재굴림 안 함)
+     */
+    public static final int HOLD_ALL = 0b111;
+
+    /**
+     * [마스크][조합 인덱스] → 재굴림 후 조합 인덱스 목록
+     */
+    private static final int[][][] SUCCESSORS = buildSuccessors();
+
+    private HoldMasks() {
+    }
+
+    /**
+     * 재굴림 후 나올 수 있는 조합 (6^재굴림 개수 개, 공유 배열이므로 수정하지 말 것)
+     */
+    public static int[] successors(int index, int holdMask) {
+        return SUCCESSORS[holdMask][index];
+    }
+
+    /**
+     * 보류하지 않은 주사위 개수
+     */
+    public static int rerollCount(int holdMask) {
+        return 3 - Integer.bitCount(holdMask);
+    }
+
+    public static boolean isHeld(int holdMask, int die) {
+        return (holdMask & (1 << die)) != 0;
+    }
+
+    private static int[][][] buildSuccessors() {
+        int[][][] table = new int[COUNT][HandEvaluator.OUTCOME_COUNT][];
+        for (int mask = 0; mask < COUNT; mask++) {
+            int size = 1;
+            for (int i = 0; i < rerollCount(mask); i++) {
+                size *= 6;
+            }
+
+            for (int index = 0; index < HandEvaluator.OUTCOME_COUNT; index++) {
+                int[] dice = HandEvaluator.diceAt(index);
+                int[] successors = new int[size];
+                int count = 0;
+                for (int d1 = 1; d1 <= 6; d1++) {
+                    for (int d2 = 1; d2 <= 6; d2++) {
+                        for (int d3 = 1; d3 <= 6; d3++) {
+                            if ((isHeld(mask, 0) && d1 != dice[0])
+                                    || (isHeld(mask, 1) && d2 != dice[1])
+                                    || (isHeld(mask, 2) && d3 != dice[2])) {
+                                continue;
+                            }
+                            successors[count++] = HandEvaluator.indexOf(d1, d2, d3);
+                        }
+                    }
+                }
+                table[mask][index] = successors;
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,105 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.game.HandEvaluator;
+
+/**
+ * 남은 재굴림 횟수별 [주사위 조합 216][보류 마스크 8] 기대 효용표
+ *
+ * V0 = 멈췄을 때 효용, Vk(조합) = max_마스크 Qk(조합, 마스크),
+ * Qk(조합, 마스크) = 재굴림 결과에 대한 V(k-1)의 평균 (HOLD_ALL은 멈춤)
+ * 최선의 마스크도 미리 골라 두므로 조회는 배열 접근 한 번입니다.
+ */
+public final class HoldTable {
+
+    private static final double EPSILON = 1e-9;
+
+    private final int rerolls;
+
+    /**
+     * [남은 재굴림][조합 * 8 + 마스크] → 기대 효용
+     */
+    private final double[][] values;
+
+    /**
+     * [남은 재굴림][조합] → 최선의 보류 마스크 (동점이면 재굴림하지 않는 쪽)
+     */
+    private final byte[][] bestMasks;
+
+    private HoldTable(int rerolls, double[][] values, byte[][] bestMasks) {
+        this.rerolls = rerolls;
+        this.values = values;
+        this.bestMasks = bestMasks;
+    }
+
+    /**
+     * expectimax로 표 계산
+     *
+     * @param stop 조합별로 지금 멈췄을 때의 효용
+     */
+    static HoldTable solve(double[] stop, int rerolls) {
+        double[][] values = new double[rerolls + 1][HandEvaluator.OUTCOME_COUNT * HoldMasks.COUNT];
+        byte[][] bestMasks = new byte[rerolls + 1][HandEvaluator.OUTCOME_COUNT];
+
+        double[] best = stop.clone();
+        for (int index = 0; index < HandEvaluator.OUTCOME_COUNT; index++) {
+            for (int mask = 0; mask < HoldMasks.COUNT; mask++) {
+                values[0][index * HoldMasks.COUNT + mask] = stop[index];
+            }
+            bestMasks[0][index] = (byte) HoldMasks.HOLD_ALL;
+        }
+
+        for (int left = 1; left <= rerolls; left++) {
+            double[] next = new double[HandEvaluator.OUTCOME_COUNT];
+            for (int index = 0; index < next.length; index++) {
+                double bestValue = stop[index];
+                int bestMask = HoldMasks.HOLD_ALL;
+                values[left][index * HoldMasks.COUNT + HoldMasks.HOLD_ALL] = stop[index];
+                for (int mask = 0; mask < HoldMasks.HOLD_ALL; mask++) {
+                    int[] successors = HoldMasks.successors(index, mask);
+                    double expected = 0;
+                    for (int successor : successors) {
+                        expected += best[successor];
+                    }
+                    expected /= successors.length;
+                    values[left][index * HoldMasks.COUNT + mask] = expected;
+                    if (expected > bestValue + EPSILON) {
+                        bestValue = expected;
+                        bestMask = mask;
+                    }
+                }
+                next[index] = bestValue;
+                bestMasks[left][index] = (byte) bestMask;
+            }
+            best = next;
+        }
+        return new HoldTable(rerolls, values, bestMasks);
+    }
+
+    public int getRerolls() {
+        return rerolls;
+    }
+
+    /**
+     * 최선의 보류 마스크 (HoldMasks.HOLD_ALL이면 재굴림하지 않음)
+     */
+    public int bestMask(int rerollsLeft, int index) {
+        if (rerollsLeft <= 0) {
+            return HoldMasks.HOLD_ALL;
+        }
+        return bestMasks[Math.min(rerollsLeft, rerolls)][index];
+    }
+
+    /**
+     * 해당 마스크로 보류했을 때의 기대 효용 (이후 재굴림은 최선으로 가정)
+     */
+    public double expectedValue(int rerollsLeft, int index, int holdMask) {
+        return values[Math.max(0, Math.min(rerollsLeft, rerolls))][index * HoldMasks.COUNT + holdMask];
+    }
+
+    /**
+     * [남은 재굴림][조합] 최선의 보류 마스크 (공유 배열이므로 수정하지 말 것)
+     */
+    byte[][] bestMasks() {
+        return bestMasks;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.dice.DiceSource;
+
+/**
+ * 굴린 직후 주사위의 보류/재굴림 결정
+ *
+ * TurnProcessor.attack이 주사위를 굴린 뒤, 변형 규칙/스킬 적용 전에 호출합니다.
+ */
+@FunctionalInterface
+public interface RerollPolicy {
+
+    /**
+     * 재굴림 없음 (플레이어, PvP, AI 레벨 0)
+     */
+    RerollPolicy NONE = (battle, rolled, diceSource) -> rolled;
+
+    /**
+     * @param rolled 방금 굴린 주사위 (직접 수정 가능)
+     * @return 최종 주사위
+     */
+    int[] reroll(Battle battle, int[] rolled, DiceSource diceSource);
+}
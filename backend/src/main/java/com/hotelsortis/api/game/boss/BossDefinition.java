@@ -0,0 +1,165 @@
+package com.hotelsortis.api.game.boss;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelsortis.api.entity.Boss;
+import com.hotelsortis.api.entity.BossId;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 보스 정의 (phase_config/quotes JSON을 미리 풀어둔 불변 값)
+ *
+ * 콘텐츠 카탈로그를 읽을 때 한 번 만들어 두므로
+ * 페이즈 전환/층 시작 시 JSON 파싱이나 스킬 코드 조회가 없습니다.
+ */
+@Getter
+public final class BossDefinition {
+
+    private static final String DEFAULT_LANGUAGE = "en";
+
+    private final BossId bossId;
+    private final int totalPhases;
+    private final List<Phase> phases;
+
+    /**
+     * 언어 → (대사 키 → 대사), 대사 키는 "intro", "phase2", "defeat" 등
+     */
+    private final Map<String, Map<String, String>> quotes;
+
+    private BossDefinition(BossId bossId, int totalPhases, List<Phase> phases,
+                           Map<String, Map<String, String>> quotes) {
+        this.bossId = bossId;
+        this.totalPhases = totalPhases;
+        this.phases = phases;
+        this.quotes = quotes;
+    }
+
+    /**
+     * 페이즈 설정 (1부터 시작, 없으면 empty)
+     */
+    public Optional<Phase> findPhase(int phase) {
+        if (phase < 1 || phase > phases.size()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(phases.get(phase - 1));
+    }
+
+    /**
+     * 페이즈에서 장착하는 스킬 ID (설정이 없으면 빈 목록)
+     */
+    public List<Long> getPhaseSkillIds(int phase) {
+        return findPhase(phase).map(Phase::getSkillIds).orElse(List.of());
+    }
+
+    /**
+     * 페이즈 대사
+     * 해당 언어 → 영어 순으로 찾고, 1페이즈는 등장 대사(intro)로 대체
+     */
+    public String getPhaseQuote(int phase, String language) {
+        String quote = getQuote("phase" + phase, language);
+        if (quote == null && phase == 1) {
+            quote = quotes.getOrDefault(language, Map.of()).get("intro");
+        }
+        return quote;
+    }
+
+    /**
+     * 대사 조회 (해당 언어에 없으면 영어)
+     */
+    public String getQuote(String key, String language) {
+        String quote = quotes.getOrDefault(language, Map.of()).get(key);
+        if (quote == null) {
+            quote = quotes.getOrDefault(DEFAULT_LANGUAGE, Map.of()).get(key);
+        }
+        return quote;
+    }
+
+    /**
+     * 보스 엔티티 컴파일
+     *
+     * @param skillIdByCode 스킬 코드 → ID (없는 코드는 제외)
+     * @throws IllegalArgumentException 보스 ID나 JSON이 잘못된 경우
+     */
+    public static BossDefinition compile(Boss boss, ObjectMapper objectMapper,
+                                         Function<String, Optional<Long>> skillIdByCode) {
+        BossId bossId = BossId.fromValue(boss.getId());
+        int totalPhases = boss.getTotalPhases() != null ? boss.getTotalPhases() : 0;
+
+        JsonNode config = readTree(objectMapper, boss.getPhaseConfig(), boss.getId());
+        List<Phase> phases = new ArrayList<>(totalPhases);
+        for (int phase = 1; phase <= totalPhases; phase++) {
+            JsonNode node = config != null ? config.get("phase" + phase) : null;
+            phases.add(node != null ? Phase.compile(phase, node, skillIdByCode) : null);
+        }
+
+        Map<String, Map<String, String>> quotes = new HashMap<>();
+        JsonNode quotesNode = readTree(objectMapper, boss.getQuotes(), boss.getId());
+        if (quotesNode != null) {
+            Iterator<Map.Entry<String, JsonNode>> fields = quotesNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                // "phase2_en" → ("en", "phase2")
+                int separator = field.getKey().lastIndexOf('_');
+                if (separator <= 0) {
+                    continue;
+                }
+                quotes.computeIfAbsent(field.getKey().substring(separator + 1), lang -> new HashMap<>())
+                        .put(field.getKey().substring(0, separator), field.getValue().asText());
+            }
+        }
+        quotes.replaceAll((lang, table) -> Map.copyOf(table));
+
+        return new BossDefinition(bossId, totalPhases,
+                Collections.unmodifiableList(phases), Map.copyOf(quotes));
+    }
+
+    private static JsonNode readTree(ObjectMapper objectMapper, String json, String bossId) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid boss JSON for " + bossId, e);
+        }
+    }
+
+    /**
+     * 페이즈별 설정
+     */
+    @Getter
+    public static final class Phase {
+
+        private final int phase;
+        private final int hp;
+        private final int aiLevel;
+        private final List<Long> skillIds;
+
+        private Phase(int phase, int hp, int aiLevel, List<Long> skillIds) {
+            this.phase = phase;
+            this.hp = hp;
+            this.aiLevel = aiLevel;
+            this.skillIds = skillIds;
+        }
+
+        private static Phase compile(int phase, JsonNode node, Function<String, Optional<Long>> skillIdByCode) {
+            List<Long> skillIds = new ArrayList<>();
+            JsonNode skills = node.get("skills");
+            if (skills != null) {
+                for (JsonNode code : skills) {
+                    skillIdByCode.apply(code.asText()).ifPresent(skillIds::add);
+                }
+            }
+            return new Phase(phase, node.path("hp").asInt(100), node.path("aiLevel").asInt(0), List.copyOf(skillIds));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.hotelsortis.api.game.dice;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 주사위 commit-reveal 검증 규칙
+ *
+ * 1. 전투 시작 시 32바이트 시드를 만들고 commitment = SHA-256(seed)만 공개
+ * 2. 전투 중 모든 난수는 HashDrbgDiceSource(seed)에서 꺼냄
+ * 3. 매 턴 hash = SHA-256(이전 hash || turn(4바이트) || 주사위 3바이트), 첫 이전 hash = commitment
+ * 4. 전투 종료 후 시드를 공개 → 클라이언트가 commitment, 주사위, hash 체인을 모두 재계산해 검증
+ */
+public final class DiceCommitments {
+
+    public static final int SEED_BYTES = 32;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private DiceCommitments() {
+    }
+
+    /**
+     * 새 시드 생성
+     *
+     * @param source 난수 공급원 (운영은 SecureDiceSource, 테스트는 시드 고정 공급원으로 재현 가능)
+     */
+    public static byte[] newSeed(DiceSource source) {
+        byte[] seed = new byte[SEED_BYTES];
+        for (int i = 0; i < SEED_BYTES; i++) {
+            seed[i] = (byte) source.nextInt(256);
+        }
+        return seed;
+    }
+
+    /**
+     * 시드 commitment (hex)
+     */
+    public static String commitment(byte[] seed) {
+        return HEX.formatHex(Digests.sha256().digest(seed));
+    }
+
+    /**
+     * 다음 턴의 체인 hash (hex)
+     *
+     * @param previous 이전 hash (첫 턴은 commitment)
+     */
+    public static String nextChain(String previous, int turn, int[] dice) {
+        MessageDigest digest = Digests.sha256();
+        digest.update(HEX.parseHex(previous));
+        digest.update((byte) (turn >>> 24));
+        digest.update((byte) (turn >>> 16));
+        digest.update((byte) (turn >>> 8));
+        digest.update((byte) turn);
+        for (int die : dice) {
+            digest.update((byte) die);
+        }
+        return HEX.formatHex(digest.digest());
+    }
+
+    public static String toHex(byte[] bytes) {
+        return HEX.formatHex(bytes);
+    }
+
+    public static byte[] fromHex(String hex) {
+        return HEX.parseHex(hex);
+    }
+}
@@ -0,0 +1,58 @@
+package com.hotelsortis.api.game.dice;
+
+/**
+ * 주사위 난수 공급원
+ * 주사위 굴림, 변형 규칙(chaos/silence), 재굴림 스킬 등 모든 난수 소비 코드는 이 인터페이스를 통해 난수를 얻습니다.
+ *
+ * 구현체:
+ * - SecureDiceSource: 운영용 (스레드별 SecureRandom)
+ * - SplittableDiceSource: 시뮬레이션용 (SplittableRandom, 고속)
+ * - SeededDiceSource: 테스트/리플레이용 (시드 고정, 재현 가능)
+ * - HashDrbgDiceSource: 실전 전투용 (전투별 commit-reveal 시드, 공개 후 검증 가능)
+ */
+public interface DiceSource {
+
+    /**
+     * 0 이상 bound 미만의 정수 반환
+     *
+     * @param bound 상한 (exclusive, 양수)
+     */
+    int nextInt(int bound);
+
+    /**
+     * 주사위 1개 굴림 (1-6)
+     */
+    default int rollDie() {
+        return nextInt(6) + 1;
+    }
+
+    /**
+     * 주어진 배열을 주사위 값(1-6)으로 채움 (할당 없음)
+     */
+    default void roll(int[] dice) {
+        for (int i = 0; i < dice.length; i++) {
+            dice[i] = rollDie();
+        }
+    }
+
+    /**
+     * 주사위 3개 굴림
+     */
+    default int[] rollDice() {
+        return new int[] {rollDie(), rollDie(), rollDie()};
+    }
+
+    /**
+     * 50% 확률 판정
+     */
+    default boolean nextBoolean() {
+        return nextInt(2) == 0;
+    }
+
+    /**
+     * 운영용 기본 난수 공급원 (공유 인스턴스)
+     */
+    static DiceSource secure() {
+        return SecureDiceSource.INSTANCE;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hotelsortis.api.game.dice;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주사위 난수 공급원 설정
+ * 기본은 SecureDiceSource이며, game.dice.seed를 지정하면 재현 가능한 SeededDiceSource를 사용합니다 (QA/디버깅용).
+ */
+@Slf4j
+@Configuration
+public class DiceSourceConfiguration {
+
+    @Bean
+    public DiceSource diceSource(@Value("${game.dice.seed:#{null}}") Long seed) {
+        if (seed != null) {
+            log.warn("Using seeded dice source (seed={}). Do not enable in production.", seed);
+            return new SeededDiceSource(seed);
+        }
+        return DiceSource.secure();
+    }
+}
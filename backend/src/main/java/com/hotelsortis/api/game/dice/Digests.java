@@ -0,0 +1,31 @@
+package com.hotelsortis.api.game.dice;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 스레드별 MessageDigest 재사용 (getInstance 호출 비용 제거)
+ */
+public final class Digests {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private Digests() {
+    }
+
+    /**
+     * 현재 스레드의 SHA-256 인스턴스 (초기화된 상태로 반환)
+     * 반환된 인스턴스를 다른 스레드에 넘기거나 보관하지 말 것
+     */
+    public static MessageDigest sha256() {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return digest;
+    }
+}
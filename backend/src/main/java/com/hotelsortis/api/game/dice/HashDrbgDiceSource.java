@@ -0,0 +1,92 @@
+package com.hotelsortis.api.game.dice;
+
+import java.security.MessageDigest;
+
+/**
+ * 전투별 결정적 난수 공급원 (SHA-256 카운터 모드 DRBG)
+ *
+ * 난수열 = SHA-256(seed || 0) || SHA-256(seed || 1) || ... (블록 번호는 8바이트 big-endian)
+ * nextInt(bound)는 bound가 256 이하이면 1바이트, 아니면 4바이트(부호 비트 제외)를 꺼내
+ * 편향이 생기는 범위의 값은 버리고(rejection sampling) 나머지 연산으로 결과를 만듭니다.
+ *
+ * 시드가 공개(reveal)되면 누구나 같은 규칙으로 전투의 모든 주사위를 다시 계산할 수 있습니다.
+ * 상태는 (시드, 소비한 바이트 수)뿐이므로 getPosition()을 저장해 두면 이어서 재개할 수 있습니다.
+ * 동기화하지 않으므로 전투 락을 잡은 상태에서만 사용할 것.
+ */
+public final class HashDrbgDiceSource implements DiceSource {
+
+    private static final int BLOCK_SIZE = 32;
+
+    private final byte[] seed;
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private long position;
+
+    /**
+     * @param seed 32바이트 시드
+     * @param position 이미 소비한 바이트 수 (새 전투면 0)
+     */
+    public HashDrbgDiceSource(byte[] seed, long position) {
+        if (seed == null || seed.length != DiceCommitments.SEED_BYTES) {
+            throw new IllegalArgumentException("DRBG seed must be " + DiceCommitments.SEED_BYTES + " bytes");
+        }
+        if (position < 0) {
+            throw new IllegalArgumentException("position must not be negative");
+        }
+        this.seed = seed.clone();
+        this.position = position;
+        if (position % BLOCK_SIZE != 0) {
+            fillBlock(position / BLOCK_SIZE);
+        }
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+
+        if (bound <= 256) {
+            int limit = 256 - 256 % bound;
+            while (true) {
+                int value = nextByte();
+                if (value < limit) {
+                    return value % bound;
+                }
+            }
+        }
+
+        int limit = Integer.MAX_VALUE - (int) ((Integer.MAX_VALUE + 1L) % bound);
+        while (true) {
+            int value = (nextByte() << 24 | nextByte() << 16 | nextByte() << 8 | nextByte()) & Integer.MAX_VALUE;
+            if (value <= limit) {
+                return value % bound;
+            }
+        }
+    }
+
+    /**
+     * 지금까지 소비한 바이트 수 (저장 후 생성자에 넘기면 같은 지점부터 재개)
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    private int nextByte() {
+        int offset = (int) (position % BLOCK_SIZE);
+        if (offset == 0) {
+            fillBlock(position / BLOCK_SIZE);
+        }
+        position++;
+        return block[offset] & 0xFF;
+    }
+
+    private void fillBlock(long index) {
+        MessageDigest digest = Digests.sha256();
+        digest.update(seed);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (index >>> shift));
+        }
+        byte[] hash = digest.digest();
+        System.arraycopy(hash, 0, block, 0, BLOCK_SIZE);
+    }
+}
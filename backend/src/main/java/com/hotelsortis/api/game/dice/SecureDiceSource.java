@@ -0,0 +1,31 @@
+package com.hotelsortis.api.game.dice;
+
+import java.security.SecureRandom;
+
+/**
+ * 운영용 난수 공급원
+ * 스레드마다 SecureRandom을 한 번만 생성해 재사용합니다.
+ * 호출마다 SecureRandom을 새로 만들던 시딩 비용과, 단일 인스턴스 공유 시의 경합을 모두 피합니다.
+ */
+public final class SecureDiceSource implements DiceSource {
+
+    static final SecureDiceSource INSTANCE = new SecureDiceSource();
+
+    private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(SecureRandom::new);
+
+    private SecureDiceSource() {
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.get().nextInt(bound);
+    }
+
+    @Override
+    public void roll(int[] dice) {
+        SecureRandom current = random.get();
+        for (int i = 0; i < dice.length; i++) {
+            dice[i] = current.nextInt(6) + 1;
+        }
+    }
+}
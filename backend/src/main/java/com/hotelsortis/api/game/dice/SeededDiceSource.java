@@ -0,0 +1,44 @@
+package com.hotelsortis.api.game.dice;
+
+import java.util.SplittableRandom;
+
+/**
+ * 테스트/리플레이용 결정적 난수 공급원
+ *
+ * 같은 시드는 항상 같은 난수열을 만듭니다. reset()으로 처음부터 다시 재생할 수 있고,
+ * getDrawCount()로 지금까지 소비한 난수 개수를 확인할 수 있습니다.
+ * 여러 스레드에서 공유해도 순서가 섞이지 않도록 동기화되어 있습니다.
+ */
+public final class SeededDiceSource implements DiceSource {
+
+    private final long seed;
+    private SplittableRandom random;
+    private long drawCount;
+
+    public SeededDiceSource(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public synchronized int nextInt(int bound) {
+        drawCount++;
+        return random.nextInt(bound);
+    }
+
+    /**
+     * 처음 시드 상태로 되돌림
+     */
+    public synchronized void reset() {
+        random = new SplittableRandom(seed);
+        drawCount = 0;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public synchronized long getDrawCount() {
+        return drawCount;
+    }
+}
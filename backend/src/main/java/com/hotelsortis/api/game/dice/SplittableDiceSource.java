@@ -0,0 +1,37 @@
+package com.hotelsortis.api.game.dice;
+
+import java.util.SplittableRandom;
+
+/**
+ * 시뮬레이션용 고속 난수 공급원 (SplittableRandom 기반)
+ *
+ * 스레드 안전하지 않습니다. 병렬 작업에서는 split()으로 작업마다 독립된 인스턴스를 만들어 사용하세요.
+ */
+public final class SplittableDiceSource implements DiceSource {
+
+    private final SplittableRandom random;
+
+    public SplittableDiceSource() {
+        this(new SplittableRandom());
+    }
+
+    public SplittableDiceSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableDiceSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * 통계적으로 독립된 새 공급원 생성 (fork/join 작업 분할용)
+     */
+    public SplittableDiceSource split() {
+        return new SplittableDiceSource(random.split());
+    }
+}
@@ -0,0 +1,189 @@
+package com.hotelsortis.api.game.event;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator.HandRank;
+import com.hotelsortis.api.game.TurnProcessor;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 전투 이벤트 (고정 길이 32바이트 바이너리 레코드)
+ *
+ * 레이아웃 (big-endian):
+ * <pre>
+ *  0  1  type         이벤트 종류 (Type.ordinal)
+ *  1  1  flags        bit0 = 공격자 ENEMY, bit1 = 스킬 봉인
+ *  2  2  turn         턴 번호
+ *  4  4  dice         굴린 주사위 3개 (3비트씩, bit 0-8) | 최종 주사위 3개 (bit 9-17)
+ *  8  1  handRank     족보 (HandRank.ordinal, 없으면 0xFF)
+ *  9  1  bossPhase    보스 페이즈
+ * 10  2  damage       데미지
+ * 12  8  skillMask    발동 스킬 비트마스크 (비트 i = 스킬 ID i)
+ * 20  2  playerHp     START: 시작 HP
+ * 22  2  enemyHp      START/BOSS_PHASE: 시작/리셋 HP
+ * 24  1  status       END: 결과 (Battle.Status.ordinal)
+ * 25  7  (예약)
+ * </pre>
+ *
+ * 이벤트를 순서대로 applyTo 하면 battles 테이블의 HP/쉴드/턴/상태를 재구성할 수 있습니다.
+ */
+@Value
+public class BattleEvent {
+
+    public static final int RECORD_SIZE = 32;
+
+    private static final int FLAG_ENEMY = 1;
+    private static final int FLAG_SILENCED = 1 << 1;
+    private static final int NO_HAND = 0xFF;
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+    private static final Battle.Status[] STATUSES = Battle.Status.values();
+
+    public enum Type {
+        /** 전투 시작 (초기 HP, 페이즈) */
+        START,
+        /** 한 쪽의 공격 */
+        ATTACK,
+        /** 보스 페이즈 전환 (적 HP 리셋) */
+        BOSS_PHASE,
+        /** 전투 종료 (결과) */
+        END
+    }
+
+    Type type;
+    Battle.TurnActor actor;
+    boolean skillsSilenced;
+    int turn;
+    int[] rolledDice;
+    int[] dice;
+    HandRank handRank;
+    int bossPhase;
+    int damage;
+    long triggeredSkillMask;
+    int playerHp;
+    int enemyHp;
+    Battle.Status status;
+
+    public static BattleEvent start(Battle battle) {
+        return new BattleEvent(Type.START, Battle.TurnActor.PLAYER, false, battle.getTurnCount(),
+                null, null, null, phaseOf(battle), 0, 0L,
+                battle.getPlayerHp(), battle.getEnemyHp(), Battle.Status.ONGOING);
+    }
+
+    /**
+     * @param turn 공격이 일어난 턴 (턴 종료 처리 전 값)
+     */
+    public static BattleEvent attack(Battle battle, Battle.TurnActor actor, int turn, TurnProcessor.AttackResult result) {
+        return new BattleEvent(Type.ATTACK, actor, result.isSkillsSilenced(), turn,
+                result.getRolledDice(), result.getDice(), result.getHand().getRank(), phaseOf(battle),
+                result.getDamage(), result.getTriggeredSkillMask(), 0, 0, Battle.Status.ONGOING);
+    }
+
+    public static BattleEvent bossPhase(Battle battle, int turn) {
+        return new BattleEvent(Type.BOSS_PHASE, Battle.TurnActor.PLAYER, false, turn,
+                null, null, null, phaseOf(battle), 0, 0L, 0, battle.getEnemyHp(), Battle.Status.ONGOING);
+    }
+
+    public static BattleEvent end(Battle battle, int turn) {
+        return new BattleEvent(Type.END, Battle.TurnActor.PLAYER, false, turn,
+                null, null, null, phaseOf(battle), 0, 0L, 0, 0, battle.getStatus());
+    }
+
+    /**
+     * 레코드 1개 기록 (RECORD_SIZE 바이트)
+     */
+    public void writeTo(ByteBuffer buffer) {
+        int flags = (actor == Battle.TurnActor.ENEMY ? FLAG_ENEMY : 0) | (skillsSilenced ? FLAG_SILENCED : 0);
+
+        buffer.put((byte) type.ordinal());
+        buffer.put((byte) flags);
+        buffer.putShort((short) turn);
+        buffer.putInt(packDice(rolledDice) | packDice(dice) << 9);
+        buffer.put((byte) (handRank != null ? handRank.ordinal() : NO_HAND));
+        buffer.put((byte) bossPhase);
+        buffer.putShort((short) damage);
+        buffer.putLong(triggeredSkillMask);
+        buffer.putShort((short) playerHp);
+        buffer.putShort((short) enemyHp);
+        buffer.put((byte) status.ordinal());
+        buffer.put(new byte[7]);
+    }
+
+    /**
+     * 레코드 1개 읽기 (RECORD_SIZE 바이트)
+     */
+    public static BattleEvent readFrom(ByteBuffer buffer) {
+        Type type = Type.values()[buffer.get()];
+        int flags = buffer.get();
+        int turn = buffer.getShort();
+        int packed = buffer.getInt();
+        int rank = buffer.get() & 0xFF;
+        int bossPhase = buffer.get();
+        int damage = buffer.getShort();
+        long skillMask = buffer.getLong();
+        int playerHp = buffer.getShort();
+        int enemyHp = buffer.getShort();
+        Battle.Status status = STATUSES[buffer.get()];
+        buffer.position(buffer.position() + 7);
+
+        return new BattleEvent(type,
+                (flags & FLAG_ENEMY) != 0 ? Battle.TurnActor.ENEMY : Battle.TurnActor.PLAYER,
+                (flags & FLAG_SILENCED) != 0, turn,
+                type == Type.ATTACK ? unpackDice(packed) : null,
+                type == Type.ATTACK ? unpackDice(packed >>> 9) : null,
+                rank != NO_HAND ? HAND_RANKS[rank] : null,
+                bossPhase, damage, skillMask, playerHp, enemyHp, status);
+    }
+
+    /**
+     * 이벤트를 전투 상태에 반영 (TurnProcessor와 같은 규칙)
+     */
+    public void applyTo(Battle battle) {
+        switch (type) {
+            case START -> {
+                battle.setPlayerHp(playerHp);
+                battle.setEnemyHp(enemyHp);
+                battle.setPlayerShield(0);
+                battle.setEnemyShield(0);
+                battle.setBossPhase(bossPhase);
+                battle.setTurnCount(turn);
+                battle.setCurrentTurn(Battle.TurnActor.PLAYER);
+                battle.setStatus(Battle.Status.ONGOING);
+            }
+            case ATTACK -> {
+                if (actor == Battle.TurnActor.PLAYER) {
+                    int absorbed = Math.min(damage, battle.getEnemyShield());
+                    battle.setEnemyShield(battle.getEnemyShield() - absorbed);
+                    battle.setEnemyHp(Math.max(0, battle.getEnemyHp() - (damage - absorbed)));
+                } else {
+                    int absorbed = Math.min(damage, battle.getPlayerShield());
+                    battle.setPlayerShield(battle.getPlayerShield() - absorbed);
+                    battle.setPlayerHp(Math.max(0, battle.getPlayerHp() - (damage - absorbed)));
+                    // 적 공격 후 턴 종료 처리
+                    battle.setTurnCount(turn + 1);
+                    battle.setCurrentTurn(Battle.TurnActor.PLAYER);
+                }
+            }
+            case BOSS_PHASE -> {
+                battle.setBossPhase(bossPhase);
+                battle.setEnemyHp(enemyHp);
+            }
+            case END -> battle.setStatus(status);
+        }
+    }
+
+    private static int phaseOf(Battle battle) {
+        return battle.getBossPhase() != null ? battle.getBossPhase() : 1;
+    }
+
+    private static int packDice(int[] dice) {
+        if (dice == null) {
+            return 0;
+        }
+        return dice[0] | dice[1] << 3 | dice[2] << 6;
+    }
+
+    private static int[] unpackDice(int packed) {
+        return new int[] {packed & 7, packed >>> 3 & 7, packed >>> 6 & 7};
+    }
+}
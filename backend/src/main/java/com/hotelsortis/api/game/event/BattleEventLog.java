@@ -0,0 +1,113 @@
+package com.hotelsortis.api.game.event;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.TurnProcessor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 전투 1건의 저장 대기 이벤트 버퍼 (추가 전용)
+ *
+ * 이벤트를 고정 길이 레코드로 이어 붙이고, 저장 시 drain()으로 한 묶음(chunk)씩 꺼냅니다.
+ * 동기화하지 않으므로 전투 락을 잡은 상태에서만 사용할 것.
+ */
+public final class BattleEventLog {
+
+    private static final int INITIAL_EVENTS = 16;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_EVENTS * BattleEvent.RECORD_SIZE);
+
+    public void append(BattleEvent event) {
+        ensureCapacity(BattleEvent.RECORD_SIZE);
+        event.writeTo(buffer);
+    }
+
+    /**
+     * TurnProcessor.playTurn 한 번의 결과를 이벤트로 추가
+     * (플레이어 공격 → 보스 페이즈 전환 → 적 공격 → 전투 종료 순서)
+     *
+     * @param turn playTurn 호출 전 턴 번호
+     */
+    public void appendTurn(Battle battle, int turn, TurnProcessor.TurnOutcome outcome) {
+        append(BattleEvent.attack(battle, Battle.TurnActor.PLAYER, turn, outcome.getPlayerAttack()));
+        if (outcome.getNewBossPhase() > 0) {
+            append(BattleEvent.bossPhase(battle, turn));
+        }
+        if (outcome.getEnemyAttack() != null) {
+            append(BattleEvent.attack(battle, Battle.TurnActor.ENEMY, turn, outcome.getEnemyAttack()));
+        }
+        if (battle.getStatus() != Battle.Status.ONGOING) {
+            append(BattleEvent.end(battle, turn));
+        }
+    }
+
+    /**
+     * 저장 대기 중인 이벤트 수
+     */
+    public int size() {
+        return buffer.position() / BattleEvent.RECORD_SIZE;
+    }
+
+    public boolean isEmpty() {
+        return buffer.position() == 0;
+    }
+
+    /**
+     * 쌓인 레코드를 꺼내고 버퍼를 비움
+     */
+    public byte[] drain() {
+        byte[] records = Arrays.copyOf(buffer.array(), buffer.position());
+        buffer.clear();
+        return records;
+    }
+
+    /**
+     * 저장 실패한 묶음을 앞쪽에 되돌림 (순서 유지)
+     */
+    public void restore(byte[] records) {
+        byte[] pending = drain();
+        ensureCapacity(records.length + pending.length);
+        buffer.put(records).put(pending);
+    }
+
+    /**
+     * 레코드 묶음 디코딩
+     */
+    public static List<BattleEvent> decode(byte[] records) {
+        if (records.length % BattleEvent.RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("Corrupt event chunk: " + records.length + " bytes");
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(records);
+        List<BattleEvent> events = new ArrayList<>(records.length / BattleEvent.RECORD_SIZE);
+        while (in.hasRemaining()) {
+            events.add(BattleEvent.readFrom(in));
+        }
+        return events;
+    }
+
+    /**
+     * 이벤트를 순서대로 적용해 전투 상태 재구성
+     *
+     * @param battle 재구성 대상 (ID 등 고정 필드는 유지, HP/쉴드/턴/페이즈/상태만 갱신)
+     */
+    public static Battle replay(Battle battle, List<BattleEvent> events) {
+        for (BattleEvent event : events) {
+            event.applyTo(battle);
+        }
+        return battle;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+}
@@ -0,0 +1,15 @@
+package com.hotelsortis.api.game.mutator;
+
+/**
+ * 변형 규칙이 개입하는 전투 단계
+ */
+public enum MutatorHook {
+    /** 전투 시작 시 양측 HP */
+    INITIAL_HP,
+    /** 굴린 직후 주사위 변환 (스킬 DICE_ROLL 트리거 이전) */
+    DICE_ROLL,
+    /** 공격마다 스킬 발동 허용 여부 */
+    SKILL_GATE,
+    /** 클라이언트 응답 표시 (족보 이름 숨김 등) */
+    RESPONSE
+}
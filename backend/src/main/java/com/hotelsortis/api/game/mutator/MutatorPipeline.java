@@ -0,0 +1,125 @@
+package com.hotelsortis.api.game.mutator;
+
+import com.hotelsortis.api.game.dice.DiceSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 전투 1건에 적용되는 변형 규칙 파이프라인 (불변)
+ *
+ * 전투 시작 시 mutator_id에서 한 번 만들어 두고, 매 공격에서는 단계별로 미리 나눈 배열만 순회합니다.
+ * 여러 변형 규칙은 mutator_id에 쉼표로 구분해 나열하며 (예: "gravity,silence"), 적힌 순서대로 적용됩니다.
+ */
+public final class MutatorPipeline {
+
+    public static final int BASE_HP = 100;
+
+    private static final MutatorStage[] NO_STAGES = new MutatorStage[0];
+
+    public static final MutatorPipeline NONE = new MutatorPipeline(List.of(), NO_STAGES);
+
+    private final List<String> mutatorIds;
+    private final MutatorStage[] diceStages;
+    private final MutatorStage[] skillGates;
+    private final int initialHp;
+    private final boolean hidesHandName;
+
+    MutatorPipeline(List<String> mutatorIds, MutatorStage[] stages) {
+        this.mutatorIds = List.copyOf(mutatorIds);
+        this.diceStages = withHook(stages, MutatorHook.DICE_ROLL);
+        this.skillGates = withHook(stages, MutatorHook.SKILL_GATE);
+
+        int hp = BASE_HP;
+        for (MutatorStage stage : withHook(stages, MutatorHook.INITIAL_HP)) {
+            hp = stage.initialHp(hp);
+        }
+        this.initialHp = hp;
+
+        boolean hide = false;
+        for (MutatorStage stage : withHook(stages, MutatorHook.RESPONSE)) {
+            hide |= stage.hidesHandName();
+        }
+        this.hidesHandName = hide;
+    }
+
+    /**
+     * mutator_id 값을 개별 ID로 분리 (null/공백이면 빈 목록)
+     */
+    public static List<String> parseIds(String mutatorIds) {
+        if (mutatorIds == null || mutatorIds.isBlank()) {
+            return List.of();
+        }
+
+        List<String> ids = new ArrayList<>();
+        for (String id : mutatorIds.split(",")) {
+            String trimmed = id.trim();
+            if (!trimmed.isEmpty()) {
+                ids.add(trimmed);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 적용 중인 변형 규칙 ID (적용 순서)
+     */
+    public List<String> getMutatorIds() {
+        return mutatorIds;
+    }
+
+    public boolean isEmpty() {
+        return mutatorIds.isEmpty();
+    }
+
+    /**
+     * 양측 시작 HP
+     */
+    public int getInitialHp() {
+        return initialHp;
+    }
+
+    /**
+     * 굴린 주사위에 변환 단계 적용
+     *
+     * @return 변환 단계가 없으면 rolled 그대로, 있으면 변환된 새 배열 (rolled는 수정하지 않음)
+     */
+    public int[] transformDice(int[] rolled, DiceSource random) {
+        if (diceStages.length == 0 || rolled == null) {
+            return rolled;
+        }
+
+        int[] dice = rolled.clone();
+        for (MutatorStage stage : diceStages) {
+            stage.transformDice(dice, random);
+        }
+        return dice;
+    }
+
+    /**
+     * 이번 공격에서 스킬 발동 허용 여부 (하나라도 막으면 봉인)
+     */
+    public boolean allowSkills(DiceSource random) {
+        for (MutatorStage gate : skillGates) {
+            if (!gate.allowSkills(random)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 족보 이름 숨김 여부 (fog)
+     */
+    public boolean hidesHandName() {
+        return hidesHandName;
+    }
+
+    private static MutatorStage[] withHook(MutatorStage[] stages, MutatorHook hook) {
+        MutatorStage[] matching = Arrays.stream(stages)
+                .filter(stage -> stage.getHooks().contains(hook))
+                .toArray(MutatorStage[]::new);
+        return matching.length > 0 ? matching : NO_STAGES;
+    }
+}
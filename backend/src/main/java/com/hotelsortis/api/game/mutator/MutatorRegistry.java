@@ -0,0 +1,79 @@
+package com.hotelsortis.api.game.mutator;
+
+import com.hotelsortis.api.game.mutator.stages.ChaosStage;
+import com.hotelsortis.api.game.mutator.stages.EnduranceStage;
+import com.hotelsortis.api.game.mutator.stages.FogStage;
+import com.hotelsortis.api.game.mutator.stages.GravityStage;
+import com.hotelsortis.api.game.mutator.stages.SilenceStage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변형 규칙 단계 레지스트리
+ *
+ * 변형 규칙 ID → MutatorStage 구현을 보관하고, mutator_id 값을 파이프라인으로 컴파일합니다.
+ * 컴파일 결과는 mutator_id 문자열별로 캐시됩니다 (층 설정 조합 수만큼만 생김).
+ */
+@Slf4j
+public final class MutatorRegistry {
+
+    private final Map<String, MutatorStage> stages = new ConcurrentHashMap<>();
+    private final Map<String, MutatorPipeline> pipelines = new ConcurrentHashMap<>();
+
+    /**
+     * 기본 변형 규칙 5종이 등록된 레지스트리
+     */
+    public static MutatorRegistry standard() {
+        MutatorRegistry registry = new MutatorRegistry();
+        registry.register(new GravityStage());
+        registry.register(new FogStage());
+        registry.register(new SilenceStage());
+        registry.register(new ChaosStage());
+        registry.register(new EnduranceStage());
+        return registry;
+    }
+
+    public void register(MutatorStage stage) {
+        stages.put(stage.getMutatorId(), stage);
+        pipelines.clear();
+    }
+
+    public boolean isRegistered(String mutatorId) {
+        return stages.containsKey(mutatorId);
+    }
+
+    public Set<String> getRegisteredIds() {
+        return Set.copyOf(stages.keySet());
+    }
+
+    /**
+     * mutator_id 값을 파이프라인으로 컴파일 (등록되지 않은 ID는 경고 후 무시)
+     */
+    public MutatorPipeline compile(String mutatorIds) {
+        if (mutatorIds == null || mutatorIds.isBlank()) {
+            return MutatorPipeline.NONE;
+        }
+        return pipelines.computeIfAbsent(mutatorIds, this::build);
+    }
+
+    private MutatorPipeline build(String mutatorIds) {
+        List<String> ids = new ArrayList<>();
+        List<MutatorStage> resolved = new ArrayList<>();
+        for (String id : MutatorPipeline.parseIds(mutatorIds)) {
+            MutatorStage stage = stages.get(id);
+            if (stage == null) {
+                log.warn("Mutator stage not registered: {}", id);
+                continue;
+            }
+            ids.add(id);
+            resolved.add(stage);
+        }
+        return resolved.isEmpty() ? MutatorPipeline.NONE
+                : new MutatorPipeline(ids, resolved.toArray(new MutatorStage[0]));
+    }
+}
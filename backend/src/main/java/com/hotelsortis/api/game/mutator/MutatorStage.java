@@ -0,0 +1,53 @@
+package com.hotelsortis.api.game.mutator;
+
+import com.hotelsortis.api.game.dice.DiceSource;
+
+import java.util.Set;
+
+/**
+ * 변형 규칙 단계 인터페이스
+ * 모든 변형 규칙은 이 인터페이스를 구현하고, getHooks()에 선언한 단계의 메서드만 오버라이드합니다.
+ *
+ * 구현체는 상태를 갖지 않아야 하며 (여러 전투가 공유), 난수는 인자로 받은 DiceSource만 사용할 것.
+ */
+public interface MutatorStage {
+
+    /**
+     * 변형 규칙 ID (mutators 테이블 id와 일치해야 함)
+     */
+    String getMutatorId();
+
+    /**
+     * 이 단계가 개입하는 전투 단계
+     */
+    Set<MutatorHook> getHooks();
+
+    /**
+     * INITIAL_HP: 시작 HP 결정
+     *
+     * @param hp 앞 단계까지 적용된 HP
+     */
+    default int initialHp(int hp) {
+        return hp;
+    }
+
+    /**
+     * DICE_ROLL: 주사위 변환 (배열을 직접 수정)
+     */
+    default void transformDice(int[] dice, DiceSource random) {
+    }
+
+    /**
+     * SKILL_GATE: 이번 공격에서 스킬 발동 허용 여부
+     */
+    default boolean allowSkills(DiceSource random) {
+        return true;
+    }
+
+    /**
+     * RESPONSE: 족보 이름을 클라이언트에 숨길지 여부
+     */
+    default boolean hidesHandName() {
+        return false;
+    }
+}
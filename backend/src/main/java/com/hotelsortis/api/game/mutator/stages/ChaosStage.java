@@ -0,0 +1,29 @@
+package com.hotelsortis.api.game.mutator.stages;
+
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.mutator.MutatorHook;
+import com.hotelsortis.api.game.mutator.MutatorStage;
+
+import java.util.Set;
+
+/**
+ * Chaos: 매 굴림 후 주사위 1개를 무작위로 다시 굴림
+ */
+public class ChaosStage implements MutatorStage {
+
+    @Override
+    public String getMutatorId() {
+        return "chaos";
+    }
+
+    @Override
+    public Set<MutatorHook> getHooks() {
+        return Set.of(MutatorHook.DICE_ROLL);
+    }
+
+    @Override
+    public void transformDice(int[] dice, DiceSource random) {
+        int rerollIndex = random.nextInt(dice.length);
+        dice[rerollIndex] = random.rollDie();
+    }
+}
@@ -0,0 +1,29 @@
+package com.hotelsortis.api.game.mutator.stages;
+
+import com.hotelsortis.api.game.mutator.MutatorHook;
+import com.hotelsortis.api.game.mutator.MutatorStage;
+
+import java.util.Set;
+
+/**
+ * Endurance: 양측 HP 150으로 시작
+ */
+public class EnduranceStage implements MutatorStage {
+
+    private static final int ENDURANCE_HP = 150;
+
+    @Override
+    public String getMutatorId() {
+        return "endurance";
+    }
+
+    @Override
+    public Set<MutatorHook> getHooks() {
+        return Set.of(MutatorHook.INITIAL_HP);
+    }
+
+    @Override
+    public int initialHp(int hp) {
+        return Math.max(hp, ENDURANCE_HP);
+    }
+}
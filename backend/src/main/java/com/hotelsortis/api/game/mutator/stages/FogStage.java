@@ -0,0 +1,27 @@
+package com.hotelsortis.api.game.mutator.stages;
+
+import com.hotelsortis.api.game.mutator.MutatorHook;
+import com.hotelsortis.api.game.mutator.MutatorStage;
+
+import java.util.Set;
+
+/**
+ * Fog of War: 족보 이름 숨김 (표시는 프론트엔드에서 처리)
+ */
+public class FogStage implements MutatorStage {
+
+    @Override
+    public String getMutatorId() {
+        return "fog";
+    }
+
+    @Override
+    public Set<MutatorHook> getHooks() {
+        return Set.of(MutatorHook.RESPONSE);
+    }
+
+    @Override
+    public boolean hidesHandName() {
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package com.hotelsortis.api.game.mutator.stages;
+
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.mutator.MutatorHook;
+import com.hotelsortis.api.game.mutator.MutatorStage;
+
+import java.util.Set;
+
+/**
+ * Gravity: 1-2가 나온 주사위는 모두 3으로 변환
+ */
+public class GravityStage implements MutatorStage {
+
+    private static final int FLOOR_VALUE = 3;
+
+    @Override
+    public String getMutatorId() {
+        return "gravity";
+    }
+
+    @Override
+    public Set<MutatorHook> getHooks() {
+        return Set.of(MutatorHook.DICE_ROLL);
+    }
+
+    @Override
+    public void transformDice(int[] dice, DiceSource random) {
+        for (int i = 0; i < dice.length; i++) {
+            if (dice[i] < FLOOR_VALUE) {
+                dice[i] = FLOOR_VALUE;
+            }
+        }
+    }
+}
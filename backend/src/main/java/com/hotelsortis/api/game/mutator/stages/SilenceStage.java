@@ -0,0 +1,28 @@
+package com.hotelsortis.api.game.mutator.stages;
+
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.mutator.MutatorHook;
+import com.hotelsortis.api.game.mutator.MutatorStage;
+
+import java.util.Set;
+
+/**
+ * Silence: 공격마다 50% 확률로 스킬 발동 봉인
+ */
+public class SilenceStage implements MutatorStage {
+
+    @Override
+    public String getMutatorId() {
+        return "silence";
+    }
+
+    @Override
+    public Set<MutatorHook> getHooks() {
+        return Set.of(MutatorHook.SKILL_GATE);
+    }
+
+    @Override
+    public boolean allowSkills(DiceSource random) {
+        return random.nextBoolean();
+    }
+}
@@ -0,0 +1,74 @@
+package com.hotelsortis.api.game.odds;
+
+import com.hotelsortis.api.game.dice.DiceSource;
+
+import java.util.Arrays;
+
+/**
+ * 모든 난수 분기를 차례로 재생하는 DiceSource (깊이 우선 열거)
+ *
+ * 한 번의 실행이 nextInt를 호출한 순서대로 선택값을 기록해 두고, advance()가 마지막 선택부터
+ * 주행거리계처럼 올려 다음 경로를 만듭니다. 실행 코드는 앞선 난수 값에만 의존해
+ * 다음 호출의 bound를 정해야 합니다 (스킬/변형 규칙/주사위 굴림이 모두 해당).
+ */
+public final class EnumeratingDiceSource implements DiceSource {
+
+    private int[] choices = new int[16];
+    private int[] bounds = new int[16];
+    private int length;
+    private int depth;
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        if (depth < length) {
+            if (bounds[depth] != bound) {
+                throw new IllegalStateException("Non-deterministic draw at depth " + depth
+                        + ": bound " + bound + " != " + bounds[depth]);
+            }
+            return choices[depth++];
+        }
+
+        if (length == choices.length) {
+            choices = Arrays.copyOf(choices, length * 2);
+            bounds = Arrays.copyOf(bounds, length * 2);
+        }
+        choices[length] = 0;
+        bounds[length] = bound;
+        length++;
+        return choices[depth++];
+    }
+
+    /**
+     * 현재 경로의 확률 (각 선택 1/bound의 곱)
+     */
+    public double weight() {
+        double weight = 1.0;
+        for (int i = 0; i < depth; i++) {
+            weight /= bounds[i];
+        }
+        return weight;
+    }
+
+    /**
+     * 다음 경로로 이동
+     *
+     * @return 남은 경로가 없으면 false
+     */
+    public boolean advance() {
+        // 이번 실행에서 쓰지 않은 선택은 버림
+        length = depth;
+        depth = 0;
+        while (length > 0) {
+            int last = length - 1;
+            if (choices[last] + 1 < bounds[last]) {
+                choices[last]++;
+                return true;
+            }
+            length--;
+        }
+        return false;
+    }
+}
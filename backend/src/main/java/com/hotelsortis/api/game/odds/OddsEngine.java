@@ -0,0 +1,155 @@
+package com.hotelsortis.api.game.odds;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator.HandRank;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정확한 족보/데미지 분포 계산기
+ *
+ * 주사위 216가지와 스킬/변형 규칙이 쓰는 모든 난수 분기를 EnumeratingDiceSource로 열거하며,
+ * 실제 TurnProcessor.attack(스킬 효과 + 변형 규칙 파이프라인)을 그대로 실행합니다.
+ * 결과는 (로드아웃, 변형 규칙, 첫 턴 여부)별로 캐시됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OddsEngine {
+
+    /**
+     * 캐시 상한 (넘으면 비우고 다시 채움)
+     */
+    static final int MAX_CACHED_TABLES = 1024;
+
+    /**
+     * 한 번에 열거할 최대 경로 수 (난수를 많이 쓰는 스킬 조합 보호)
+     */
+    static final long MAX_OUTCOMES = 2_000_000L;
+
+    private static final int SCRATCH_HP = 10_000;
+
+    private final TurnProcessor turnProcessor;
+
+    private final Map<Key, OddsTable> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 플레이어 공격 1회의 결과 분포
+     *
+     * @param skillIds 장착 스킬 (최대 4개)
+     * @param mutatorIds 변형 규칙 (쉼표 구분, null이면 없음)
+     * @param firstTurn true면 BATTLE_START 트리거 포함
+     */
+    public OddsTable calculate(List<Long> skillIds, String mutatorIds, boolean firstTurn) {
+        Loadout loadout = turnProcessor.compileLoadout(skillIds);
+        MutatorPipeline mutators = turnProcessor.compileMutators(mutatorIds);
+        Key key = new Key(loadout, mutators, firstTurn);
+
+        OddsTable cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (cache.size() >= MAX_CACHED_TABLES) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(key, k -> enumerate(loadout, mutators, firstTurn));
+    }
+
+    private OddsTable enumerate(Loadout loadout, MutatorPipeline mutators, boolean firstTurn) {
+        long start = System.nanoTime();
+        EnumeratingDiceSource dice = new EnumeratingDiceSource();
+        Battle battle = Battle.builder().battleType(Battle.BattleType.PVE).build();
+        TurnProcessor.TurnContext context = TurnProcessor.TurnContext.builder()
+                .battle(battle)
+                .playerSkills(loadout)
+                .mutators(mutators)
+                .dice(dice)
+                .build();
+
+        double[] rankWeights = new double[HandRank.values().length];
+        SortedMap<Integer, Double> damage = new TreeMap<>();
+        double expectedDamage = 0;
+        double silenced = 0;
+        long outcomes = 0;
+
+        do {
+            if (++outcomes > MAX_OUTCOMES) {
+                throw new IllegalArgumentException("Too many outcomes to enumerate for " + loadout.getSkillIds());
+            }
+
+            resetScratch(battle, firstTurn);
+            TurnProcessor.AttackResult result = turnProcessor.attack(context, Battle.TurnActor.PLAYER);
+            double weight = dice.weight();
+
+            rankWeights[result.getHand().getRank().ordinal()] += weight;
+            damage.merge(result.getDamage(), weight, Double::sum);
+            expectedDamage += weight * result.getDamage();
+            if (result.isSkillsSilenced()) {
+                silenced += weight;
+            }
+        } while (dice.advance());
+
+        Map<HandRank, Double> handRanks = new EnumMap<>(HandRank.class);
+        for (HandRank rank : HandRank.values()) {
+            handRanks.put(rank, rankWeights[rank.ordinal()]);
+        }
+
+        log.debug("Enumerated {} outcomes (skills={}, mutators={}, firstTurn={}) in {} us",
+                outcomes, loadout.getSkillIds(), mutators.getMutatorIds(), firstTurn,
+                (System.nanoTime() - start) / 1_000);
+
+        return new OddsTable(outcomes, Collections.unmodifiableMap(handRanks),
+                Collections.unmodifiableSortedMap(damage), expectedDamage, silenced);
+    }
+
+    private static void resetScratch(Battle battle, boolean firstTurn) {
+        battle.setPlayerHp(SCRATCH_HP);
+        battle.setEnemyHp(SCRATCH_HP);
+        battle.setPlayerShield(0);
+        battle.setEnemyShield(0);
+        battle.setTurnCount(firstTurn ? 1 : 2);
+        battle.setCurrentTurn(Battle.TurnActor.PLAYER);
+    }
+
+    /**
+     * 캐시 키 (Loadout/MutatorPipeline은 각각 캐시된 인스턴스이므로 동일성 비교)
+     */
+    private static final class Key {
+        private final Loadout loadout;
+        private final MutatorPipeline mutators;
+        private final boolean firstTurn;
+
+        Key(Loadout loadout, MutatorPipeline mutators, boolean firstTurn) {
+            this.loadout = loadout;
+            this.mutators = mutators;
+            this.firstTurn = firstTurn;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return loadout == other.loadout && mutators == other.mutators && firstTurn == other.firstTurn;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(loadout) * 31 + System.identityHashCode(mutators)) * 2
+                    + (firstTurn ? 1 : 0);
+        }
+    }
+}
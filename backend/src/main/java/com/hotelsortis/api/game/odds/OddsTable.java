@@ -0,0 +1,36 @@
+package com.hotelsortis.api.game.odds;
+
+import com.hotelsortis.api.game.HandEvaluator.HandRank;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 한 번의 공격에 대한 정확한 결과 분포 (불변)
+ */
+@Value
+public class OddsTable {
+
+    /**
+     * 열거한 난수 경로 수
+     */
+    long outcomes;
+
+    /**
+     * 족보별 확률 (모든 족보 포함, 합 = 1)
+     */
+    Map<HandRank, Double> handRanks;
+
+    /**
+     * 최종 데미지별 확률 (오름차순)
+     */
+    SortedMap<Integer, Double> damage;
+
+    double expectedDamage;
+
+    /**
+     * 변형 규칙으로 스킬이 봉인될 확률
+     */
+    double skillsSilenced;
+}
@@ -0,0 +1,210 @@
+package com.hotelsortis.api.game.simulation;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.ai.EnemyAi;
+import com.hotelsortis.api.game.ai.RerollPolicy;
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 헤드리스 전투 시뮬레이터 (밸런스 조정용)
+ *
+ * BattleService와 같은 TurnProcessor 파이프라인(변형 규칙, 스킬 트리거, 보스 페이즈 전환 포함)을
+ * 메모리상의 Battle 객체로 실행합니다. JPA/Redis에는 접근하지 않으며,
+ * 전투 묶음을 fork/join으로 나눠 모든 코어에서 병렬 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BattleSimulator {
+
+    /**
+     * 한 작업이 직접 실행할 최대 전투 수 (이보다 크면 분할)
+     */
+    private static final int BATTLES_PER_TASK = 4_096;
+
+    private final TurnProcessor turnProcessor;
+    private final EnemyAi enemyAi;
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 시나리오를 지정한 횟수만큼 시뮬레이션
+     *
+     * @param seed 같은 시드면 스레드 수와 관계없이 같은 결과
+     */
+    public SimulationStats simulate(SimulationScenario scenario, int battles, long seed) {
+        if (battles <= 0) {
+            throw new IllegalArgumentException("battles must be positive");
+        }
+        if (scenario.getPlayerSkills() != null && scenario.getPlayerSkills().size() > 4) {
+            throw new IllegalArgumentException("Maximum 4 skills allowed");
+        }
+
+        long start = System.nanoTime();
+        Loadout playerLoadout = turnProcessor.compileLoadout(scenario.getPlayerSkills());
+        MutatorPipeline mutators = turnProcessor.compileMutators(scenario.getMutatorId());
+        SimulationStats stats = pool.invoke(
+                new SimulationTask(scenario, playerLoadout, mutators, 0, battles, new SplittableDiceSource(seed)));
+        log.info("Simulated {} battles (floor={}, mutator={}, skills={}) in {} ms",
+                battles, scenario.getFloor(), scenario.getMutatorId(), scenario.getPlayerSkills(),
+                (System.nanoTime() - start) / 1_000_000);
+        return stats;
+    }
+
+    /**
+     * 같은 조건에서 여러 로드아웃을 각각 시뮬레이션 (로드아웃 추천용)
+     * 모든 로드아웃이 같은 시드를 쓰므로 로드아웃 간 비교의 분산이 줄어듭니다.
+     *
+     * @return loadouts와 같은 순서의 결과
+     */
+    public List<SimulationStats> simulateLoadouts(SimulationScenario scenario, List<Loadout> loadouts,
+                                                  int battles, long seed) {
+        if (battles <= 0) {
+            throw new IllegalArgumentException("battles must be positive");
+        }
+
+        MutatorPipeline mutators = turnProcessor.compileMutators(scenario.getMutatorId());
+        List<SimulationTask> tasks = new ArrayList<>(loadouts.size());
+        for (Loadout loadout : loadouts) {
+            tasks.add(new SimulationTask(scenario, loadout, mutators, 0, battles, new SplittableDiceSource(seed)));
+        }
+
+        return pool.invoke(new RecursiveTask<List<SimulationStats>>() {
+            @Override
+            protected List<SimulationStats> compute() {
+                invokeAll(tasks);
+                return tasks.stream().map(ForkJoinTask::join).toList();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 전투 1회 실행 (결과는 stats에 누적)
+     */
+    void runBattle(SimulationScenario scenario, Loadout playerSkills, MutatorPipeline mutators, DiceSource dice,
+                   TurnProcessor.SideStates states, SimulationStats stats) {
+        Battle battle = Battle.builder()
+                .battleType(Battle.BattleType.PVE)
+                .floor(scenario.getFloor())
+                .bossId(scenario.getBossId())
+                .bossPhase(1)
+                .mutatorId(scenario.getMutatorId())
+                .playerHp(scenario.getInitialHp())
+                .enemyHp(scenario.getInitialHp())
+                .build();
+
+        Loadout enemySkills = turnProcessor.compileLoadout(drawEnemySkills(scenario, dice));
+        RerollPolicy enemyPolicy = enemyAi.policyFor(enemySkills, mutators, scenario.getAiLevels());
+        int totalPhases = scenario.getBossTotalPhases();
+        TurnProcessor.TurnContext context = TurnProcessor.TurnContext.builder()
+                .battle(battle)
+                .playerSkills(playerSkills)
+                .enemySkills(enemySkills)
+                .mutators(mutators)
+                .enemyPolicy(enemyPolicy)
+                .bossTotalPhases(() -> totalPhases)
+                .dice(dice)
+                .states(states)
+                .build();
+
+        while (battle.getStatus() == Battle.Status.ONGOING) {
+            TurnProcessor.TurnOutcome outcome = turnProcessor.playTurn(context, null);
+
+            stats.recordPlayerDamage(outcome.getPlayerAttack().getDamage());
+            if (outcome.getEnemyAttack() != null) {
+                stats.recordEnemyDamage(outcome.getEnemyAttack().getDamage());
+            }
+            if (outcome.getNewBossPhase() > 0) {
+                stats.bossPhaseTransitions++;
+            }
+        }
+
+        // 승리로 끝난 턴은 턴 수가 증가하지 않으므로 보정
+        int turns = battle.getStatus() == Battle.Status.VICTORY
+                ? battle.getTurnCount() : battle.getTurnCount() - 1;
+        stats.recordBattle(battle.getStatus(), turns);
+    }
+
+    /**
+     * CampaignService.assignEnemySkills와 같은 방식으로 후보 중 일부를 무작위 선택
+     */
+    private List<Long> drawEnemySkills(SimulationScenario scenario, DiceSource dice) {
+        List<Long> pool = scenario.getEnemySkillPool();
+        int count = scenario.getEnemySkillCount();
+        if (pool == null || pool.isEmpty() || count <= 0) {
+            return List.of();
+        }
+        if (count >= pool.size()) {
+            return pool;
+        }
+
+        // Partial Fisher-Yates shuffle
+        List<Long> shuffled = new ArrayList<>(pool);
+        for (int i = 0; i < count; i++) {
+            int j = i + dice.nextInt(shuffled.size() - i);
+            Long tmp = shuffled.get(i);
+            shuffled.set(i, shuffled.get(j));
+            shuffled.set(j, tmp);
+        }
+        return shuffled.subList(0, count);
+    }
+
+    private class SimulationTask extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final SimulationScenario scenario;
+        private final Loadout playerSkills;
+        private final MutatorPipeline mutators;
+        private final int from;
+        private final int to;
+        private final SplittableDiceSource dice;
+
+        SimulationTask(SimulationScenario scenario, Loadout playerSkills, MutatorPipeline mutators,
+                       int from, int to, SplittableDiceSource dice) {
+            this.scenario = scenario;
+            this.playerSkills = playerSkills;
+            this.mutators = mutators;
+            this.from = from;
+            this.to = to;
+            this.dice = dice;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= BATTLES_PER_TASK) {
+                SimulationStats stats = new SimulationStats();
+                TurnProcessor.SideStates states = new TurnProcessor.SideStates();
+                for (int i = from; i < to; i++) {
+                    runBattle(scenario, playerSkills, mutators, dice, states, stats);
+                }
+                return stats;
+            }
+
+            // 분할 시점에 난수열을 나눠 스케줄링과 무관하게 결정적인 결과 보장
+            int mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(scenario, playerSkills, mutators, from, mid, dice.split());
+            SimulationTask right = new SimulationTask(scenario, playerSkills, mutators, mid, to, dice.split());
+            left.fork();
+            SimulationStats rightStats = right.compute();
+            return left.join().merge(rightStats);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.hotelsortis.api.game.simulation;
+
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보유 스킬 중 4개 이하 조합을 승률 순으로 찾는 로드아웃 탐색기
+ *
+ * 효과가 등록되지 않은 스킬은 전투에 영향이 없으므로 후보에서 빼고(빈 슬롯과 같음),
+ * 남은 조합을 라운드마다 전투 수를 두 배로 늘려 가며 병렬 시뮬레이션합니다.
+ * 라운드가 끝날 때마다 Hoeffding 신뢰 구간으로 가지치기합니다:
+ * 승률 상한이 상위 limit번째 하한보다 낮은 조합은 상위권에 들 수 없으므로 더 시뮬레이션하지 않습니다.
+ * 효과 스킬이 MAX_POOL개를 넘으면 단일 스킬 승률로 먼저 MAX_POOL개를 추립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadoutSearch {
+
+    /**
+     * 최대 장착 스킬 수
+     */
+    public static final int MAX_SKILLS = 4;
+
+    /**
+     * 조합을 만들 최대 스킬 수 (초과 시 단일 스킬 승률로 추림, C(8,1..4) = 162개 조합)
+     */
+    static final int MAX_POOL = 8;
+
+    /**
+     * 첫 라운드 조합당 전투 수 (이후 라운드마다 누적 전투 수가 두 배)
+     */
+    static final int INITIAL_BATTLES = 256;
+
+    /**
+     * 조합당 최대 누적 전투 수
+     */
+    static final int MAX_BATTLES = 4_096;
+
+    /**
+     * 가지치기 신뢰 구간의 전체 오류 확률
+     */
+    private static final double DELTA = 0.05;
+
+    private static final int MAX_ROUNDS = 1 + Integer.numberOfTrailingZeros(MAX_BATTLES / INITIAL_BATTLES);
+
+    /**
+     * 승률 내림차순, 같으면 스킬 수가 적은 쪽
+     */
+    private static final Comparator<Candidate> BY_WIN_RATE =
+            Comparator.comparingDouble((Candidate c) -> -c.stats.getWinRate())
+                    .thenComparingInt(c -> c.skillIds.size());
+
+    private final BattleSimulator battleSimulator;
+    private final TurnProcessor turnProcessor;
+    private final SkillEffectEngine skillEffectEngine;
+
+    /**
+     * 탐색 결과
+     */
+    @Value
+    public static class Result {
+        /** 평가한 조합 수 (빈 로드아웃 포함) */
+        int candidates;
+        /** 실행한 전체 전투 수 */
+        long battles;
+        /** 승률 순 상위 조합 */
+        List<RankedLoadout> loadouts;
+    }
+
+    /**
+     * 조합 1개의 평가 결과
+     */
+    @Value
+    public static class RankedLoadout {
+        /** 효과가 있는 스킬만 (ID 오름차순, 남는 슬롯은 아무 스킬이나 장착 가능) */
+        List<Long> skillIds;
+        long battles;
+        long victories;
+        double winRate;
+        /** Hoeffding 신뢰 구간 */
+        double winRateLow;
+        double winRateHigh;
+    }
+
+    /**
+     * 효과가 등록된 스킬만 ID 오름차순으로 (중복 제거)
+     */
+    public List<Long> effectiveSkills(Collection<Long> skillIds) {
+        return skillIds.stream()
+                .filter(skillEffectEngine::isSkillRegistered)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 보유 스킬 조합을 승률 순으로 정렬
+     *
+     * @param target 대상 층/보스 시나리오 (playerSkills는 무시)
+     * @param ownedSkillIds 보유 스킬 ID
+     * @param limit 반환할 상위 조합 수
+     * @param seed 같은 시드면 같은 결과
+     */
+    public Result rank(SimulationScenario target, Collection<Long> ownedSkillIds, int limit, long seed) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        long start = System.nanoTime();
+        List<Long> pool = effectiveSkills(ownedSkillIds);
+        long battles = 0;
+
+        if (pool.size() > MAX_POOL) {
+            List<Candidate> singles = new ArrayList<>(pool.size());
+            for (Long skillId : pool) {
+                singles.add(candidate(List.of(skillId)));
+            }
+            battles += race(target, singles, MAX_POOL, seed);
+            pool = singles.stream()
+                    .filter(c -> c.alive)
+                    .sorted(BY_WIN_RATE)
+                    .limit(MAX_POOL)
+                    .map(c -> c.skillIds.get(0))
+                    .sorted()
+                    .toList();
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        candidates.add(candidate(List.of()));
+        combinations(pool, 0, new ArrayList<>(MAX_SKILLS), candidates);
+        battles += race(target, candidates, limit, seed);
+
+        List<RankedLoadout> ranked = candidates.stream()
+                .filter(c -> c.alive)
+                .sorted(BY_WIN_RATE)
+                .limit(limit)
+                .map(c -> c.toRanked(radius(c.stats.getBattles(), candidates.size())))
+                .toList();
+
+        log.info("Ranked {} loadouts (floor={}, boss={}, pool={}) with {} battles in {} ms",
+                candidates.size(), target.getFloor(), target.getBossId(), pool, battles,
+                (System.nanoTime() - start) / 1_000_000);
+        return new Result(candidates.size(), battles, ranked);
+    }
+
+    /**
+     * 살아남은 조합이 limit개 이하가 되거나 전투 수 상한에 닿을 때까지 라운드 반복
+     *
+     * @return 실행한 전투 수
+     */
+    private long race(SimulationScenario target, List<Candidate> candidates, int limit, long seed) {
+        List<Candidate> alive = new ArrayList<>(candidates);
+        long battles = 0;
+        int played = 0;
+        int batch = INITIAL_BATTLES;
+
+        for (int round = 0; ; round++) {
+            List<SimulationStats> results = battleSimulator.simulateLoadouts(
+                    target, alive.stream().map(c -> c.loadout).toList(), batch, seed + round);
+            for (int i = 0; i < alive.size(); i++) {
+                alive.get(i).stats.merge(results.get(i));
+            }
+            battles += (long) batch * alive.size();
+            played += batch;
+
+            if (alive.size() <= limit || played >= MAX_BATTLES) {
+                return battles;
+            }
+
+            // 상위 limit번째 하한보다 상한이 낮으면 제외 (모든 조합의 전투 수가 같으므로 반지름도 같음)
+            double radius = radius(played, candidates.size());
+            double threshold = alive.stream()
+                    .mapToDouble(c -> c.stats.getWinRate())
+                    .boxed()
+                    .sorted(Comparator.reverseOrder())
+                    .skip(limit - 1)
+                    .findFirst()
+                    .orElse(0.0) - radius;
+            alive.removeIf(c -> {
+                boolean pruned = c.stats.getWinRate() + radius < threshold;
+                c.alive = !pruned;
+                return pruned;
+            });
+
+            batch = played;
+        }
+    }
+
+    /**
+     * 모든 조합, 모든 라운드에 대해 동시에 성립하도록 나눈 Hoeffding 반지름
+     */
+    private static double radius(long battles, int candidates) {
+        return Math.sqrt(Math.log(2.0 * candidates * MAX_ROUNDS / DELTA) / (2.0 * battles));
+    }
+
+    private void combinations(List<Long> pool, int from, List<Long> current, List<Candidate> out) {
+        for (int i = from; i < pool.size(); i++) {
+            current.add(pool.get(i));
+            out.add(candidate(List.copyOf(current)));
+            if (current.size() < MAX_SKILLS) {
+                combinations(pool, i + 1, current, out);
+            }
+            current.remove(current.size() - 1);
+        }
+    }
+
+    private Candidate candidate(List<Long> skillIds) {
+        return new Candidate(skillIds, turnProcessor.compileLoadout(skillIds));
+    }
+
+    private static final class Candidate {
+        private final List<Long> skillIds;
+        private final Loadout loadout;
+        private final SimulationStats stats = new SimulationStats();
+        private boolean alive = true;
+
+        Candidate(List<Long> skillIds, Loadout loadout) {
+            this.skillIds = skillIds;
+            this.loadout = loadout;
+        }
+
+        RankedLoadout toRanked(double radius) {
+            double winRate = stats.getWinRate();
+            return new RankedLoadout(skillIds, stats.getBattles(), stats.getVictories(), winRate,
+                    Math.max(0.0, winRate - radius), Math.min(1.0, winRate + radius));
+        }
+    }
+}
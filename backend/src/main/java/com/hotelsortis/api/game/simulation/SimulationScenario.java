@@ -0,0 +1,63 @@
+package com.hotelsortis.api.game.simulation;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 시뮬레이션 조건 (불변)
+ * 층/보스/변형 규칙 데이터를 미리 풀어둔 값으로, 시뮬레이션 중에는 DB에 접근하지 않습니다.
+ */
+@Value
+@Builder
+public class SimulationScenario {
+
+    /**
+     * 플레이어 장착 스킬 (최대 4개)
+     */
+    List<Long> playerSkills;
+
+    /**
+     * 층 번호 (결과 표시용)
+     */
+    Integer floor;
+
+    /**
+     * 변형 규칙 ID (null이면 없음)
+     */
+    String mutatorId;
+
+    /**
+     * 보스 ID (보스전이 아니면 null)
+     */
+    String bossId;
+
+    /**
+     * 보스 총 페이즈 수 (보스전이 아니면 0)
+     */
+    int bossTotalPhases;
+
+    /**
+     * 양측 시작 HP
+     */
+    @Builder.Default
+    int initialHp = 100;
+
+    /**
+     * 적 스킬 후보
+     */
+    @Builder.Default
+    List<Long> enemySkillPool = List.of();
+
+    /**
+     * 전투마다 후보에서 뽑을 적 스킬 수 (후보 수 이상이면 후보 전체 사용)
+     */
+    int enemySkillCount;
+
+    /**
+     * 적 AI 레벨 (보스전은 페이즈 순서, 일반 층은 1개)
+     */
+    @Builder.Default
+    List<Integer> aiLevels = List.of(0);
+}
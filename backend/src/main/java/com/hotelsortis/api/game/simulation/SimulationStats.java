@@ -0,0 +1,82 @@
+package com.hotelsortis.api.game.simulation;
+
+import com.hotelsortis.api.entity.Battle;
+
+/**
+ * 시뮬레이션 집계 (fork/join 작업별로 따로 쌓은 뒤 merge)
+ */
+public class SimulationStats {
+
+    /**
+     * 데미지 히스토그램 구간 수 (마지막 구간은 그 이상 전부)
+     */
+    public static final int DAMAGE_BUCKETS = 128;
+
+    long battles;
+    long victories;
+    long defeats;
+    long draws;
+    long totalTurns;
+    long bossPhaseTransitions;
+    final long[] playerDamage = new long[DAMAGE_BUCKETS];
+    final long[] enemyDamage = new long[DAMAGE_BUCKETS];
+
+    void recordBattle(Battle.Status status, int turns) {
+        battles++;
+        totalTurns += turns;
+        switch (status) {
+            case VICTORY -> victories++;
+            case DEFEAT -> defeats++;
+            case DRAW -> draws++;
+            default -> { }
+        }
+    }
+
+    void recordPlayerDamage(int damage) {
+        playerDamage[bucket(damage)]++;
+    }
+
+    void recordEnemyDamage(int damage) {
+        enemyDamage[bucket(damage)]++;
+    }
+
+    SimulationStats merge(SimulationStats other) {
+        battles += other.battles;
+        victories += other.victories;
+        defeats += other.defeats;
+        draws += other.draws;
+        totalTurns += other.totalTurns;
+        bossPhaseTransitions += other.bossPhaseTransitions;
+        for (int i = 0; i < DAMAGE_BUCKETS; i++) {
+            playerDamage[i] += other.playerDamage[i];
+            enemyDamage[i] += other.enemyDamage[i];
+        }
+        return this;
+    }
+
+    private static int bucket(int damage) {
+        return Math.max(0, Math.min(DAMAGE_BUCKETS - 1, damage));
+    }
+
+    public long getBattles() { return battles; }
+    public long getVictories() { return victories; }
+    public long getDefeats() { return defeats; }
+    public long getDraws() { return draws; }
+    public long getTotalTurns() { return totalTurns; }
+    public long getBossPhaseTransitions() { return bossPhaseTransitions; }
+
+    /**
+     * 데미지 값별 발생 횟수 (인덱스 = 데미지)
+     */
+    public long[] getPlayerDamageHistogram() { return playerDamage.clone(); }
+
+    public long[] getEnemyDamageHistogram() { return enemyDamage.clone(); }
+
+    public double getWinRate() {
+        return battles == 0 ? 0.0 : (double) victories / battles;
+    }
+
+    public double getAverageTurns() {
+        return battles == 0 ? 0.0 : (double) totalTurns / battles;
+    }
+}
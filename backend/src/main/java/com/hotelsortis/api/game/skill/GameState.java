@@ -1,18 +1,25 @@
 package com.hotelsortis.api.game.skill;
 
 import com.hotelsortis.api.game.HandEvaluator.HandResult;
+import com.hotelsortis.api.game.dice.DiceSource;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게임 상태를 나타내는 클래스
  * 스킬 효과가 이 상태를 읽고 수정합니다.
  *
+ * 대량 실행(시뮬레이터, 동시 전투)을 위해 할당을 최소화합니다:
+ * 발동 스킬은 long 비트마스크로 기록하고, 메타데이터 맵은 처음 사용할 때 생성하며,
+ * reset()으로 한 인스턴스를 전투 한 쪽(플레이어/적)의 모든 트리거 단계에 재사용할 수 있습니다.
+ *
  * CLAUDE.md 1.2.2절 참조
  */
 @Data
@@ -91,16 +98,63 @@ public class GameState {
     private int rerollsAvailable = 0;
 
     /**
-     * 이번 턴에 발동된 스킬 ID 목록 (중복 발동 방지용)
+     * 이번 턴에 발동된 스킬 (비트 i = 스킬 ID i, 0-63)
      */
-    @Builder.Default
-    private List<Long> triggeredSkillIds = new ArrayList<>();
+    private long triggeredSkillMask;
+
+    /**
+     * 비트마스크 범위를 벗어난 스킬 ID 발동 기록 (필요할 때만 생성)
+     */
+    private List<Long> triggeredOverflowIds;
 
     /**
-     * 추가 메타데이터 (확장용)
+     * 난수 공급원 (재굴림 등 난수가 필요한 스킬이 사용)
      */
     @Builder.Default
-    private java.util.Map<String, Object> metadata = new java.util.HashMap<>();
+    private DiceSource diceSource = DiceSource.secure();
+
+    /**
+     * 추가 메타데이터 (확장용, 처음 조회할 때 생성)
+     */
+    private Map<String, Object> metadata;
+
+    /**
+     * 재사용을 위해 모든 필드 초기화 (난수 공급원 포함)
+     *
+     * @return this
+     */
+    public GameState reset(int[] dice, DiceSource diceSource) {
+        this.dice = dice;
+        this.hand = null;
+        this.damage = 0;
+        this.playerHp = 0;
+        this.enemyHp = 0;
+        this.playerShield = 0;
+        this.enemyShield = 0;
+        this.turnCount = 0;
+        this.currentTurn = null;
+        this.battleId = null;
+        this.playerId = null;
+        this.enemyId = null;
+        this.rerollsAvailable = 0;
+        this.triggeredSkillMask = 0L;
+        this.triggeredOverflowIds = null;
+        this.diceSource = diceSource;
+        if (metadata != null) {
+            metadata.clear();
+        }
+        return this;
+    }
+
+    /**
+     * 메타데이터 맵 (없으면 생성)
+     */
+    public Map<String, Object> getMetadata() {
+        if (metadata == null) {
+            metadata = new HashMap<>();
+        }
+        return metadata;
+    }
 
     /**
      * 주사위 배열 깊은 복사
@@ -126,21 +180,48 @@ public class GameState {
      * 스킬이 이미 발동되었는지 확인
      */
     public boolean hasSkillTriggered(Long skillId) {
-        return triggeredSkillIds.contains(skillId);
+        long id = skillId;
+        if (id >= 0 && id < Long.SIZE) {
+            return (triggeredSkillMask & (1L << id)) != 0;
+        }
+        return triggeredOverflowIds != null && triggeredOverflowIds.contains(skillId);
     }
 
     /**
      * 스킬 발동 기록
      */
     public void markSkillTriggered(Long skillId) {
-        triggeredSkillIds.add(skillId);
+        long id = skillId;
+        if (id >= 0 && id < Long.SIZE) {
+            triggeredSkillMask |= 1L << id;
+            return;
+        }
+        if (triggeredOverflowIds == null) {
+            triggeredOverflowIds = new ArrayList<>(2);
+        }
+        triggeredOverflowIds.add(skillId);
+    }
+
+    /**
+     * 이번 턴에 발동된 스킬 ID 목록 (ID 오름차순, 로그/테스트용)
+     */
+    public List<Long> getTriggeredSkillIds() {
+        List<Long> ids = new ArrayList<>(Long.bitCount(triggeredSkillMask));
+        for (long mask = triggeredSkillMask; mask != 0; mask &= mask - 1) {
+            ids.add((long) Long.numberOfTrailingZeros(mask));
+        }
+        if (triggeredOverflowIds != null) {
+            ids.addAll(triggeredOverflowIds);
+        }
+        return ids;
     }
 
     /**
      * 턴 종료 시 초기화 (발동된 스킬 목록 등)
      */
     public void resetTurn() {
-        triggeredSkillIds.clear();
+        triggeredSkillMask = 0L;
+        triggeredOverflowIds = null;
         rerollsAvailable = 0;
     }
 }
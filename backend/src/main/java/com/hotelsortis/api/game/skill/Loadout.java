@@ -0,0 +1,79 @@
+package com.hotelsortis.api.game.skill;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 스킬 장착 구성
+ *
+ * 장착 스킬 ID 목록을 트리거별 SkillEffect 배열로 미리 분류해 둔 불변 객체입니다.
+ * 전투 시작 시 한 번 만들고(SkillEffectEngine.compileLoadout), 트리거마다 배열만 순회합니다.
+ * 같은 스킬 ID 목록을 쓰는 전투끼리는 엔진 캐시를 통해 같은 인스턴스를 공유합니다.
+ */
+public final class Loadout {
+
+    /**
+     * 스킬이 없는 구성
+     */
+    public static final Loadout EMPTY = new Loadout(List.of(), new EnumMap<>(SkillTrigger.class));
+
+    private static final SkillEffect[] NO_EFFECTS = new SkillEffect[0];
+
+    private final List<Long> skillIds;
+    private final EnumMap<SkillTrigger, SkillEffect[]> effectsByTrigger;
+
+    private Loadout(List<Long> skillIds, EnumMap<SkillTrigger, SkillEffect[]> effectsByTrigger) {
+        this.skillIds = skillIds;
+        this.effectsByTrigger = effectsByTrigger;
+    }
+
+    /**
+     * 등록된 효과로 구성 컴파일 (장착 순서 유지, 미등록 ID는 제외)
+     *
+     * @param skillIds 장착 스킬 ID 목록 (null 요소 없음)
+     * @param registry 스킬 ID -> SkillEffect
+     */
+    static Loadout compile(List<Long> skillIds, Map<Long, SkillEffect> registry) {
+        EnumMap<SkillTrigger, List<SkillEffect>> grouped = new EnumMap<>(SkillTrigger.class);
+        for (Long skillId : skillIds) {
+            SkillEffect effect = registry.get(skillId);
+            if (effect != null) {
+                grouped.computeIfAbsent(effect.getTrigger(), t -> new ArrayList<>(4)).add(effect);
+            }
+        }
+
+        EnumMap<SkillTrigger, SkillEffect[]> effectsByTrigger = new EnumMap<>(SkillTrigger.class);
+        grouped.forEach((trigger, effects) -> effectsByTrigger.put(trigger, effects.toArray(NO_EFFECTS)));
+        return new Loadout(skillIds, effectsByTrigger);
+    }
+
+    /**
+     * 트리거에 해당하는 효과 배열 (장착 순서, 없으면 빈 배열)
+     * 반환된 배열은 공유되므로 수정하지 말 것
+     */
+    SkillEffect[] effectsFor(SkillTrigger trigger) {
+        SkillEffect[] effects = effectsByTrigger.get(trigger);
+        return effects != null ? effects : NO_EFFECTS;
+    }
+
+    /**
+     * 해당 트리거에 발동할 효과가 있는지 확인
+     */
+    public boolean hasEffects(SkillTrigger trigger) {
+        return effectsByTrigger.containsKey(trigger);
+    }
+
+    /**
+     * 장착 스킬 ID 목록 (불변)
+     */
+    public List<Long> getSkillIds() {
+        return skillIds;
+    }
+
+    @Override
+    public String toString() {
+        return "Loadout" + skillIds;
+    }
+}
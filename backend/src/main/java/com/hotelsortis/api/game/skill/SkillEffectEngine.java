@@ -8,7 +8,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 스킬 효과 엔진
@@ -27,6 +28,17 @@ public class SkillEffectEngine {
      */
     private final Map<Long, SkillEffect> skillEffectRegistry = new HashMap<>();
 
+    /**
+     * 캐시할 최대 장착 구성 수 (초과 시 캐시 비움)
+     */
+    private static final int MAX_CACHED_LOADOUTS = 4_096;
+
+    /**
+     * 장착 스킬 ID 목록 -> 컴파일된 구성
+     * 스킬 효과가 등록/변경되면 비움
+     */
+    private final Map<List<Long>, Loadout> loadoutCache = new ConcurrentHashMap<>();
+
     /**
      * 스킬 효과 등록
      * 애플리케이션 시작 시 또는 동적으로 스킬 추가 시 호출
@@ -42,6 +54,7 @@ public class SkillEffectEngine {
         }
 
         skillEffectRegistry.put(skillId, effect);
+        loadoutCache.clear();
         log.info("Registered skill effect: {} ({})", skillId, effect.getSkillName());
     }
 
@@ -54,8 +67,43 @@ public class SkillEffectEngine {
         effects.forEach(this::registerSkillEffect);
     }
 
+    /**
+     * 장착 스킬 ID 목록을 트리거별 실행 구성으로 컴파일 (같은 목록이면 캐시된 인스턴스 반환)
+     * 전투 시작 시 한 번 호출하고, 턴마다 executeSkillsByTrigger(trigger, loadout, state)로 실행
+     *
+     * @param equippedSkillIds 장착한 스킬 ID 목록 (최대 4개, 순서대로 발동)
+     * @return 컴파일된 구성 (null/빈 목록이면 Loadout.EMPTY)
+     */
+    public Loadout compileLoadout(List<Long> equippedSkillIds) {
+        if (equippedSkillIds == null || equippedSkillIds.isEmpty()) {
+            return Loadout.EMPTY;
+        }
+
+        // 최대 4개 스킬만 허용 (CLAUDE.md 1.1.1절)
+        if (equippedSkillIds.size() > 4) {
+            log.error("Too many skills equipped: {}. Max 4 allowed.", equippedSkillIds.size());
+            throw new IllegalArgumentException("Cannot equip more than 4 skills");
+        }
+
+        Loadout cached = loadoutCache.get(equippedSkillIds);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Long> key = equippedSkillIds.stream().filter(Objects::nonNull).toList();
+        if (loadoutCache.size() >= MAX_CACHED_LOADOUTS) {
+            loadoutCache.clear();
+        }
+        return loadoutCache.computeIfAbsent(key, ids -> {
+            Loadout loadout = Loadout.compile(ids, skillEffectRegistry);
+            log.debug("Compiled loadout: {}", loadout);
+            return loadout;
+        });
+    }
+
     /**
      * 특정 트리거에 해당하는 스킬들을 실행
+     * 매번 구성을 조회하므로, 반복 실행 시에는 compileLoadout 결과를 재사용하는 오버로드를 사용할 것
      *
      * @param trigger 스킬 트리거 타입
      * @param equippedSkillIds 플레이어가 장착한 스킬 ID 목록 (최대 4개)
@@ -67,28 +115,27 @@ public class SkillEffectEngine {
         List<Long> equippedSkillIds,
         GameState state
     ) {
-        log.debug("Executing skills for trigger: {} (equipped: {})", trigger, equippedSkillIds);
+        return executeSkillsByTrigger(trigger, compileLoadout(equippedSkillIds), state);
+    }
 
-        if (equippedSkillIds == null || equippedSkillIds.isEmpty()) {
-            log.debug("No skills equipped");
+    /**
+     * 컴파일된 구성에서 특정 트리거에 해당하는 스킬들을 실행
+     *
+     * @param trigger 스킬 트리거 타입
+     * @param loadout 컴파일된 장착 구성
+     * @param state 현재 게임 상태
+     * @return 스킬 효과가 적용된 게임 상태
+     */
+    public GameState executeSkillsByTrigger(
+        SkillTrigger trigger,
+        Loadout loadout,
+        GameState state
+    ) {
+        SkillEffect[] applicableSkills = loadout.effectsFor(trigger);
+        if (applicableSkills.length == 0) {
             return state;
         }
 
-        // 최대 4개 스킬만 허용 (CLAUDE.md 1.1.1절)
-        if (equippedSkillIds.size() > 4) {
-            log.error("Too many skills equipped: {}. Max 4 allowed.", equippedSkillIds.size());
-            throw new IllegalArgumentException("Cannot equip more than 4 skills");
-        }
-
-        // 해당 트리거를 가진 스킬들만 필터링
-        List<SkillEffect> applicableSkills = equippedSkillIds.stream()
-            .map(skillEffectRegistry::get)
-            .filter(effect -> effect != null)
-            .filter(effect -> effect.getTrigger() == trigger)
-            .collect(Collectors.toList());
-
-        log.debug("Found {} applicable skills for trigger {}", applicableSkills.size(), trigger);
-
         // 각 스킬 순차 실행
         GameState currentState = state;
         for (SkillEffect effect : applicableSkills) {
@@ -108,15 +155,16 @@ public class SkillEffectEngine {
                 }
 
                 // 스킬 효과 실행
-                log.info("Applying skill: {} ({})", effect.getSkillId(), effect.getSkillName());
+                log.debug("Applying skill: {} ({})", effect.getSkillId(), effect.getSkillName());
                 GameState newState = effect.apply(currentState);
 
                 // 스킬 발동 기록
                 newState.markSkillTriggered(effect.getSkillId());
 
-                // 효과 설명 로그
-                String description = effect.getEffectDescription(newState);
-                log.info("Skill effect: {}", description);
+                // 효과 설명 로그 (시뮬레이션 등 대량 실행 시 문자열 생성 비용 방지)
+                if (log.isDebugEnabled()) {
+                    log.debug("Skill effect: {}", effect.getEffectDescription(newState));
+                }
 
                 currentState = newState;
 
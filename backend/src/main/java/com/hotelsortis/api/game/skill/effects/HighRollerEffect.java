@@ -7,8 +7,6 @@ import com.hotelsortis.api.game.skill.SkillTrigger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Random;
-
 /**
  * High Roller (하이 롤러)
  *
@@ -25,7 +23,6 @@ public class HighRollerEffect implements SkillEffect {
 
     private static final Long SKILL_ID = 4L;
     private static final String SKILL_NAME = "High Roller";
-    private final Random random = new Random();
 
     @Override
     public GameState apply(GameState state) throws SkillEffectException {
@@ -54,11 +51,11 @@ public class HighRollerEffect implements SkillEffect {
             // 4 미만이면 4-6으로 변경
             if (dice[lowestIndex] < 4) {
                 int oldValue = dice[lowestIndex];
-                int newValue = random.nextInt(3) + 4;  // 4-6
+                int newValue = state.getDiceSource().nextInt(3) + 4;  // 4-6
 
                 state.setDice(lowestIndex, newValue);
 
-                log.info("High Roller: dice[{}] {} -> {} (forced 4+)",
+                log.debug("High Roller: dice[{}] {} -> {} (forced 4+)",
                     lowestIndex, oldValue, newValue);
             }
 
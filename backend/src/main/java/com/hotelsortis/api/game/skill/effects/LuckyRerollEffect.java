@@ -1,5 +1,6 @@
 package com.hotelsortis.api.game.skill.effects;
 
+import com.hotelsortis.api.game.dice.DiceSource;
 import com.hotelsortis.api.game.skill.GameState;
 import com.hotelsortis.api.game.skill.SkillEffect;
 import com.hotelsortis.api.game.skill.SkillEffectException;
@@ -7,8 +8,6 @@ import com.hotelsortis.api.game.skill.SkillTrigger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Random;
-
 /**
  * Lucky Reroll (행운의 재굴림)
  *
@@ -25,7 +24,6 @@ public class LuckyRerollEffect implements SkillEffect {
 
     private static final Long SKILL_ID = 1L;
     private static final String SKILL_NAME = "Lucky Reroll";
-    private final Random random = new Random();
 
     @Override
     public GameState apply(GameState state) throws SkillEffectException {
@@ -41,13 +39,14 @@ public class LuckyRerollEffect implements SkillEffect {
             }
 
             // 주사위 1개를 랜덤하게 재굴림
+            DiceSource random = state.getDiceSource();
             int rerollIndex = random.nextInt(3);  // 0-2
             int oldValue = dice[rerollIndex];
-            int newValue = random.nextInt(6) + 1;  // 1-6
+            int newValue = random.rollDie();  // 1-6
 
             state.setDice(rerollIndex, newValue);
 
-            log.info("Lucky Reroll: dice[{}] {} -> {}", rerollIndex, oldValue, newValue);
+            log.debug("Lucky Reroll: dice[{}] {} -> {}", rerollIndex, oldValue, newValue);
 
             return state;
 
@@ -48,7 +48,7 @@ public class PairMasterEffect implements SkillEffect {
 
                 state.setDamage(newDamage);
 
-                log.info("Pair Master: Pair damage {} -> {} (+{})",
+                log.debug("Pair Master: Pair damage {} -> {} (+{})",
                     originalDamage, newDamage, DAMAGE_BONUS);
             }
 
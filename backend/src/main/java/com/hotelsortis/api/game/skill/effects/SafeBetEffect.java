@@ -46,7 +46,7 @@ public class SafeBetEffect implements SkillEffect {
 
                 state.setDamage(newDamage);
 
-                log.info("Safe Bet: NoHand damage {} -> {} (2x)",
+                log.debug("Safe Bet: NoHand damage {} -> {} (2x)",
                     originalDamage, newDamage);
             }
 
@@ -46,7 +46,7 @@ public class SteadyHandEffect implements SkillEffect {
             }
 
             if (convertCount > 0) {
-                log.info("Steady Hand: Converted {} dice (1 -> 2)", convertCount);
+                log.debug("Steady Hand: Converted {} dice (1 -> 2)", convertCount);
             }
 
             return state;
@@ -0,0 +1,54 @@
+package com.hotelsortis.api.repository;
+
+import com.hotelsortis.api.entity.ArchivedBattle;
+import com.hotelsortis.api.entity.ArchivedBattleSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedBattleRepository extends JpaRepository<ArchivedBattle, Long> {
+
+    /**
+     * events를 뺀 보관 전투 조회 (ArchivedBattleSummary 생성자 순서)
+     */
+    String SELECT_SUMMARY = "SELECT new com.hotelsortis.api.entity.ArchivedBattleSummary(" +
+           "b.id, b.playerId, b.enemyId, b.battleType, b.floor, b.bossId, b.mutatorId, b.status, " +
+           "b.playerHp, b.enemyHp, b.turnCount, b.playerLoadout, b.enemyLoadout, " +
+           "b.diceSeed, b.diceCommitment, b.dicePosition, b.diceChain, b.startedAt, b.endedAt) " +
+           "FROM ArchivedBattle b ";
+
+    @Query(SELECT_SUMMARY + "WHERE b.id = :id")
+    Optional<ArchivedBattleSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * 보관된 전투의 이벤트 레코드만 조회
+     */
+    @Query("SELECT b.events FROM ArchivedBattle b WHERE b.id = :id")
+    Optional<byte[]> findEventsById(@Param("id") Long id);
+
+    /**
+     * 플레이어의 보관된 PvP 전적 조회 (승/패/무)
+     */
+    @Query("SELECT b.status, COUNT(b) FROM ArchivedBattle b WHERE " +
+           "(b.playerId = :playerId OR b.enemyId = :playerId) " +
+           "AND b.battleType = 'PVP' " +
+           "AND b.status IN ('VICTORY', 'DEFEAT', 'DRAW') " +
+           "GROUP BY b.status")
+    List<Object[]> countPvPResultsByPlayerId(@Param("playerId") Long playerId);
+
+    /**
+     * 플레이어의 보관된 PvP 매치 히스토리 조회 (최근 순, events 제외)
+     */
+    @Query(SELECT_SUMMARY + "WHERE " +
+           "(b.playerId = :playerId OR b.enemyId = :playerId) " +
+           "AND b.battleType = 'PVP' " +
+           "AND b.status IN ('VICTORY', 'DEFEAT', 'DRAW') " +
+           "ORDER BY b.endedAt DESC")
+    List<ArchivedBattleSummary> findRecentPvPBattles(@Param("playerId") Long playerId, Pageable pageable);
+}
@@ -0,0 +1,24 @@
+package com.hotelsortis.api.repository;
+
+import com.hotelsortis.api.entity.BattleEventChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BattleEventChunkRepository extends JpaRepository<BattleEventChunk, Long> {
+    List<BattleEventChunk> findByBattleIdOrderByIdAsc(Long battleId);
+    List<BattleEventChunk> findByBattleIdInOrderByIdAsc(Collection<Long> battleIds);
+
+    /**
+     * 보관 완료된 전투의 이벤트 묶음 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM BattleEventChunk c WHERE c.battleId IN :battleIds")
+    int deleteByBattleIdIn(@Param("battleIds") Collection<Long> battleIds);
+}
@@ -3,10 +3,13 @@ package com.hotelsortis.api.repository;
 import com.hotelsortis.api.entity.Battle;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +17,6 @@ import java.util.Optional;
 public interface BattleRepository extends JpaRepository<Battle, Long> {
     List<Battle> findByPlayerIdAndStatus(Long playerId, Battle.Status status);
     Optional<Battle> findByIdAndPlayerId(Long id, Long playerId);
-    int countByPlayerIdAndFloorAndStatus(Long playerId, Integer floor, Battle.Status status);
 
     /**
      * 진행 중인 PvP 전투 찾기 (재접속 처리용)
@@ -50,4 +52,29 @@ public interface BattleRepository extends JpaRepository<Battle, Long> {
            "AND b.status IN ('VICTORY', 'DEFEAT', 'DRAW') " +
            "ORDER BY b.endedAt DESC")
     List<Battle> findRecentPvPBattles(@Param("playerId") Long playerId, Pageable pageable);
+
+    /**
+     * 캠페인 승리 반영 (전투의 런 번호를 비움, 이미 반영했거나 다른 런의 전투면 0)
+     */
+    @Modifying
+    @Query("UPDATE Battle b SET b.campaignRun = NULL WHERE b.id = :id AND b.campaignRun = :run")
+    int claimCampaignVictory(@Param("id") Long id, @Param("run") Integer run);
+
+    /**
+     * 보관 대상 전투 ID 조회 (cutoff 이전에 종료된 전투, ID 순)
+     */
+    @Query("SELECT b.id FROM Battle b WHERE " +
+           "b.status <> 'ONGOING' " +
+           "AND b.endedAt < :cutoff " +
+           "ORDER BY b.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    List<Battle> findByIdIn(Collection<Long> ids);
+
+    /**
+     * 보관 완료된 전투 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Battle b WHERE b.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,12 +2,59 @@ package com.hotelsortis.api.repository;
 
 import com.hotelsortis.api.entity.CampaignProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CampaignProgressRepository extends JpaRepository<CampaignProgress, Long> {
 
     Optional<CampaignProgress> findByPlayerId(Long playerId);
+
+    /**
+     * 여러 플레이어의 진행도 일괄 조회 (진행도가 없는 플레이어는 제외)
+     */
+    List<CampaignProgress> findByPlayerIdIn(Collection<Long> playerIds);
+
+    /**
+     * 여러 플레이어의 진행도 비트마스크만 일괄 조회 (리더보드, 친구 목록, 시즌 집계용)
+     */
+    @Query("SELECT c.playerId AS playerId, c.progressMask AS progressMask FROM CampaignProgress c " +
+           "WHERE c.playerId IN :playerIds")
+    List<ProgressMask> findProgressMasks(@Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * 캠페인 패배 기록: 그 런이 아직 현재 런이면 패배 수를 늘리고 새 런 시작 (CampaignProgress.resetRun과 같은 초기화)
+     * 전투 종료 저장과 같은 트랜잭션에서 호출하며, 런 번호 조건으로 같은 패배를 두 번 세지 않음
+     *
+     * @return 반영된 행 수 (이미 다음 런이면 0)
+     */
+    @Modifying
+    @Query("UPDATE CampaignProgress c SET c.totalDefeats = c.totalDefeats + 1, c.runVictoryCounts = 0, " +
+           "c.currentRunFloor = 1, c.runNumber = c.runNumber + 1, c.updatedAt = :now " +
+           "WHERE c.playerId = :playerId AND c.runNumber = :run")
+    int recordDefeat(@Param("playerId") Long playerId, @Param("run") Integer run, @Param("now") LocalDateTime now);
+
+    /**
+     * 진행도 비트마스크 프로젝션
+     */
+    interface ProgressMask {
+        Long getPlayerId();
+
+        int getProgressMask();
+
+        default boolean isFloorCleared(int floor) {
+            return CampaignProgress.isFloorCleared(getProgressMask(), floor);
+        }
+
+        default int getHighestClearedFloor() {
+            return CampaignProgress.highestClearedFloor(getProgressMask());
+        }
+    }
 }
@@ -0,0 +1,537 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.entity.BattleEventChunk;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.ai.EnemyAi;
+import com.hotelsortis.api.game.ai.RerollPolicy;
+import com.hotelsortis.api.game.dice.DiceCommitments;
+import com.hotelsortis.api.game.dice.DiceSource;
+import com.hotelsortis.api.game.dice.HashDrbgDiceSource;
+import com.hotelsortis.api.game.event.BattleEvent;
+import com.hotelsortis.api.game.event.BattleEventLog;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.repository.BattleEventChunkRepository;
+import com.hotelsortis.api.repository.BattleRepository;
+import com.hotelsortis.api.repository.CampaignProgressRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * 진행 중인 전투 메모리 저장소 (write-behind)
+ *
+ * ONGOING 전투를 메모리에 두고 턴 처리 시 DB를 거치지 않습니다.
+ * 같은 전투의 턴은 전투별 락으로 직렬화되며, battles 테이블에는
+ * 보스 페이즈 전환/전투 종료 시 즉시, 그 외에는 주기적으로 비동기 저장합니다.
+ * 턴 이벤트(BattleEvent)도 전투별로 모아 두었다가 같은 트랜잭션에서 battle_events에 한 묶음으로 추가합니다.
+ * 저장은 단일 스레드에서 순서대로 실행되므로 같은 전투의 이전 상태가 나중 상태를 덮어쓰지 않습니다.
+ * 저장 시 마지막으로 저장된 버전(@Version)을 실어 보내므로, 그 사이 다른 곳(다른 노드, 드래프트 확정 등)에서
+ * 행을 바꿨다면 저장이 실패하고 메모리 사본을 버린 뒤 다음 요청에서 DB에서 다시 적재합니다.
+ * 캠페인 전투의 패배는 종료 상태를 저장하는 트랜잭션에서 campaign_progress에도 기록합니다 (런 종료).
+ *
+ * 노드 로컬 저장소이므로 다중 노드 배포 시 같은 전투의 요청은 같은 노드로 라우팅해야 합니다.
+ */
+@Slf4j
+@Component
+public class ActiveBattleStore {
+
+    private final BattleRepository battleRepository;
+    private final BattleEventChunkRepository battleEventChunkRepository;
+    private final CampaignProgressRepository campaignProgressRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TurnProcessor turnProcessor;
+    private final EnemyAi enemyAi;
+    private final DiceSource seedSource;
+    private final long idleEvictMillis;
+
+    private final Map<Long, ActiveBattle> battles = new ConcurrentHashMap<>();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "battle-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ActiveBattleStore(
+            BattleRepository battleRepository,
+            BattleEventChunkRepository battleEventChunkRepository,
+            CampaignProgressRepository campaignProgressRepository,
+            TransactionTemplate transactionTemplate,
+            TurnProcessor turnProcessor,
+            EnemyAi enemyAi,
+            DiceSource seedSource,
+            @Value("${game.battle.idle-evict-minutes:30}") long idleEvictMinutes
+    ) {
+        this.battleRepository = battleRepository;
+        this.battleEventChunkRepository = battleEventChunkRepository;
+        this.campaignProgressRepository = campaignProgressRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.turnProcessor = turnProcessor;
+        this.enemyAi = enemyAi;
+        this.seedSource = seedSource;
+        this.idleEvictMillis = TimeUnit.MINUTES.toMillis(idleEvictMinutes);
+    }
+
+    /**
+     * 메모리에 올라간 전투 1건
+     * 필드는 execute 콜백 안(전투 락 보유 중)에서만 읽고 수정할 것
+     */
+    public static final class ActiveBattle {
+        private final Battle battle;
+        private final Loadout playerLoadout;
+        private final Loadout enemyLoadout;
+        private final MutatorPipeline mutators;
+        private final RerollPolicy enemyPolicy;
+        private final HashDrbgDiceSource dice;
+        private final TurnProcessor.SideStates states = new TurnProcessor.SideStates();
+        private final BattleEventLog events = new BattleEventLog();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private int bossTotalPhases = -1;
+        private boolean dirty;
+        private boolean evicted;
+        private long lastAccessMillis = System.currentTimeMillis();
+        private volatile long persistedVersion;
+        private CompletableFuture<Void> pendingFlush = CompletableFuture.completedFuture(null);
+
+        private ActiveBattle(Battle battle, Loadout playerLoadout, Loadout enemyLoadout,
+                             MutatorPipeline mutators, RerollPolicy enemyPolicy, HashDrbgDiceSource dice) {
+            this.battle = battle;
+            this.playerLoadout = playerLoadout;
+            this.enemyLoadout = enemyLoadout;
+            this.mutators = mutators;
+            this.enemyPolicy = enemyPolicy;
+            this.dice = dice;
+            this.persistedVersion = battle.getVersion() != null ? battle.getVersion() : 0L;
+        }
+
+        public Battle getBattle() {
+            return battle;
+        }
+
+        public Loadout getPlayerLoadout() {
+            return playerLoadout;
+        }
+
+        public Loadout getEnemyLoadout() {
+            return enemyLoadout;
+        }
+
+        /**
+         * 이 전투의 변형 규칙 파이프라인 (적재 시 한 번 컴파일)
+         */
+        public MutatorPipeline getMutators() {
+            return mutators;
+        }
+
+        /**
+         * 적 AI 재굴림 정책 (적재 시 한 번 조회, 캐시된 결정표)
+         */
+        public RerollPolicy getEnemyPolicy() {
+            return enemyPolicy;
+        }
+
+        public TurnProcessor.SideStates getStates() {
+            return states;
+        }
+
+        /**
+         * 이 전투의 주사위 난수열 (commit된 시드 기반, 시드 없이 종료된 이전 전투는 null)
+         */
+        public HashDrbgDiceSource getDice() {
+            return dice;
+        }
+
+        /**
+         * 보스 총 페이즈 수 (처음 요청 시 한 번만 조회)
+         */
+        public int getBossTotalPhases(IntSupplier loader) {
+            if (bossTotalPhases < 0) {
+                bossTotalPhases = loader.getAsInt();
+            }
+            return bossTotalPhases;
+        }
+
+        /**
+         * 다음 주기 저장 대상으로 표시
+         */
+        public void markDirty() {
+            dirty = true;
+        }
+
+        /**
+         * 이벤트 추가 (다음 저장 시 함께 기록)
+         */
+        public void appendEvent(BattleEvent event) {
+            events.append(event);
+            dirty = true;
+        }
+
+        /**
+         * 한 턴의 결과를 이벤트로 추가
+         *
+         * @param turn playTurn 호출 전 턴 번호
+         */
+        public void appendTurn(int turn, TurnProcessor.TurnOutcome outcome) {
+            events.appendTurn(battle, turn, outcome);
+            dirty = true;
+        }
+    }
+
+    /**
+     * 주사위 시드 생성 및 commitment 설정 (전투 저장 전 호출)
+     */
+    public void commitDice(Battle battle) {
+        byte[] seed = DiceCommitments.newSeed(seedSource);
+        String commitment = DiceCommitments.commitment(seed);
+        battle.setDiceSeed(DiceCommitments.toHex(seed));
+        battle.setDiceCommitment(commitment);
+        battle.setDicePosition(0L);
+        battle.setDiceChain(commitment);
+    }
+
+    /**
+     * 새로 생성된 전투 등록 (트랜잭션 중이면 커밋 후 등록)
+     */
+    public void register(Battle battle) {
+        Battle copy = copyOf(battle);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    battles.putIfAbsent(copy.getId(), newStartedBattle(copy));
+                }
+            });
+        } else {
+            battles.putIfAbsent(copy.getId(), newStartedBattle(copy));
+        }
+    }
+
+    /**
+     * 메모리에 올리지 않고 생성한 전투의 시작 이벤트를 바로 저장 (호출 측 트랜잭션에서)
+     * 드래프트 PvP처럼 시작 직후 다른 곳에서 행이 바뀌는 전투용 (첫 턴에 DB에서 적재)
+     */
+    public void saveStartEvent(Battle battle) {
+        BattleEventLog start = new BattleEventLog();
+        start.append(BattleEvent.start(battle));
+        battleEventChunkRepository.save(BattleEventChunk.builder()
+                .battleId(battle.getId())
+                .eventCount(start.size())
+                .events(start.drain())
+                .build());
+    }
+
+    /**
+     * 전투 락을 잡은 상태로 콜백 실행 (메모리에 없으면 DB에서 적재)
+     *
+     * @throws IllegalArgumentException 전투가 없는 경우
+     */
+    public <T> T execute(Long battleId, Function<ActiveBattle, T> action) {
+        while (true) {
+            ActiveBattle active = battles.get(battleId);
+            if (active == null) {
+                Battle battle = battleRepository.findById(battleId)
+                        .orElseThrow(() -> new IllegalArgumentException("Battle not found"));
+                active = newActiveBattle(copyOf(battle)); // 영속성 컨텍스트와 분리된 사본 보관
+                if (battle.getStatus() == Battle.Status.ONGOING) {
+                    ActiveBattle existing = battles.putIfAbsent(battleId, active);
+                    if (existing != null) {
+                        active = existing;
+                    }
+                } else {
+                    active.evicted = true; // 종료된 전투는 메모리에 두지 않음 (읽기 전용)
+                    return action.apply(active);
+                }
+            }
+
+            active.lock.lock();
+            try {
+                if (active.evicted) {
+                    continue; // 락 대기 중 제거됨 - 다시 적재
+                }
+                active.lastAccessMillis = System.currentTimeMillis();
+                return action.apply(active);
+            } finally {
+                active.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 전투 상태 스냅샷 조회 (메모리 우선, 없으면 DB)
+     */
+    public Optional<Battle> find(Long battleId) {
+        ActiveBattle active = battles.get(battleId);
+        if (active == null) {
+            return battleRepository.findById(battleId);
+        }
+
+        active.lock.lock();
+        try {
+            return Optional.of(copyOf(active.battle));
+        } finally {
+            active.lock.unlock();
+        }
+    }
+
+    /**
+     * 변경 사항을 비동기 저장 (전투 락을 잡은 상태에서 호출)
+     * 종료된 전투는 저장이 끝나면 메모리에서 제거
+     */
+    public void flushAsync(ActiveBattle active) {
+        active.dirty = false;
+        Battle snapshot = copyOf(active.battle);
+        boolean finished = snapshot.getStatus() != Battle.Status.ONGOING;
+        int eventCount = active.events.size();
+        byte[] events = active.events.drain();
+
+        active.pendingFlush = CompletableFuture.runAsync(() -> {
+                    // 앞서 대기 중이던 저장이 올린 버전 기준 (저장은 flushExecutor에서 순서대로 실행)
+                    snapshot.setVersion(active.persistedVersion);
+                    Battle saved = transactionTemplate.execute(tx -> {
+                        if (eventCount > 0) {
+                            battleEventChunkRepository.save(BattleEventChunk.builder()
+                                    .battleId(snapshot.getId())
+                                    .eventCount(eventCount)
+                                    .events(events)
+                                    .build());
+                        }
+                        Battle row = battleRepository.save(snapshot);
+                        if (snapshot.getStatus() == Battle.Status.DEFEAT && snapshot.getCampaignRun() != null) {
+                            campaignProgressRepository.recordDefeat(
+                                    snapshot.getPlayerId(), snapshot.getCampaignRun(), LocalDateTime.now());
+                        }
+                        return row;
+                    });
+                    active.persistedVersion = saved.getVersion();
+                }, flushExecutor)
+                .whenComplete((ignored, error) -> {
+                    if (error != null && isStale(error)) {
+                        log.warn("Discarding stale in-memory battle {} ({} events): row was updated elsewhere",
+                                snapshot.getId(), eventCount);
+                        discard(active);
+                    } else if (error != null) {
+                        log.error("Failed to flush battle {} ({} events)", snapshot.getId(), eventCount, error);
+                        active.lock.lock();
+                        try {
+                            active.events.restore(events);
+                            active.dirty = true; // 다음 주기에 재시도
+                        } finally {
+                            active.lock.unlock();
+                        }
+                    } else if (finished) {
+                        evict(active);
+                    }
+                });
+    }
+
+    /**
+     * 보류 중인 저장까지 DB에 반영될 때까지 대기 (DB 집계 전에 호출)
+     */
+    public void awaitFlushed(Long battleId) {
+        ActiveBattle active = battles.get(battleId);
+        if (active == null) {
+            return;
+        }
+
+        CompletableFuture<Void> pending;
+        active.lock.lock();
+        try {
+            if (active.dirty) {
+                flushAsync(active);
+            }
+            pending = active.pendingFlush;
+        } finally {
+            active.lock.unlock();
+        }
+
+        try {
+            pending.get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing battle " + battleId, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to flush battle " + battleId, e);
+        }
+    }
+
+    /**
+     * 주기적 저장: 변경된 전투 저장, 오래 사용되지 않은 전투는 저장 후 제거
+     */
+    @Scheduled(fixedDelayString = "${game.battle.flush-interval-ms:5000}")
+    public void flushDirty() {
+        long idleBefore = System.currentTimeMillis() - idleEvictMillis;
+        for (ActiveBattle active : battles.values()) {
+            if (!active.lock.tryLock()) {
+                continue; // 턴 처리 중 - 다음 주기에 저장
+            }
+            try {
+                if (active.evicted) {
+                    continue;
+                }
+                if (active.dirty) {
+                    flushAsync(active);
+                }
+                if (active.lastAccessMillis < idleBefore) {
+                    CompletableFuture<Void> pending = active.pendingFlush;
+                    pending.thenRun(() -> evict(active));
+                }
+            } finally {
+                active.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 메모리에 있는 전투 수
+     */
+    public int size() {
+        return battles.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ActiveBattle active : battles.values()) {
+            active.lock.lock();
+            try {
+                if (active.dirty) {
+                    flushAsync(active);
+                }
+            } finally {
+                active.lock.unlock();
+            }
+        }
+
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Battle flush did not finish before shutdown ({} battles in memory)", battles.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void evict(ActiveBattle active) {
+        active.lock.lock();
+        try {
+            if (active.evicted || active.dirty) {
+                return; // 저장 이후 다시 변경됨
+            }
+            active.evicted = true;
+            battles.remove(active.battle.getId(), active);
+        } finally {
+            active.lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 곳에서 행이 바뀌어 메모리 사본이 오래된 경우 (버전 불일치)
+     */
+    private static boolean isStale(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException || cause instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장하지 않고 메모리에서 제거 (다음 요청에서 DB의 최신 상태로 다시 적재)
+     */
+    private void discard(ActiveBattle active) {
+        active.lock.lock();
+        try {
+            active.evicted = true;
+            active.dirty = false;
+            battles.remove(active.battle.getId(), active);
+        } finally {
+            active.lock.unlock();
+        }
+    }
+
+    private ActiveBattle newStartedBattle(Battle battle) {
+        ActiveBattle active = newActiveBattle(battle);
+        active.appendEvent(BattleEvent.start(battle));
+        return active;
+    }
+
+    private ActiveBattle newActiveBattle(Battle battle) {
+        // 시드 없이 생성된 진행 중 전투(이전 버전)는 적재 시점에 commit
+        boolean uncommitted = battle.getDiceSeed() == null && battle.getStatus() == Battle.Status.ONGOING;
+        if (uncommitted) {
+            commitDice(battle);
+        }
+
+        Loadout enemyLoadout = turnProcessor.compileLoadout(battle.getEnemyLoadout().getSkillIds());
+        MutatorPipeline mutators = turnProcessor.compileMutators(battle.getMutatorId());
+        ActiveBattle active = new ActiveBattle(
+                battle,
+                turnProcessor.compileLoadout(battle.getPlayerLoadout().getSkillIds()),
+                enemyLoadout,
+                mutators,
+                battle.getStatus() == Battle.Status.ONGOING
+                        ? enemyAi.policyFor(battle, enemyLoadout, mutators)
+                        : RerollPolicy.NONE,
+                battle.getDiceSeed() != null
+                        ? new HashDrbgDiceSource(DiceCommitments.fromHex(battle.getDiceSeed()),
+                                battle.getDicePosition() != null ? battle.getDicePosition() : 0L)
+                        : null);
+        active.dirty = uncommitted;
+        return active;
+    }
+
+    private static Battle copyOf(Battle battle) {
+        return Battle.builder()
+                .id(battle.getId())
+                .playerId(battle.getPlayerId())
+                .enemyId(battle.getEnemyId())
+                .battleType(battle.getBattleType())
+                .floor(battle.getFloor())
+                .bossId(battle.getBossId())
+                .bossPhase(battle.getBossPhase())
+                .mutatorId(battle.getMutatorId())
+                .status(battle.getStatus())
+                .playerHp(battle.getPlayerHp())
+                .enemyHp(battle.getEnemyHp())
+                .playerShield(battle.getPlayerShield())
+                .enemyShield(battle.getEnemyShield())
+                .turnCount(battle.getTurnCount())
+                .currentTurn(battle.getCurrentTurn())
+                .playerLoadout(battle.getPlayerLoadout())
+                .enemyLoadout(battle.getEnemyLoadout())
+                .draftCompleted(battle.getDraftCompleted())
+                .campaignRun(battle.getCampaignRun())
+                .diceSeed(battle.getDiceSeed())
+                .diceCommitment(battle.getDiceCommitment())
+                .dicePosition(battle.getDicePosition())
+                .diceChain(battle.getDiceChain())
+                .pendingDice(battle.getPendingDice())
+                .rerollsLeft(battle.getRerollsLeft())
+                .version(battle.getVersion())
+                .startedAt(battle.getStartedAt())
+                .endedAt(battle.getEndedAt())
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.entity.ArchivedBattle;
+import com.hotelsortis.api.entity.ArchivedBattleSummary;
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.entity.BattleEventChunk;
+import com.hotelsortis.api.game.event.BattleEvent;
+import com.hotelsortis.api.game.event.BattleEventLog;
+import com.hotelsortis.api.repository.ArchivedBattleRepository;
+import com.hotelsortis.api.repository.BattleEventChunkRepository;
+import com.hotelsortis.api.repository.BattleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 종료된 전투 보관 (battles → battle_archive)
+ *
+ * afterDays일보다 오래전에 종료된 전투를 매일 battle_archive로 옮기고 battles/battle_events에서 지웁니다.
+ * 보관 행은 진행 중에만 쓰는 필드를 버리고 이벤트 묶음을 한 컬럼으로 합쳐 저장하므로,
+ * 자주 쓰는 battles 테이블과 인덱스는 최근 전투 크기로 유지됩니다.
+ * 전적/매치 히스토리/전투 조회는 이 서비스를 거쳐 두 테이블을 함께 읽습니다.
+ */
+@Slf4j
+@Service
+public class BattleArchiveService {
+
+    private final BattleRepository battleRepository;
+    private final BattleEventChunkRepository battleEventChunkRepository;
+    private final ArchivedBattleRepository archivedBattleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int afterDays;
+    private final int batchSize;
+
+    public BattleArchiveService(
+            BattleRepository battleRepository,
+            BattleEventChunkRepository battleEventChunkRepository,
+            ArchivedBattleRepository archivedBattleRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${game.battle.archive.after-days:90}") int afterDays,
+            @Value("${game.battle.archive.batch-size:500}") int batchSize
+    ) {
+        this.battleRepository = battleRepository;
+        this.battleEventChunkRepository = battleEventChunkRepository;
+        this.archivedBattleRepository = archivedBattleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 보관 대상 전투를 batchSize건씩 옮김 (묶음마다 별도 트랜잭션)
+     *
+     * @return 보관한 전투 수
+     */
+    @Scheduled(cron = "${game.battle.archive.cron:0 30 4 * * *}")
+    public int archiveFinishedBattles() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(tx -> archiveBatch(cutoff));
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            log.info("Archived {} battles ended before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = battleRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<BattleEventChunk>> chunksByBattle = new HashMap<>();
+        for (BattleEventChunk chunk : battleEventChunkRepository.findByBattleIdInOrderByIdAsc(ids)) {
+            chunksByBattle.computeIfAbsent(chunk.getBattleId(), id -> new ArrayList<>()).add(chunk);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ArchivedBattle> archived = new ArrayList<>(ids.size());
+        for (Battle battle : battleRepository.findByIdIn(ids)) {
+            archived.add(ArchivedBattle.of(battle, chunksByBattle.getOrDefault(battle.getId(), List.of()), now));
+        }
+
+        archivedBattleRepository.saveAll(archived);
+        archivedBattleRepository.flush();
+        battleEventChunkRepository.deleteByBattleIdIn(ids);
+        battleRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+
+    /**
+     * 플레이어의 PvP 전적 (battles + battle_archive)
+     */
+    @Transactional(readOnly = true)
+    public Map<Battle.Status, Long> countPvPResults(Long playerId) {
+        Map<Battle.Status, Long> counts = new EnumMap<>(Battle.Status.class);
+        addCounts(counts, battleRepository.countPvPResultsByPlayerId(playerId));
+        addCounts(counts, archivedBattleRepository.countPvPResultsByPlayerId(playerId));
+        return counts;
+    }
+
+    /**
+     * 플레이어의 최근 PvP 매치 (battles + battle_archive, 종료 시각 역순)
+     */
+    @Transactional(readOnly = true)
+    public List<Battle> findRecentPvPBattles(Long playerId, int limit) {
+        List<Battle> battles = new ArrayList<>(
+                battleRepository.findRecentPvPBattles(playerId, PageRequest.of(0, limit)));
+        if (battles.size() < limit) {
+            // 보관 행은 항상 battles의 종료 전투보다 오래되었으므로 부족할 때만 읽음
+            archivedBattleRepository.findRecentPvPBattles(playerId, PageRequest.of(0, limit - battles.size()))
+                    .forEach(archived -> battles.add(archived.toBattle()));
+            battles.sort(Comparator.comparing(Battle::getEndedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+        return battles;
+    }
+
+    /**
+     * 보관된 전투 조회 (events 제외, 조회 전용 Battle, 저장하지 말 것)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Battle> findArchived(Long battleId) {
+        return archivedBattleRepository.findSummaryById(battleId).map(ArchivedBattleSummary::toBattle);
+    }
+
+    /**
+     * battle_events의 전투 이벤트 (읽기 전용으로 두지 않음: 방금 저장한 묶음이 복제본에 아직 없을 수 있어 primary에서 읽음)
+     */
+    @Transactional
+    public List<BattleEvent> findHotEvents(Long battleId) {
+        List<BattleEvent> events = new ArrayList<>();
+        battleEventChunkRepository.findByBattleIdOrderByIdAsc(battleId)
+                .forEach(chunk -> events.addAll(BattleEventLog.decode(chunk.getEvents())));
+        return events;
+    }
+
+    /**
+     * 보관된 전투의 이벤트 (보관 후에는 바뀌지 않으므로 복제본에서 읽어도 됨)
+     */
+    @Transactional(readOnly = true)
+    public List<BattleEvent> findArchivedEvents(Long battleId) {
+        return archivedBattleRepository.findEventsById(battleId)
+                .map(BattleEventLog::decode)
+                .orElse(List.of());
+    }
+
+    private static void addCounts(Map<Battle.Status, Long> counts, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            counts.merge((Battle.Status) row[0], (Long) row[1], Long::sum);
+        }
+    }
+}
@@ -4,51 +4,86 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hotelsortis.api.dto.BattleDto;
 import com.hotelsortis.api.entity.Battle;
-import com.hotelsortis.api.entity.Boss;
+import com.hotelsortis.api.entity.PackedLoadout;
 import com.hotelsortis.api.game.HandEvaluator;
-import com.hotelsortis.api.game.skill.GameState;
-import com.hotelsortis.api.game.skill.SkillEffectEngine;
-import com.hotelsortis.api.game.skill.SkillTrigger;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.ai.HoldAdvisor;
+import com.hotelsortis.api.game.ai.HoldMasks;
+import com.hotelsortis.api.game.ai.HoldTable;
+import com.hotelsortis.api.game.boss.BossDefinition;
+import com.hotelsortis.api.game.dice.DiceCommitments;
+import com.hotelsortis.api.game.event.BattleEvent;
+import com.hotelsortis.api.game.event.BattleEventLog;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
 import com.hotelsortis.api.repository.BattleRepository;
-import com.hotelsortis.api.repository.BossRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BattleService {
 
+    /**
+     * idempotency key 응답 보관 시간 (이 시간 안의 재시도는 같은 응답, 지나면 주기적으로 제거)
+     */
+    static final long ROLL_REPLAY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
     private final BattleRepository battleRepository;
-    private final BossRepository bossRepository;
-    private final HandEvaluator handEvaluator;
-    private final SkillEffectEngine skillEffectEngine;
+    private final BattleArchiveService battleArchiveService;
+    private final ContentCatalog contentCatalog;
+    private final TurnProcessor turnProcessor;
     private final MutatorService mutatorService;
     private final ObjectMapper objectMapper;
+    private final ActiveBattleStore activeBattleStore;
+    private final HoldAdvisor holdAdvisor;
+
+    /**
+     * idempotency key별로 이미 처리한 굴림 응답 (재시도 시 턴을 다시 실행하지 않고 그대로 반환)
+     */
+    private final Map<RollKey, CompletedRoll> completedRolls = new ConcurrentHashMap<>();
 
     /**
      * Start a new battle
      */
     @Transactional
     public BattleDto.StartResponse startBattle(BattleDto.StartRequest request) {
+        return startBattle(request, null);
+    }
+
+    /**
+     * Start a new battle as part of a campaign run
+     *
+     * @param campaignRun 캠페인 런 번호 (CampaignProgress.runNumber, 캠페인 밖의 전투는 null)
+     */
+    @Transactional
+    public BattleDto.StartResponse startBattle(BattleDto.StartRequest request, Integer campaignRun) {
         // Validate max 4 skills
         if (request.getEquippedSkills() != null && request.getEquippedSkills().size() > 4) {
             throw new IllegalArgumentException("Maximum 4 skills allowed");
         }
 
-        // Get initial HP based on mutator (endurance = 150, default = 100)
+        // Get initial HP based on mutators (endurance = 150, default = 100)
         String mutatorId = request.getMutatorId();
-        int initialHp = mutatorService.getInitialHp(mutatorId);
+        if (!mutatorService.isValidMutator(mutatorId)) {
+            throw new IllegalArgumentException("Invalid mutator: " + mutatorId);
+        }
+        MutatorPipeline mutators = turnProcessor.compileMutators(mutatorId);
+        int initialHp = mutators.getInitialHp();
 
         Battle battle = Battle.builder()
                 .playerId(request.getPlayerId())
@@ -62,256 +97,349 @@ public class BattleService {
                 .turnCount(1)
                 .currentTurn(Battle.TurnActor.PLAYER)
                 .status(Battle.Status.ONGOING)
-                .playerEquippedSkills(request.getEquippedSkills() != null ?
-                        request.getEquippedSkills().toString() : "[]")
-                .enemyEquippedSkills(request.getEnemySkills() != null ?
-                        request.getEnemySkills().toString() : "[]")
+                .playerLoadout(PackedLoadout.of(request.getEquippedSkills()))
+                .enemyLoadout(PackedLoadout.of(request.getEnemySkills()))
+                .campaignRun(campaignRun)
                 .build();
 
+        activeBattleStore.commitDice(battle);
         battle = battleRepository.save(battle);
+        activeBattleStore.register(battle);
         log.info("Battle started: id={}, playerId={}, floor={}, mutator={}, hp={}",
                 battle.getId(), battle.getPlayerId(), battle.getFloor(), mutatorId, initialHp);
 
-        return BattleDto.fromEntity(battle);
+        BattleDto.StartResponse response = BattleDto.fromEntity(battle);
+        response.setFogActive(mutators.hidesHandName());
+        response.setDiceCommitment(battle.getDiceCommitment());
+        return response;
     }
 
     /**
      * Roll dice and process turn
      * IMPORTANT: Dice are generated SERVER-SIDE only!
+     *
+     * 진행 중인 전투는 ActiveBattleStore의 메모리 상태로 처리하고,
+     * DB 저장은 보스 페이즈 전환/전투 종료 시(즉시) 또는 주기적으로 비동기 수행하며, 전투가 끝난 턴은 저장이 커밋된 뒤 응답합니다.
+     *
+     * 요청에 idempotencyKey가 있으면 같은 키의 재시도는 턴을 다시 실행하지 않고 처음 응답을 replayed = true로 반환합니다.
+     * 확인과 기록은 전투 락 안에서 하므로 동시에 들어온 중복 요청도 한 번만 처리됩니다.
      */
-    @Transactional
     public BattleDto.RollResponse rollDice(Long battleId, BattleDto.RollRequest request) {
-        Battle battle = battleRepository.findByIdAndPlayerId(battleId, request.getPlayerId())
-                .orElseThrow(() -> new IllegalArgumentException("Battle not found"));
+        RollKey key = rollKey(battleId, request);
+        BattleDto.RollResponse completed = completedRoll(key);
+        BattleDto.RollResponse rolled = completed != null ? completed : activeBattleStore.execute(battleId, active -> {
+            BattleDto.RollResponse previous = completedRoll(key);
+            if (previous != null) {
+                log.debug("Duplicate roll request: battleId={}, key={}", battleId, key.getIdempotencyKey());
+                return previous;
+            }
+            validatePlayerTurn(active.getBattle(), request);
 
-        if (battle.getStatus() != Battle.Status.ONGOING) {
-            throw new IllegalStateException("Battle is not ongoing");
-        }
+            TurnProcessor.TurnOutcome outcome = playTurn(active);
+            BattleDto.RollResponse response = toRollResponse(active, outcome);
 
-        if (battle.getCurrentTurn() != Battle.TurnActor.PLAYER) {
-            throw new IllegalStateException("Not player's turn");
-        }
-
-        // Parse equipped skills
-        List<Long> equippedSkills = parseEquippedSkills(battle.getPlayerEquippedSkills());
-        log.debug("Player equipped skills: {}", equippedSkills);
+            // Write-behind: phase transitions and battle end are flushed right away, other turns on the timer
+            active.markDirty();
+            if (outcome.getNewBossPhase() > 0 || active.getBattle().getStatus() != Battle.Status.ONGOING) {
+                activeBattleStore.flushAsync(active);
+            }
 
-        // Check if silence mutator blocks skills this turn
-        String mutatorId = battle.getMutatorId();
-        boolean skillsSilenced = !mutatorService.shouldSkillsExecute(mutatorId);
+            if (key != null) {
+                completedRolls.put(key, new CompletedRoll(
+                        replayOf(response), System.currentTimeMillis() + ROLL_REPLAY_MILLIS));
+            }
+            return response;
+        });
 
-        // 0. BATTLE_START trigger (first turn only)
-        if (battle.getTurnCount() == 1 && !skillsSilenced) {
-            log.info("First turn - executing BATTLE_START skills");
-            GameState initialState = buildGameState(battle, new int[]{0, 0, 0}, null, 0);
-            skillEffectEngine.executeSkillsByTrigger(SkillTrigger.BATTLE_START, equippedSkills, initialState);
+        // 전투 결과는 DB에 반영(캠페인 패배 기록 포함)된 뒤 응답 - 바로 이어지는 startFloor가 끝난 런을 보도록
+        if (!Battle.Status.ONGOING.name().equals(rolled.getStatus())) {
+            activeBattleStore.awaitFlushed(battleId);
         }
+        return rolled;
+    }
 
-        // 1. Roll dice (SERVER-SIDE!)
-        int[] playerDice = handEvaluator.rollDice();
-        String hash = generateDiceHash(playerDice);
-        log.info("Player rolled dice: {}", Arrays.toString(playerDice));
-
-        // 1.5. Apply mutator dice effects (gravity: 1-2 -> 3, chaos: re-roll one)
-        playerDice = mutatorService.applyDiceRollMutator(mutatorId, playerDice);
+    private BattleDto.RollResponse completedRoll(RollKey key) {
+        CompletedRoll completed = key != null ? completedRolls.get(key) : null;
+        return completed != null && !completed.isExpired(System.currentTimeMillis()) ? completed.getResponse() : null;
+    }
 
-        // 2. DICE_ROLL trigger - skills can modify dice (if not silenced)
-        GameState state = buildGameState(battle, playerDice, null, 0);
-        if (!skillsSilenced) {
-            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.DICE_ROLL, equippedSkills, state);
-            playerDice = state.getDice();  // Get modified dice
-            log.debug("After DICE_ROLL skills: dice={}", Arrays.toString(playerDice));
-        }
+    /**
+     * 보관 시간이 지난 idempotency key 응답 제거
+     * (크기 상한으로 비우지 않으므로 보관 시간 안의 재시도는 항상 처음 응답을 받음)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpiredRolls() {
+        long now = System.currentTimeMillis();
+        completedRolls.values().removeIf(completed -> completed.isExpired(now));
+    }
 
-        // 3. Evaluate hand
-        HandEvaluator.HandResult handResult = handEvaluator.evaluate(playerDice);
-        log.info("Player hand: {} (power={})", handResult.getRank(), handResult.getPower());
+    /**
+     * 재시도에 돌려줄 응답 사본 (replayed = true, 호출 측은 이 값으로 턴 종료 후속 처리를 건너뜀)
+     */
+    private static BattleDto.RollResponse replayOf(BattleDto.RollResponse response) {
+        return BattleDto.RollResponse.builder()
+                .dice(response.getDice())
+                .hash(response.getHash())
+                .hand(response.getHand())
+                .damage(response.getDamage())
+                .playerHp(response.getPlayerHp())
+                .enemyHp(response.getEnemyHp())
+                .playerShield(response.getPlayerShield())
+                .enemyShield(response.getEnemyShield())
+                .currentTurn(response.getCurrentTurn())
+                .status(response.getStatus())
+                .enemyTurn(response.getEnemyTurn())
+                .bossPhaseTransition(response.getBossPhaseTransition())
+                .fogActive(response.getFogActive())
+                .skillsSilenced(response.getSkillsSilenced())
+                .replayed(true)
+                .build();
+    }
 
-        // 4. BEFORE_DAMAGE trigger - skills can modify damage (if not silenced)
-        state.setHand(handResult);
-        state.setDamage(handResult.getPower());
-        if (!skillsSilenced) {
-            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.BEFORE_DAMAGE, equippedSkills, state);
+    private static RollKey rollKey(Long battleId, BattleDto.RollRequest request) {
+        if (request == null || request.getIdempotencyKey() == null || request.getIdempotencyKey().isEmpty()) {
+            return null;
         }
-        int playerDamage = state.getDamage();  // Get modified damage
-        log.info("After BEFORE_DAMAGE: damage={}, silenced={}", playerDamage, skillsSilenced);
-
-        // 5. Apply damage to enemy (shield absorbs first)
-        int shieldAbsorbed = Math.min(playerDamage, battle.getEnemyShield());
-        int actualDamage = playerDamage - shieldAbsorbed;
-        int newEnemyShield = battle.getEnemyShield() - shieldAbsorbed;
-        int newEnemyHp = Math.max(0, battle.getEnemyHp() - actualDamage);
-        battle.setEnemyShield(newEnemyShield);
-        battle.setEnemyHp(newEnemyHp);
-        state.setEnemyShield(newEnemyShield);
-        state.setEnemyHp(newEnemyHp);
-        log.info("Damage to enemy: total={}, shieldAbsorbed={}, actualDamage={}", playerDamage, shieldAbsorbed, actualDamage);
-
-        // 6. AFTER_DAMAGE trigger - skills can have post-damage effects (if not silenced)
-        if (!skillsSilenced) {
-            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.AFTER_DAMAGE, equippedSkills, state);
+        if (request.getIdempotencyKey().length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "idempotencyKey must be at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
         }
+        return new RollKey(battleId, request.getPlayerId(), request.getIdempotencyKey());
+    }
+
+    /**
+     * Hold/reroll phase of the player's turn
+     *
+     * 이번 턴 첫 호출은 주사위를 굴려 두기만 하고(재굴림 횟수 소비 없음), 이후 호출은 holdMask에 없는
+     * 주사위만 다시 굴립니다. 턴은 /roll이 이 주사위로 마무리합니다.
+     * 굴린 주사위와 DRBG 위치는 battles 행에 함께 저장되므로, 저장 전에 유실되더라도
+     * 다시 굴리면 같은 주사위가 나옵니다.
+     */
+    public BattleDto.RerollResponse reroll(Long battleId, BattleDto.RollRequest request) {
+        return activeBattleStore.execute(battleId, active -> {
+            Battle battle = active.getBattle();
+            validatePlayerTurn(battle, request);
+
+            int[] dice;
+            int rerollsLeft;
+            if (battle.getPendingDice() == null) {
+                if (request.getHoldMask() != null) {
+                    throw new IllegalStateException("No dice to hold yet - call reroll without holdMask first");
+                }
+                dice = turnProcessor.rollDice(active.getDice());
+                rerollsLeft = TurnProcessor.PLAYER_REROLLS;
+            } else {
+                if (request.getHoldMask() == null) {
+                    throw new IllegalArgumentException("holdMask is required");
+                }
+                if (battle.getRerollsLeft() == null || battle.getRerollsLeft() <= 0) {
+                    throw new IllegalStateException("No rerolls left this turn");
+                }
+                dice = turnProcessor.reroll(
+                        HandEvaluator.diceAt(battle.getPendingDice()), request.getHoldMask(), active.getDice());
+                rerollsLeft = battle.getRerollsLeft() - 1;
+            }
+
+            battle.setPendingDice(HandEvaluator.indexOf(dice[0], dice[1], dice[2]));
+            battle.setRerollsLeft(rerollsLeft);
+            battle.setDicePosition(active.getDice().getPosition());
+            active.markDirty();
+
+            return BattleDto.RerollResponse.builder()
+                    .battleId(battle.getId())
+                    .dice(dice)
+                    .rerollsLeft(rerollsLeft)
+                    .build();
+        });
+    }
 
-        log.info("Player turn complete: dice={}, hand={}, damage={}, enemyHp={}, silenced={}",
-                Arrays.toString(playerDice), handResult.getRank(), playerDamage, newEnemyHp, skillsSilenced);
-
-        // 5. Check if enemy defeated
-        if (newEnemyHp <= 0) {
-            // Boss phase transition check
-            BattleDto.BossPhaseTransition phaseTransition = checkBossPhaseTransition(battle);
-            if (phaseTransition != null) {
-                // Boss has more phases - reset HP, advance phase
-                battleRepository.save(battle);
-                BattleDto.RollResponse response = buildRollResponse(
-                        battle, playerDice, hash, handResult, playerDamage, null, skillsSilenced);
-                response.setBossPhaseTransition(phaseTransition);
-                return response;
+    /**
+     * Suggest the hold that maximizes expected damage for the pending dice
+     * 로드아웃/변형 규칙별로 캐시된 HoldTable 조회만 합니다.
+     */
+    public BattleDto.HoldAdvice getHoldAdvice(Long battleId, Long playerId) {
+        return activeBattleStore.execute(battleId, active -> {
+            Battle battle = active.getBattle();
+            validatePlayerTurn(battle, playerId);
+            if (battle.getPendingDice() == null) {
+                throw new IllegalStateException("No dice to hold yet - call reroll first");
             }
 
-            // Final phase or non-boss: victory
-            battle.setStatus(Battle.Status.VICTORY);
-            battle.setEndedAt(LocalDateTime.now());
-            battleRepository.save(battle);
+            HoldTable table = holdAdvisor.table(active.getPlayerLoadout(), active.getMutators());
+            int index = battle.getPendingDice();
+            int rerollsLeft = battle.getRerollsLeft() != null ? battle.getRerollsLeft() : 0;
+            int best = table.bestMask(rerollsLeft, index);
+
+            List<BattleDto.HoldOption> options = new ArrayList<>(HoldMasks.COUNT);
+            for (int mask = 0; mask < HoldMasks.COUNT; mask++) {
+                options.add(BattleDto.HoldOption.builder()
+                        .holdMask(mask)
+                        .expectedDamage(table.expectedValue(rerollsLeft, index, mask))
+                        .build());
+            }
+
+            return BattleDto.HoldAdvice.builder()
+                    .battleId(battle.getId())
+                    .dice(HandEvaluator.diceAt(index))
+                    .rerollsLeft(rerollsLeft)
+                    .holdMask(best)
+                    .expectedDamage(table.expectedValue(rerollsLeft, index, best))
+                    .options(options)
+                    .build();
+        });
+    }
 
-            return buildRollResponse(battle, playerDice, hash, handResult, playerDamage, null, skillsSilenced);
+    /**
+     * Resolve a PvE battle for up to N turns (or until it ends) in one call
+     * 모든 턴을 전투 락 하나로 처리하고 마지막에 한 번만 저장하며, 저장이 커밋된 뒤에 응답합니다.
+     *
+     * @param turns 최대 진행 턴 수 (null이면 전투 종료까지, 최대 TurnProcessor.MAX_TURNS)
+     */
+    public BattleDto.ResolveResponse resolveBattle(Long battleId, BattleDto.RollRequest request, Integer turns) {
+        int maxTurns = turns != null ? turns : TurnProcessor.MAX_TURNS;
+        if (maxTurns < 1 || maxTurns > TurnProcessor.MAX_TURNS) {
+            throw new IllegalArgumentException("turns must be between 1 and " + TurnProcessor.MAX_TURNS);
         }
 
-        // 6. Enemy turn (PvE AI)
-        BattleDto.EnemyTurnResult enemyTurnResult = processEnemyTurn(battle);
+        BattleDto.ResolveResponse response = activeBattleStore.execute(battleId, active -> {
+            Battle battle = active.getBattle();
+            if (battle.getBattleType() != Battle.BattleType.PVE) {
+                throw new IllegalArgumentException("Only PvE battles can be auto-resolved");
+            }
+            validatePlayerTurn(battle, request);
 
-        // 7. Check if player defeated
-        if (battle.getPlayerHp() <= 0) {
-            battle.setStatus(Battle.Status.DEFEAT);
-            battle.setEndedAt(LocalDateTime.now());
-        }
+            List<BattleDto.RollResponse> results = new ArrayList<>(maxTurns);
+            while (results.size() < maxTurns && battle.getStatus() == Battle.Status.ONGOING) {
+                results.add(toRollResponse(active, playTurn(active)));
+            }
 
-        // 8. Check turn limit (max 10 turns)
-        if (battle.getTurnCount() >= 10 && battle.getStatus() == Battle.Status.ONGOING) {
-            battle.setStatus(Battle.Status.DRAW);
-            battle.setEndedAt(LocalDateTime.now());
-        }
+            active.markDirty();
+            activeBattleStore.flushAsync(active);
 
-        // 9. Increment turn count and set back to player
-        battle.setTurnCount(battle.getTurnCount() + 1);
-        battle.setCurrentTurn(Battle.TurnActor.PLAYER);
+            log.info("Battle resolved: battleId={}, turns={}, status={}",
+                    battle.getId(), results.size(), battle.getStatus());
 
-        battleRepository.save(battle);
+            return BattleDto.ResolveResponse.builder()
+                    .battleId(battle.getId())
+                    .turnsPlayed(results.size())
+                    .status(battle.getStatus().name())
+                    .turns(results)
+                    .build();
+        });
 
-        return buildRollResponse(battle, playerDice, hash, handResult, playerDamage, enemyTurnResult, skillsSilenced);
+        // 여러 턴의 결과를 보여주기 전에 DB에 반영 (저장 실패 시 결과 대신 오류 응답)
+        activeBattleStore.awaitFlushed(battleId);
+        return response;
     }
 
-    /**
-     * Process enemy AI turn
-     */
-    private BattleDto.EnemyTurnResult processEnemyTurn(Battle battle) {
-        // Parse enemy equipped skills
-        List<Long> enemySkills = parseEquippedSkills(battle.getEnemyEquippedSkills());
-        log.debug("Enemy equipped skills: {}", enemySkills);
-
-        // Check if silence mutator blocks skills this turn (enemy gets own roll)
-        String mutatorId = battle.getMutatorId();
-        boolean enemySkillsSilenced = !mutatorService.shouldSkillsExecute(mutatorId);
-
-        // 1. Roll dice for enemy (SERVER-SIDE!)
-        int[] enemyDice = handEvaluator.rollDice();
-        log.info("Enemy rolled dice: {}", Arrays.toString(enemyDice));
-
-        // 1.5. Apply mutator dice effects
-        enemyDice = mutatorService.applyDiceRollMutator(mutatorId, enemyDice);
-
-        // 2. DICE_ROLL trigger - enemy skills can modify dice (if not silenced)
-        GameState state = buildGameState(battle, enemyDice, null, 0);
-        if (!enemySkillsSilenced) {
-            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.DICE_ROLL, enemySkills, state);
-            enemyDice = state.getDice();  // Get modified dice
-            log.debug("After enemy DICE_ROLL skills: dice={}", Arrays.toString(enemyDice));
+    private void validatePlayerTurn(Battle battle, BattleDto.RollRequest request) {
+        validatePlayerTurn(battle, request != null ? request.getPlayerId() : null);
+    }
+
+    private void validatePlayerTurn(Battle battle, Long playerId) {
+        if (playerId == null || !battle.getPlayerId().equals(playerId)) {
+            throw new IllegalArgumentException("Battle not found");
         }
 
-        // 3. Evaluate enemy hand
-        HandEvaluator.HandResult enemyHand = handEvaluator.evaluate(enemyDice);
-        log.info("Enemy hand: {} (power={})", enemyHand.getRank(), enemyHand.getPower());
+        if (battle.getStatus() != Battle.Status.ONGOING) {
+            throw new IllegalStateException("Battle is not ongoing");
+        }
+
+        if (battle.getCurrentTurn() != Battle.TurnActor.PLAYER) {
+            throw new IllegalStateException("Not player's turn");
+        }
+    }
 
-        // 4. BEFORE_DAMAGE trigger - enemy skills can modify damage (if not silenced)
-        state.setHand(enemyHand);
-        state.setDamage(enemyHand.getPower());
-        if (!enemySkillsSilenced) {
-            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.BEFORE_DAMAGE, enemySkills, state);
+    private TurnProcessor.TurnOutcome playTurn(ActiveBattleStore.ActiveBattle active) {
+        Battle battle = active.getBattle();
+        int turn = battle.getTurnCount();
+
+        // Dice settled in the hold/reroll phase (if any) are used for the player's attack
+        int[] playerDice = battle.getPendingDice() != null ? HandEvaluator.diceAt(battle.getPendingDice()) : null;
+        battle.setPendingDice(null);
+        battle.setRerollsLeft(null);
+
+        // Player turn, boss phase check, enemy turn (PvE AI), turn end
+        TurnProcessor.TurnOutcome outcome = turnProcessor.playTurn(TurnProcessor.TurnContext.builder()
+                .battle(battle)
+                .playerSkills(active.getPlayerLoadout())
+                .enemySkills(active.getEnemyLoadout())
+                .mutators(active.getMutators())
+                .enemyPolicy(active.getEnemyPolicy())
+                .bossTotalPhases(() -> active.getBossTotalPhases(() -> findBossTotalPhases(battle.getBossId())))
+                .dice(active.getDice())
+                .states(active.getStates())
+                .build(), playerDice);
+
+        // Dice hash chain over the player's rolls (verifiable once the seed is revealed)
+        battle.setDiceChain(DiceCommitments.nextChain(battle.getDiceChain(), turn, outcome.getPlayerAttack().getRolledDice()));
+        battle.setDicePosition(active.getDice().getPosition());
+
+        // Turn details go to the event log (battle_events) instead of INFO logs
+        active.appendTurn(turn, outcome);
+
+        if (log.isDebugEnabled()) {
+            TurnProcessor.AttackResult playerAttack = outcome.getPlayerAttack();
+            log.debug("Turn complete: battleId={}, dice={}, hand={}, damage={}, playerHp={}, enemyHp={}, status={}",
+                    battle.getId(), Arrays.toString(playerAttack.getDice()), playerAttack.getHand().getRank(),
+                    playerAttack.getDamage(), battle.getPlayerHp(), battle.getEnemyHp(), battle.getStatus());
         }
-        int enemyDamage = state.getDamage();  // Get modified damage
-        log.info("After enemy BEFORE_DAMAGE: damage={}, silenced={}", enemyDamage, enemySkillsSilenced);
-
-        // 5. Apply damage to player (shield absorbs first)
-        int playerShieldAbsorbed = Math.min(enemyDamage, battle.getPlayerShield());
-        int actualDamageToPlayer = enemyDamage - playerShieldAbsorbed;
-        int newPlayerShield = battle.getPlayerShield() - playerShieldAbsorbed;
-        int newPlayerHp = Math.max(0, battle.getPlayerHp() - actualDamageToPlayer);
-        battle.setPlayerShield(newPlayerShield);
-        battle.setPlayerHp(newPlayerHp);
-        state.setPlayerShield(newPlayerShield);
-        state.setPlayerHp(newPlayerHp);
-        log.info("Damage to player: total={}, shieldAbsorbed={}, actualDamage={}", enemyDamage, playerShieldAbsorbed, actualDamageToPlayer);
-
-        // 6. AFTER_DAMAGE trigger - enemy skills can have post-damage effects (if not silenced)
-        if (!enemySkillsSilenced) {
-            state = skillEffectEngine.executeSkillsByTrigger(SkillTrigger.AFTER_DAMAGE, enemySkills, state);
+        return outcome;
+    }
+
+    private BattleDto.RollResponse toRollResponse(ActiveBattleStore.ActiveBattle active, TurnProcessor.TurnOutcome outcome) {
+        Battle battle = active.getBattle();
+        TurnProcessor.AttackResult playerAttack = outcome.getPlayerAttack();
+
+        BattleDto.RollResponse response = buildRollResponse(
+                battle, playerAttack.getDice(), battle.getDiceChain(), playerAttack.getHand(), playerAttack.getDamage(),
+                toEnemyTurnResult(outcome.getEnemyAttack()), playerAttack.isSkillsSilenced(),
+                active.getMutators().hidesHandName());
+
+        if (outcome.getNewBossPhase() > 0) {
+            response.setBossPhaseTransition(buildBossPhaseTransition(battle, outcome.getNewBossPhase()));
         }
 
-        log.info("Enemy turn complete: dice={}, hand={}, damage={}, playerHp={}, silenced={}",
-                Arrays.toString(enemyDice), enemyHand.getRank(), enemyDamage, newPlayerHp, enemySkillsSilenced);
+        return response;
+    }
+
+    private BattleDto.EnemyTurnResult toEnemyTurnResult(TurnProcessor.AttackResult enemyAttack) {
+        if (enemyAttack == null) {
+            return null;
+        }
 
         return BattleDto.EnemyTurnResult.builder()
-                .dice(enemyDice)
+                .dice(enemyAttack.getDice())
                 .hand(BattleDto.HandResult.builder()
-                        .rank(enemyHand.getRank().getNameEn())
-                        .rankKR(enemyHand.getRankKR())
-                        .power(enemyHand.getPower())
+                        .rank(enemyAttack.getHand().getRank().getNameEn())
+                        .rankKR(enemyAttack.getHand().getRankKR())
+                        .power(enemyAttack.getHand().getPower())
                         .build())
-                .damage(enemyDamage)
+                .damage(enemyAttack.getDamage())
                 .build();
     }
 
+    private int findBossTotalPhases(String bossId) {
+        return contentCatalog.findBossDefinition(bossId)
+                .map(BossDefinition::getTotalPhases)
+                .orElse(0);
+    }
+
     /**
-     * Check if boss has more phases. If so, transition to next phase.
-     * Returns BossPhaseTransition if transition happened, null otherwise.
+     * Build phase transition info (with the new phase's quote) after the boss advanced a phase.
      */
-    private BattleDto.BossPhaseTransition checkBossPhaseTransition(Battle battle) {
-        if (battle.getBossId() == null) return null;
-
-        Boss boss = bossRepository.findById(battle.getBossId()).orElse(null);
+    private BattleDto.BossPhaseTransition buildBossPhaseTransition(Battle battle, int nextPhase) {
+        BossDefinition boss = contentCatalog.findBossDefinition(battle.getBossId()).orElse(null);
         if (boss == null) return null;
 
-        int currentPhase = battle.getBossPhase() != null ? battle.getBossPhase() : 1;
-        if (currentPhase >= boss.getTotalPhases()) {
-            return null; // Final phase defeated
-        }
-
-        // Transition to next phase
-        int nextPhase = currentPhase + 1;
-        battle.setBossPhase(nextPhase);
-        battle.setEnemyHp(100); // HP resets to 100 per phase
-
-        log.info("Boss {} phase transition: {} -> {} (totalPhases={})",
-                battle.getBossId(), currentPhase, nextPhase, boss.getTotalPhases());
-
-        // Get quote for the new phase (default to English)
-        String quote = null;
-        try {
-            if (boss.getQuotes() != null) {
-                var quotesNode = objectMapper.readTree(boss.getQuotes());
-                String phaseKey = "phase" + nextPhase + "_en";
-                if (quotesNode.has(phaseKey)) {
-                    quote = quotesNode.get(phaseKey).asText();
-                }
-            }
-        } catch (Exception e) {
-            log.error("Failed to parse boss quotes", e);
-        }
+        log.debug("Boss {} phase transition: {} -> {} (totalPhases={})",
+                battle.getBossId(), nextPhase - 1, nextPhase, boss.getTotalPhases());
 
         return BattleDto.BossPhaseTransition.builder()
                 .bossId(battle.getBossId())
                 .newPhase(nextPhase)
                 .totalPhases(boss.getTotalPhases())
-                .quote(quote)
+                .quote(boss.getQuote("phase" + nextPhase, "en")) // default to English
                 .build();
     }
 
@@ -322,7 +450,8 @@ public class BattleService {
             HandEvaluator.HandResult handResult,
             int damage,
             BattleDto.EnemyTurnResult enemyTurn,
-            boolean skillsSilenced
+            boolean skillsSilenced,
+            boolean fogActive
     ) {
         return BattleDto.RollResponse.builder()
                 .dice(playerDice)
@@ -340,77 +469,108 @@ public class BattleService {
                 .currentTurn(battle.getCurrentTurn().name())
                 .status(battle.getStatus().name())
                 .enemyTurn(enemyTurn)
-                .fogActive(mutatorService.shouldHideHandName(battle.getMutatorId()))
+                .fogActive(fogActive)
                 .skillsSilenced(skillsSilenced)
                 .build();
     }
 
     /**
-     * Generate hash for dice result verification
-     */
-    private String generateDiceHash(int[] dice) {
-        try {
-            String data = Arrays.toString(dice) + System.currentTimeMillis();
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data.getBytes());
-            return HexFormat.of().formatHex(hash).substring(0, 16);
-        } catch (NoSuchAlgorithmException e) {
-            return "hash-error";
-        }
-    }
-
-    /**
-     * Parse equipped skill IDs from JSON string
+     * Get current battle status
      */
-    private List<Long> parseEquippedSkills(String skillsJson) {
-        if (skillsJson == null || skillsJson.trim().isEmpty() || skillsJson.equals("[]")) {
-            return Collections.emptyList();
-        }
-
-        try {
-            return objectMapper.readValue(skillsJson, new TypeReference<List<Long>>() {});
-        } catch (Exception e) {
-            log.error("Failed to parse equipped skills: {}", skillsJson, e);
-            return Collections.emptyList();
-        }
-    }
+    public BattleDto.BattleStatus getBattleStatus(Long battleId) {
+        Battle battle = activeBattleStore.find(battleId)
+                .or(() -> battleArchiveService.findArchived(battleId))
+                .orElseThrow(() -> new IllegalArgumentException("Battle not found"));
 
-    /**
-     * Build GameState from current battle state
-     */
-    private GameState buildGameState(Battle battle, int[] dice, HandEvaluator.HandResult hand, int damage) {
-        return GameState.builder()
-                .dice(dice)
-                .hand(hand)
-                .damage(damage)
+        return BattleDto.BattleStatus.builder()
+                .battleId(battle.getId())
                 .playerHp(battle.getPlayerHp())
                 .enemyHp(battle.getEnemyHp())
                 .playerShield(battle.getPlayerShield())
                 .enemyShield(battle.getEnemyShield())
                 .turnCount(battle.getTurnCount())
                 .currentTurn(battle.getCurrentTurn().name())
+                .status(battle.getStatus().name())
+                .pendingDice(battle.getPendingDice() != null ? HandEvaluator.diceAt(battle.getPendingDice()) : null)
+                .rerollsLeft(battle.getRerollsLeft())
+                .build();
+    }
+
+    /**
+     * Reveal the dice seed of a finished battle (commit-reveal verification)
+     */
+    public BattleDto.DiceReveal revealDice(Long battleId) {
+        Battle battle = activeBattleStore.find(battleId)
+                .or(() -> battleArchiveService.findArchived(battleId))
+                .orElseThrow(() -> new IllegalArgumentException("Battle not found"));
+
+        if (battle.getStatus() == Battle.Status.ONGOING) {
+            throw new IllegalStateException("Dice seed is revealed after the battle ends");
+        }
+        if (battle.getDiceSeed() == null) {
+            throw new IllegalStateException("Battle has no dice commitment");
+        }
+
+        return BattleDto.DiceReveal.builder()
                 .battleId(battle.getId())
-                .playerId(battle.getPlayerId())
-                .enemyId(battle.getEnemyId())
+                .commitment(battle.getDiceCommitment())
+                .seed(battle.getDiceSeed())
+                .finalChain(battle.getDiceChain())
+                .bytesConsumed(battle.getDicePosition())
                 .build();
     }
 
     /**
-     * Get current battle status
+     * Get the battle's event log and the state rebuilt from it
      */
-    public BattleDto.BattleStatus getBattleStatus(Long battleId) {
+    public BattleDto.EventLogResponse getBattleEvents(Long battleId) {
+        activeBattleStore.awaitFlushed(battleId);
+
         Battle battle = battleRepository.findById(battleId)
+                .or(() -> battleArchiveService.findArchived(battleId))
                 .orElseThrow(() -> new IllegalArgumentException("Battle not found"));
 
-        return BattleDto.BattleStatus.builder()
+        List<BattleEvent> events = battleArchiveService.findHotEvents(battleId);
+        if (events.isEmpty()) {
+            events = battleArchiveService.findArchivedEvents(battleId);
+        }
+
+        Battle replayed = BattleEventLog.replay(Battle.builder().id(battle.getId()).build(), events);
+
+        return BattleDto.EventLogResponse.builder()
                 .battleId(battle.getId())
-                .playerHp(battle.getPlayerHp())
-                .enemyHp(battle.getEnemyHp())
-                .playerShield(battle.getPlayerShield())
-                .enemyShield(battle.getEnemyShield())
-                .turnCount(battle.getTurnCount())
-                .currentTurn(battle.getCurrentTurn().name())
-                .status(battle.getStatus().name())
+                .events(events.stream().map(this::toEventEntry).toList())
+                .replayed(BattleDto.BattleStatus.builder()
+                        .battleId(replayed.getId())
+                        .playerHp(replayed.getPlayerHp())
+                        .enemyHp(replayed.getEnemyHp())
+                        .playerShield(replayed.getPlayerShield())
+                        .enemyShield(replayed.getEnemyShield())
+                        .turnCount(replayed.getTurnCount())
+                        .currentTurn(replayed.getCurrentTurn().name())
+                        .status(replayed.getStatus().name())
+                        .build())
+                .build();
+    }
+
+    private BattleDto.EventEntry toEventEntry(BattleEvent event) {
+        List<Long> skillIds = new ArrayList<>(Long.bitCount(event.getTriggeredSkillMask()));
+        for (long mask = event.getTriggeredSkillMask(); mask != 0; mask &= mask - 1) {
+            skillIds.add((long) Long.numberOfTrailingZeros(mask));
+        }
+
+        return BattleDto.EventEntry.builder()
+                .type(event.getType().name())
+                .turn(event.getTurn())
+                .actor(event.getType() == BattleEvent.Type.ATTACK ? event.getActor().name() : null)
+                .rolledDice(event.getRolledDice())
+                .dice(event.getDice())
+                .hand(event.getHandRank() != null ? event.getHandRank().getNameEn() : null)
+                .damage(event.getDamage())
+                .skillsActivated(skillIds)
+                .skillsSilenced(event.isSkillsSilenced())
+                .bossPhase(event.getBossPhase())
+                .status(event.getType() == BattleEvent.Type.END ? event.getStatus().name() : null)
                 .build();
     }
 
@@ -419,37 +579,8 @@ public class BattleService {
      */
     @Transactional
     public Battle createPvPBattle(com.hotelsortis.api.entity.Player player1, com.hotelsortis.api.entity.Player player2) {
-        // Player 1의 장착 스킬
-        String player1SkillsJson = player1.getEquippedSkillIds();
-        List<Long> player1Skills = Collections.emptyList();
-        if (player1SkillsJson != null && !player1SkillsJson.isEmpty()) {
-            try {
-                player1Skills = objectMapper.readValue(player1SkillsJson, new TypeReference<List<Long>>() {});
-            } catch (Exception e) {
-                log.error("Failed to parse player1 skills JSON", e);
-            }
-        }
-
-        // Player 2의 장착 스킬
-        String player2SkillsJson = player2.getEquippedSkillIds();
-        List<Long> player2Skills = Collections.emptyList();
-        if (player2SkillsJson != null && !player2SkillsJson.isEmpty()) {
-            try {
-                player2Skills = objectMapper.readValue(player2SkillsJson, new TypeReference<List<Long>>() {});
-            } catch (Exception e) {
-                log.error("Failed to parse player2 skills JSON", e);
-            }
-        }
-
-        // Convert skills to JSON
-        String player1SkillsJsonStr = "[]";
-        String player2SkillsJsonStr = "[]";
-        try {
-            player1SkillsJsonStr = objectMapper.writeValueAsString(player1Skills);
-            player2SkillsJsonStr = objectMapper.writeValueAsString(player2Skills);
-        } catch (Exception e) {
-            log.error("Failed to convert skills to JSON", e);
-        }
+        PackedLoadout player1Skills = parseEquippedSkillIds(player1);
+        PackedLoadout player2Skills = parseEquippedSkillIds(player2);
 
         Battle battle = Battle.builder()
                 .playerId(player1.getId())
@@ -460,11 +591,13 @@ public class BattleService {
                 .turnCount(1)
                 .currentTurn(Battle.TurnActor.PLAYER)
                 .status(Battle.Status.ONGOING)
-                .playerEquippedSkills(player1SkillsJsonStr)
-                .enemyEquippedSkills(player2SkillsJsonStr)
+                .playerLoadout(player1Skills)
+                .enemyLoadout(player2Skills)
                 .build();
 
+        activeBattleStore.commitDice(battle);
         battle = battleRepository.save(battle);
+        activeBattleStore.register(battle);
 
         log.info("Created PvP battle: {} - Player {} (ELO: {}) vs Player {} (ELO: {})",
                 battle.getId(), player1.getId(), player1.getElo(), player2.getId(), player2.getElo());
@@ -486,16 +619,51 @@ public class BattleService {
                 .turnCount(1)
                 .currentTurn(Battle.TurnActor.PLAYER)
                 .status(Battle.Status.ONGOING)
-                .playerEquippedSkills("[]") // Empty until draft completes
-                .enemyEquippedSkills("[]")
                 .draftCompleted(false)
                 .build();
 
+        activeBattleStore.commitDice(battle);
         battle = battleRepository.save(battle);
+        // 드래프트 확정이 행을 바꾸므로 메모리에 올리지 않고 시작 이벤트만 기록
+        activeBattleStore.saveStartEvent(battle);
 
         log.info("Created PvP battle with draft: {} - Player {} (ELO: {}) vs Player {} (ELO: {})",
                 battle.getId(), player1.getId(), player1.getElo(), player2.getId(), player2.getElo());
 
         return battle;
     }
+
+    /**
+     * 플레이어 프로필의 장착 스킬 JSON을 전투용 로드아웃으로 변환 (실패 시 빈 로드아웃)
+     */
+    private PackedLoadout parseEquippedSkillIds(com.hotelsortis.api.entity.Player player) {
+        String skillsJson = player.getEquippedSkillIds();
+        if (skillsJson == null || skillsJson.isEmpty()) {
+            return PackedLoadout.EMPTY;
+        }
+
+        try {
+            return PackedLoadout.of(objectMapper.readValue(skillsJson, new TypeReference<List<Long>>() {}));
+        } catch (Exception e) {
+            log.error("Failed to parse equipped skills of player {}: {}", player.getId(), skillsJson, e);
+            return PackedLoadout.EMPTY;
+        }
+    }
+
+    @Value
+    private static class RollKey {
+        Long battleId;
+        Long playerId;
+        String idempotencyKey;
+    }
+
+    @Value
+    private static class CompletedRoll {
+        BattleDto.RollResponse response;
+        long expiresAtMillis;
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
 }
@@ -1,12 +1,11 @@
 package com.hotelsortis.api.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hotelsortis.api.dto.BattleDto;
 import com.hotelsortis.api.dto.CampaignDto;
 import com.hotelsortis.api.entity.*;
 import com.hotelsortis.api.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,15 +18,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CampaignService {
 
-    private final FloorRepository floorRepository;
-    private final BossRepository bossRepository;
-    private final MutatorRepository mutatorRepository;
+    private final ContentCatalog contentCatalog;
+    private final MutatorService mutatorService;
     private final CampaignProgressRepository campaignProgressRepository;
     private final BattleRepository battleRepository;
     private final BattleService battleService;
-    private final SkillRepository skillRepository;
-    private final PlayerSkillRepository playerSkillRepository;
-    private final ObjectMapper objectMapper;
+    private final ActiveBattleStore activeBattleStore;
+    private final OwnedSkillCache ownedSkillCache;
 
     /**
      * Get campaign progress for a player
@@ -35,7 +32,8 @@ public class CampaignService {
     @Transactional(readOnly = true)
     public CampaignDto.CampaignProgressResponse getCampaignProgress(Long playerId, String language) {
         CampaignProgress progress = getOrCreateProgress(playerId);
-        List<Floor> floors = floorRepository.findAllByOrderByIdAsc();
+        ContentCatalog.Snapshot content = contentCatalog.current();
+        List<Floor> floors = content.getFloors();
 
         List<CampaignDto.FloorStatus> floorStatuses = new ArrayList<>();
         for (Floor floor : floors) {
@@ -44,28 +42,19 @@ public class CampaignService {
 
             String bossName = null;
             if (floor.getBossId() != null) {
-                bossName = bossRepository.findById(floor.getBossId())
+                bossName = content.findBoss(floor.getBossId())
                         .map(boss -> boss.getName(language))
                         .orElse(null);
             }
 
-            // Fetch mutator info
-            String mutatorName = null;
-            String mutatorDescription = null;
-            String mutatorIcon = null;
-            if (floor.getMutatorId() != null) {
-                var mutator = mutatorRepository.findById(floor.getMutatorId()).orElse(null);
-                if (mutator != null) {
-                    mutatorName = mutator.getName(language);
-                    mutatorDescription = mutator.getDescription(language);
-                    mutatorIcon = mutator.getIcon();
-                }
-            }
+            // Fetch mutator info (stacked mutators are joined in apply order)
+            MutatorInfo mutator = describeMutators(floor.getMutatorId(), language);
 
             floorStatuses.add(CampaignDto.FloorStatus.builder()
                     .floor(floor.getId())
                     .floorType(floor.getFloorType().name())
                     .battleCount(floor.getBattleCount())
+                    .battlesWon(progress.getRunVictories(floor.getId()))
                     .cleared(cleared)
                     .locked(locked)
                     .description(floor.getDescription(language))
@@ -75,16 +64,16 @@ public class CampaignService {
                     .skillRewardRarity(floor.getSkillRewardRarity() != null ?
                             floor.getSkillRewardRarity().name() : null)
                     .mutatorId(floor.getMutatorId())
-                    .mutatorName(mutatorName)
-                    .mutatorDescription(mutatorDescription)
-                    .mutatorIcon(mutatorIcon)
+                    .mutatorName(mutator.getName())
+                    .mutatorDescription(mutator.getDescription())
+                    .mutatorIcon(mutator.getIcon())
                     .build());
         }
 
         Map<String, Boolean> bossesDefeated = new LinkedHashMap<>();
-        bossesDefeated.put(BossId.MAMMON.getValue(), Boolean.TRUE.equals(progress.getMammonDefeated()));
-        bossesDefeated.put(BossId.ELIGOR.getValue(), Boolean.TRUE.equals(progress.getEligorDefeated()));
-        bossesDefeated.put(BossId.LUCIFUGE.getValue(), Boolean.TRUE.equals(progress.getLucifugeDefeated()));
+        for (BossId bossId : BossId.values()) {
+            bossesDefeated.put(bossId.getValue(), progress.isBossDefeated(bossId));
+        }
 
         return CampaignDto.CampaignProgressResponse.builder()
                 .playerId(playerId)
@@ -105,6 +94,7 @@ public class CampaignService {
     public CampaignDto.StartFloorResponse startFloor(
             Long playerId, int floorNum, List<Long> equippedSkillIds, String language) {
 
+        // A defeat already ended its run when the battle was saved (ActiveBattleStore → recordDefeat)
         CampaignProgress progress = getOrCreateProgress(playerId);
 
         // Validate floor access
@@ -112,15 +102,19 @@ public class CampaignService {
             throw new IllegalStateException("Floor " + floorNum + " is locked. Clear floor " + (floorNum - 1) + " first.");
         }
 
-        Floor floor = floorRepository.findById(floorNum)
-                .orElseThrow(() -> new IllegalArgumentException("Floor not found: " + floorNum));
+        Floor floor = contentCatalog.getFloor(floorNum);
 
         // Determine battle index (how many battles already completed on this floor in current run)
-        int completedBattles = countCompletedBattlesOnFloor(playerId, floorNum);
-        int battleIndex = completedBattles + 1;
+        int battleIndex = progress.getRunVictories(floorNum) + 1;
 
+        // Restarting from floor 1 after completing it begins a new run
+        boolean newRun = false;
         if (battleIndex > floor.getBattleCount()) {
-            throw new IllegalStateException("All battles on floor " + floorNum + " already completed.");
+            if (floorNum != 1) {
+                throw new IllegalStateException("All battles on floor " + floorNum + " already completed.");
+            }
+            newRun = true;
+            battleIndex = 1;
         }
 
         // Build enemy skills based on AI level
@@ -135,9 +129,14 @@ public class CampaignService {
                 .bossId(floor.getBossId())
                 .bossPhase(floor.getFloorType() == Floor.FloorType.BOSS ? 1 : null)
                 .enemySkills(enemySkillIds)
+                .mutatorId(floor.getMutatorId())
                 .build();
 
-        BattleDto.StartResponse battleResponse = battleService.startBattle(battleRequest);
+        // A new run gets a new run number before its first battle is created
+        if (newRun) {
+            progress.resetRun();
+        }
+        BattleDto.StartResponse battleResponse = battleService.startBattle(battleRequest, progress.getRunNumber());
 
         // Update progress
         progress.setCurrentRunFloor(floorNum);
@@ -148,25 +147,15 @@ public class CampaignService {
         String bossName = null;
         Integer bossTotalPhases = null;
         if (floor.getBossId() != null) {
-            Boss boss = bossRepository.findById(floor.getBossId()).orElse(null);
+            Boss boss = contentCatalog.findBoss(floor.getBossId()).orElse(null);
             if (boss != null) {
                 bossName = boss.getName(language);
                 bossTotalPhases = boss.getTotalPhases();
             }
         }
 
-        // Fetch mutator info
-        String mutatorName = null;
-        String mutatorDescription = null;
-        String mutatorIcon = null;
-        if (floor.getMutatorId() != null) {
-            var mutator = mutatorRepository.findById(floor.getMutatorId()).orElse(null);
-            if (mutator != null) {
-                mutatorName = mutator.getName(language);
-                mutatorDescription = mutator.getDescription(language);
-                mutatorIcon = mutator.getIcon();
-            }
-        }
+        // Fetch mutator info (stacked mutators are joined in apply order)
+        MutatorInfo mutator = describeMutators(floor.getMutatorId(), language);
 
         return CampaignDto.StartFloorResponse.builder()
                 .battleId(battleResponse.getBattleId())
@@ -181,9 +170,9 @@ public class CampaignService {
                 .bossPhase(floor.getFloorType() == Floor.FloorType.BOSS ? 1 : null)
                 .bossTotalPhases(bossTotalPhases)
                 .mutatorId(floor.getMutatorId())
-                .mutatorName(mutatorName)
-                .mutatorDescription(mutatorDescription)
-                .mutatorIcon(mutatorIcon)
+                .mutatorName(mutator.getName())
+                .mutatorDescription(mutator.getDescription())
+                .mutatorIcon(mutator.getIcon())
                 .build();
     }
 
@@ -194,7 +183,10 @@ public class CampaignService {
     public CampaignDto.FloorCompleteResponse completeFloorBattle(
             Long playerId, Long battleId, String language) {
 
-        Battle battle = battleRepository.findById(battleId)
+        // 전투 결과가 DB에 반영된 뒤 승리 여부 확인 (write-behind 저장 대기)
+        activeBattleStore.awaitFlushed(battleId);
+
+        Battle battle = battleRepository.findByIdAndPlayerId(battleId, playerId)
                 .orElseThrow(() -> new IllegalArgumentException("Battle not found: " + battleId));
 
         if (battle.getStatus() != Battle.Status.VICTORY) {
@@ -202,26 +194,34 @@ public class CampaignService {
         }
 
         int floorNum = battle.getFloor();
-        Floor floor = floorRepository.findById(floorNum)
-                .orElseThrow(() -> new IllegalArgumentException("Floor not found: " + floorNum));
+        Floor floor = contentCatalog.getFloor(floorNum);
 
         CampaignProgress progress = getOrCreateProgress(playerId);
 
-        // Count completed battles on this floor
-        int completedBattles = countCompletedBattlesOnFloor(playerId, floorNum);
+        // Count this victory in the current run: only battles started in this run, and each one once
+        // (the battle's run number is cleared atomically, so repeated or concurrent calls are ignored)
+        boolean counted = battle.getCampaignRun() != null
+                && battle.getCampaignRun() == progress.getRunNumber()
+                && battleRepository.claimCampaignVictory(battle.getId(), battle.getCampaignRun()) == 1;
+        if (counted) {
+            progress.recordRunVictory(floorNum);
+        }
+        int completedBattles = progress.getRunVictories(floorNum);
 
         boolean floorCleared = completedBattles >= floor.getBattleCount();
         boolean skillRewardAvailable = false;
         List<CampaignDto.SkillRewardOption> offeredSkills = null;
 
         if (floorCleared) {
-            // Mark floor as cleared
-            progress.markFloorCleared(floorNum);
-            progress.setTotalVictories(progress.getTotalVictories() + 1);
-
-            // Mark boss defeated
-            if (floor.getFloorType() == Floor.FloorType.BOSS && floor.getBossId() != null) {
-                markBossDefeated(progress, BossId.fromValue(floor.getBossId()));
+            if (counted) {
+                // Mark floor as cleared
+                progress.markFloorCleared(floorNum);
+                progress.setTotalVictories(progress.getTotalVictories() + 1);
+
+                // Mark boss defeated
+                if (floor.getFloorType() == Floor.FloorType.BOSS && floor.getBossId() != null) {
+                    progress.markBossDefeated(BossId.fromValue(floor.getBossId()));
+                }
             }
 
             // Skill reward for boss floors
@@ -229,7 +229,9 @@ public class CampaignService {
                 skillRewardAvailable = true;
                 offeredSkills = getSkillRewardOptionsInternal(playerId, floor, language);
             }
+        }
 
+        if (counted) {
             campaignProgressRepository.save(progress);
         }
 
@@ -251,8 +253,7 @@ public class CampaignService {
     public List<CampaignDto.SkillRewardOption> getSkillRewardOptions(
             Long playerId, int floorNum, String language) {
 
-        Floor floor = floorRepository.findById(floorNum)
-                .orElseThrow(() -> new IllegalArgumentException("Floor not found: " + floorNum));
+        Floor floor = contentCatalog.getFloor(floorNum);
 
         if (floor.getSkillRewardRarity() == null) {
             throw new IllegalStateException("Floor " + floorNum + " does not offer skill rewards");
@@ -266,8 +267,7 @@ public class CampaignService {
      */
     @Transactional
     public void selectSkillReward(Long playerId, int floorNum, Long selectedSkillId) {
-        Floor floor = floorRepository.findById(floorNum)
-                .orElseThrow(() -> new IllegalArgumentException("Floor not found: " + floorNum));
+        Floor floor = contentCatalog.getFloor(floorNum);
 
         if (floor.getSkillRewardRarity() == null) {
             throw new IllegalStateException("Floor " + floorNum + " does not offer skill rewards");
@@ -275,37 +275,18 @@ public class CampaignService {
 
         // Get the offered skills (same rarity, unowned)
         Skill.Rarity rarity = Skill.Rarity.valueOf(floor.getSkillRewardRarity().name());
-        List<Skill> unownedSkills = skillRepository.findUnownedByRarity(rarity, playerId);
+        List<Skill> unownedSkills = ownedSkillCache.getUnownedByRarity(playerId, rarity);
 
         // Unlock ALL offered skills (per CLAUDE.md: all 3 are permanently unlocked)
-        // We unlock up to 3 skills of this rarity
-        int count = 0;
-        for (Skill skill : unownedSkills) {
-            if (count >= 3) break;
-            if (!playerSkillRepository.existsByPlayerIdAndSkillId(playerId, skill.getId())) {
-                PlayerSkill ps = PlayerSkill.builder()
-                        .playerId(playerId)
-                        .skillId(skill.getId())
-                        .build();
-                playerSkillRepository.save(ps);
-                count++;
-            }
-        }
+        // We unlock up to 3 skills of this rarity (ownership is re-checked on the primary, owned ones are skipped)
+        List<Skill> unlocked = ownedSkillCache.unlock(playerId,
+                unownedSkills.subList(0, Math.min(3, unownedSkills.size())));
+        int count = unlocked.size();
 
         log.info("Player {} selected skill {} on floor {}. Unlocked {} skills total.",
                 playerId, selectedSkillId, floorNum, count);
     }
 
-    /**
-     * Record a defeat on a floor
-     */
-    @Transactional
-    public void recordDefeat(Long playerId) {
-        CampaignProgress progress = getOrCreateProgress(playerId);
-        progress.setTotalDefeats(progress.getTotalDefeats() + 1);
-        campaignProgressRepository.save(progress);
-    }
-
     // --- Internal helpers ---
 
     private CampaignProgress getOrCreateProgress(Long playerId) {
@@ -318,10 +299,6 @@ public class CampaignService {
                 });
     }
 
-    private int countCompletedBattlesOnFloor(Long playerId, int floor) {
-        return battleRepository.countByPlayerIdAndFloorAndStatus(playerId, floor, Battle.Status.VICTORY);
-    }
-
     private List<Long> assignEnemySkills(Floor floor) {
         int skillCount = floor.getEnemySkillCount();
         if (skillCount <= 0) return Collections.emptyList();
@@ -332,6 +309,17 @@ public class CampaignService {
         }
 
         // For normal/elite floors, pick random skills based on AI level
+        List<Long> candidates = new ArrayList<>(getEnemySkillCandidates(floor));
+        Collections.shuffle(candidates);
+        return candidates.stream()
+                .limit(skillCount)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Skill pool that normal/elite floor enemies draw from, based on AI level
+     */
+    public List<Long> getEnemySkillCandidates(Floor floor) {
         Skill.Rarity maxRarity = switch (floor.getAiLevel()) {
             case 0 -> Skill.Rarity.Common;
             case 1 -> Skill.Rarity.Rare;
@@ -339,86 +327,60 @@ public class CampaignService {
             default -> Skill.Rarity.Legendary;
         };
 
-        List<Skill> candidates = skillRepository.findByRarity(maxRarity);
+        List<Skill> candidates = contentCatalog.getSkillsByRarity(maxRarity);
         if (candidates.isEmpty()) {
-            candidates = skillRepository.findByRarity(Skill.Rarity.Common);
+            candidates = contentCatalog.getSkillsByRarity(Skill.Rarity.Common);
         }
 
-        Collections.shuffle(candidates);
         return candidates.stream()
-                .limit(skillCount)
                 .map(Skill::getId)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get boss skills for a specific phase from phase_config JSON
+     * Get boss skills for a specific phase (precompiled from phase_config)
      */
     public List<Long> getBossPhaseSkills(BossId bossId, int phase) {
-        Boss boss = bossRepository.findById(bossId.getValue()).orElse(null);
-        if (boss == null) return Collections.emptyList();
-
-        try {
-            JsonNode config = objectMapper.readTree(boss.getPhaseConfig());
-            JsonNode phaseNode = config.get("phase" + phase);
-            if (phaseNode == null || !phaseNode.has("skills")) return Collections.emptyList();
-
-            List<String> skillCodes = new ArrayList<>();
-            phaseNode.get("skills").forEach(node -> skillCodes.add(node.asText()));
-
-            // Convert skill codes to IDs
-            return skillCodes.stream()
-                    .map(code -> skillRepository.findBySkillCode(code).map(Skill::getId).orElse(null))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Failed to parse boss phase config for {} phase {}", bossId, phase, e);
-            return Collections.emptyList();
-        }
+        return contentCatalog.findBossDefinition(bossId)
+                .map(definition -> definition.getPhaseSkillIds(phase))
+                .orElse(Collections.emptyList());
     }
 
     /**
      * Get boss quote for a specific phase
      */
     public String getBossQuote(BossId bossId, int phase, String language) {
-        Boss boss = bossRepository.findById(bossId.getValue()).orElse(null);
-        if (boss == null || boss.getQuotes() == null) return null;
-
-        try {
-            JsonNode quotes = objectMapper.readTree(boss.getQuotes());
-            String key = "phase" + phase + "_" + language;
-            if (quotes.has(key)) {
-                return quotes.get(key).asText();
-            }
-            // Fallback to English
-            String fallbackKey = "phase" + phase + "_en";
-            if (quotes.has(fallbackKey)) {
-                return quotes.get(fallbackKey).asText();
-            }
-            // Try intro
-            String introKey = "intro_" + language;
-            if (phase == 1 && quotes.has(introKey)) {
-                return quotes.get(introKey).asText();
-            }
-        } catch (Exception e) {
-            log.error("Failed to parse boss quotes for {}", bossId, e);
-        }
-        return null;
+        return contentCatalog.findBossDefinition(bossId)
+                .map(definition -> definition.getPhaseQuote(phase, language))
+                .orElse(null);
+    }
+
+    /**
+     * Display fields for a floor's mutators (null fields if none)
+     */
+    @Value
+    private static class MutatorInfo {
+        String name;
+        String description;
+        String icon;
     }
 
-    private void markBossDefeated(CampaignProgress progress, BossId bossId) {
-        switch (bossId) {
-            case MAMMON -> progress.setMammonDefeated(true);
-            case ELIGOR -> progress.setEligorDefeated(true);
-            case LUCIFUGE -> progress.setLucifugeDefeated(true);
+    private MutatorInfo describeMutators(String mutatorIds, String language) {
+        List<Mutator> mutators = mutatorService.getMutators(mutatorIds);
+        if (mutators.isEmpty()) {
+            return new MutatorInfo(null, null, null);
         }
+        return new MutatorInfo(
+                mutators.stream().map(m -> m.getName(language)).collect(Collectors.joining(" + ")),
+                mutators.stream().map(m -> m.getDescription(language)).collect(Collectors.joining(" ")),
+                mutators.stream().map(Mutator::getIcon).filter(Objects::nonNull).collect(Collectors.joining()));
     }
 
     private List<CampaignDto.SkillRewardOption> getSkillRewardOptionsInternal(
             Long playerId, Floor floor, String language) {
 
         Skill.Rarity rarity = Skill.Rarity.valueOf(floor.getSkillRewardRarity().name());
-        List<Skill> unownedSkills = skillRepository.findUnownedByRarity(rarity, playerId);
+        List<Skill> unownedSkills = new ArrayList<>(ownedSkillCache.getUnownedByRarity(playerId, rarity));
 
         Collections.shuffle(unownedSkills);
         return unownedSkills.stream()
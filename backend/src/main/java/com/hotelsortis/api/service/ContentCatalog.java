@@ -0,0 +1,313 @@
+package com.hotelsortis.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelsortis.api.entity.Boss;
+import com.hotelsortis.api.entity.BossId;
+import com.hotelsortis.api.entity.Floor;
+import com.hotelsortis.api.entity.Mutator;
+import com.hotelsortis.api.entity.Skill;
+import com.hotelsortis.api.game.boss.BossDefinition;
+import com.hotelsortis.api.repository.BossRepository;
+import com.hotelsortis.api.repository.FloorRepository;
+import com.hotelsortis.api.repository.MutatorRepository;
+import com.hotelsortis.api.repository.SkillRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 정적 콘텐츠 카탈로그 (층/보스/변형 규칙/스킬)
+ *
+ * floors, bosses, mutators, skills 테이블은 실행 중 바뀌지 않으므로 시작 시 한 번 읽어
+ * 불변 스냅샷으로 보관하고, 서비스는 DB 대신 이 스냅샷에서 조회합니다.
+ * 관리자 리로드 시 새 스냅샷을 만든 뒤 참조만 교체하므로 조회 중인 요청은 이전 스냅샷을 그대로 봅니다.
+ *
+ * 보스는 phase_config/quotes JSON을 BossDefinition으로 미리 컴파일해 둡니다.
+ *
+ * 스냅샷의 엔티티는 모든 요청이 공유하므로 수정하지 말 것.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentCatalog {
+
+    private final FloorRepository floorRepository;
+    private final BossRepository bossRepository;
+    private final MutatorRepository mutatorRepository;
+    private final SkillRepository skillRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    void load() {
+        reload();
+    }
+
+    /**
+     * DB에서 콘텐츠를 다시 읽어 스냅샷 교체
+     *
+     * @return 새 스냅샷
+     */
+    public synchronized Snapshot reload() {
+        Snapshot next = new Snapshot(
+                snapshot.getVersion() + 1,
+                LocalDateTime.now(),
+                floorRepository.findAllByOrderByIdAsc(),
+                bossRepository.findAll(),
+                mutatorRepository.findAll(),
+                skillRepository.findAllOrderById(),
+                objectMapper);
+        snapshot = next;
+
+        log.info("Content catalog v{} loaded: {} floors, {} bosses, {} mutators, {} skills",
+                next.getVersion(), next.getFloors().size(), next.getBossCount(),
+                next.getMutatorCount(), next.getSkills().size());
+        return next;
+    }
+
+    /**
+     * 현재 스냅샷 (한 요청 안에서 일관된 조회가 필요할 때 사용)
+     */
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    public List<Floor> getFloors() {
+        return snapshot.getFloors();
+    }
+
+    public Optional<Floor> findFloor(int floorNum) {
+        return snapshot.findFloor(floorNum);
+    }
+
+    /**
+     * @throws IllegalArgumentException 층이 없으면
+     */
+    public Floor getFloor(int floorNum) {
+        return findFloor(floorNum)
+                .orElseThrow(() -> new IllegalArgumentException("Floor not found: " + floorNum));
+    }
+
+    public Optional<Boss> findBoss(String bossId) {
+        return snapshot.findBoss(bossId);
+    }
+
+    /**
+     * 컴파일된 보스 정의 (페이즈별 스킬 ID, HP, 언어별 대사)
+     */
+    public Optional<BossDefinition> findBossDefinition(BossId bossId) {
+        return snapshot.findBossDefinition(bossId);
+    }
+
+    public Optional<BossDefinition> findBossDefinition(String bossId) {
+        return snapshot.findBossDefinition(bossId);
+    }
+
+    public Optional<Mutator> findMutator(String mutatorId) {
+        return snapshot.findMutator(mutatorId);
+    }
+
+    public List<Skill> getSkills() {
+        return snapshot.getSkills();
+    }
+
+    public Optional<Skill> findSkill(Long skillId) {
+        return snapshot.findSkill(skillId);
+    }
+
+    public Optional<Skill> findSkillByCode(String skillCode) {
+        return snapshot.findSkillByCode(skillCode);
+    }
+
+    public List<Skill> getSkillsByRarity(Skill.Rarity rarity) {
+        return snapshot.getSkillsByRarity(rarity);
+    }
+
+    /**
+     * 여러 ID로 조회 (요청 순서 유지, 없는 ID와 중복은 제외)
+     */
+    public List<Skill> getSkillsByIds(Collection<Long> skillIds) {
+        return snapshot.getSkillsByIds(skillIds);
+    }
+
+    /**
+     * 불변 콘텐츠 스냅샷
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, null, List.of(), List.of(), List.of(), List.of(), null);
+
+        @Getter
+        private final long version;
+        @Getter
+        private final LocalDateTime loadedAt;
+        @Getter
+        private final List<Floor> floors;
+        @Getter
+        private final List<Skill> skills;
+
+        private final Map<Integer, Floor> floorsById;
+        private final Map<String, Boss> bosses;
+        private final Map<BossId, BossDefinition> bossDefinitions;
+        private final Map<String, Mutator> mutators;
+        private final Map<Long, Skill> skillsById;
+        private final Map<String, Skill> skillsByCode;
+        private final Map<Skill.Rarity, List<Skill>> skillsByRarity;
+        private final Map<Skill.Rarity, BitSet> rarityMasks;
+
+        Snapshot(long version, LocalDateTime loadedAt, List<Floor> floors, List<Boss> bosses,
+                 List<Mutator> mutators, List<Skill> skills, ObjectMapper objectMapper) {
+            this.version = version;
+            this.loadedAt = loadedAt;
+            this.floors = floors.stream()
+                    .sorted(Comparator.comparing(Floor::getId))
+                    .toList();
+            this.skills = skills.stream()
+                    .sorted(Comparator.comparing(Skill::getId))
+                    .toList();
+            this.floorsById = index(this.floors, Floor::getId);
+            this.bosses = index(bosses, Boss::getId);
+            this.mutators = index(mutators, Mutator::getId);
+            this.skillsById = index(this.skills, Skill::getId);
+            this.skillsByCode = index(this.skills, Skill::getSkillCode);
+
+            Map<Skill.Rarity, List<Skill>> byRarity = new EnumMap<>(Skill.Rarity.class);
+            for (Skill.Rarity rarity : Skill.Rarity.values()) {
+                byRarity.put(rarity, this.skills.stream()
+                        .filter(skill -> skill.getRarity() == rarity)
+                        .toList());
+            }
+            this.skillsByRarity = Collections.unmodifiableMap(byRarity);
+
+            // 희귀도별 스킬 비트셋 (비트 i = 스킬 ID i), 보유 스킬 비트셋과 AND 연산용
+            Map<Skill.Rarity, BitSet> masks = new EnumMap<>(Skill.Rarity.class);
+            for (Skill.Rarity rarity : Skill.Rarity.values()) {
+                BitSet mask = new BitSet();
+                byRarity.get(rarity).forEach(skill -> mask.set(skill.getId().intValue()));
+                masks.put(rarity, mask);
+            }
+            this.rarityMasks = Collections.unmodifiableMap(masks);
+
+            Map<BossId, BossDefinition> definitions = new EnumMap<>(BossId.class);
+            for (Boss boss : bosses) {
+                try {
+                    BossDefinition definition = BossDefinition.compile(boss, objectMapper, this::findSkillIdByCode);
+                    definitions.put(definition.getBossId(), definition);
+                } catch (IllegalArgumentException e) {
+                    log.error("Failed to compile boss definition for {}", boss.getId(), e);
+                }
+            }
+            this.bossDefinitions = Collections.unmodifiableMap(definitions);
+        }
+
+        public int getBossCount() {
+            return bosses.size();
+        }
+
+        public int getMutatorCount() {
+            return mutators.size();
+        }
+
+        public Optional<Floor> findFloor(int floorNum) {
+            return Optional.ofNullable(floorsById.get(floorNum));
+        }
+
+        public Optional<Boss> findBoss(String bossId) {
+            return bossId != null ? Optional.ofNullable(bosses.get(bossId)) : Optional.empty();
+        }
+
+        public Optional<BossDefinition> findBossDefinition(BossId bossId) {
+            return bossId != null ? Optional.ofNullable(bossDefinitions.get(bossId)) : Optional.empty();
+        }
+
+        public Optional<BossDefinition> findBossDefinition(String bossId) {
+            return BossId.find(bossId).flatMap(this::findBossDefinition);
+        }
+
+        public Optional<Mutator> findMutator(String mutatorId) {
+            return mutatorId != null ? Optional.ofNullable(mutators.get(mutatorId)) : Optional.empty();
+        }
+
+        public Optional<Skill> findSkill(Long skillId) {
+            return skillId != null ? Optional.ofNullable(skillsById.get(skillId)) : Optional.empty();
+        }
+
+        public Optional<Skill> findSkillByCode(String skillCode) {
+            return skillCode != null ? Optional.ofNullable(skillsByCode.get(skillCode)) : Optional.empty();
+        }
+
+        private Optional<Long> findSkillIdByCode(String skillCode) {
+            return findSkillByCode(skillCode).map(Skill::getId);
+        }
+
+        public List<Skill> getSkillsByRarity(Skill.Rarity rarity) {
+            return skillsByRarity.getOrDefault(rarity, List.of());
+        }
+
+        /**
+         * 희귀도별 스킬 비트셋 (복사본이므로 자유롭게 수정 가능)
+         */
+        public BitSet getRarityMask(Skill.Rarity rarity) {
+            BitSet mask = rarityMasks.get(rarity);
+            return mask != null ? (BitSet) mask.clone() : new BitSet();
+        }
+
+        /**
+         * 비트셋에 포함된 스킬 (ID 순, 카탈로그에 없는 ID는 제외)
+         */
+        public List<Skill> getSkillsByMask(BitSet mask) {
+            List<Skill> result = new ArrayList<>(mask.cardinality());
+            for (int id = mask.nextSetBit(0); id >= 0; id = mask.nextSetBit(id + 1)) {
+                Skill skill = skillsById.get((long) id);
+                if (skill != null) {
+                    result.add(skill);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        public List<Skill> getSkillsByIds(Collection<Long> skillIds) {
+            if (skillIds == null || skillIds.isEmpty()) {
+                return List.of();
+            }
+
+            List<Skill> result = new ArrayList<>(skillIds.size());
+            for (Long skillId : new LinkedHashSet<>(skillIds)) {
+                Skill skill = skillsById.get(skillId);
+                if (skill != null) {
+                    result.add(skill);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+            Map<K, V> map = new HashMap<>(values.size() * 2);
+            for (V value : values) {
+                map.put(key.apply(value), value);
+            }
+            return Collections.unmodifiableMap(map);
+        }
+    }
+}
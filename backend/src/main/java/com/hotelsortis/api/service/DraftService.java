@@ -5,9 +5,9 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hotelsortis.api.dto.DraftDto;
 import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.entity.PackedLoadout;
 import com.hotelsortis.api.entity.Skill;
 import com.hotelsortis.api.repository.BattleRepository;
-import com.hotelsortis.api.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -31,7 +31,7 @@ import java.util.stream.Collectors;
 public class DraftService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final SkillRepository skillRepository;
+    private final ContentCatalog contentCatalog;
     private final BattleRepository battleRepository;
     private final ObjectMapper objectMapper;
 
@@ -51,8 +51,8 @@ public class DraftService {
     public DraftDto.DraftState initializeDraft(Long battleId, Long player1Id, Long player2Id, String lang) {
         log.info("Initializing draft for battle {} - Player {} vs Player {}", battleId, player1Id, player2Id);
 
-        // Get all available skills from database
-        List<Skill> allSkills = skillRepository.findAll();
+        // Get all available skills from the content catalog
+        List<Skill> allSkills = contentCatalog.getSkills();
 
         // Convert to SkillInfo with i18n
         List<DraftDto.SkillInfo> skillPool = allSkills.stream()
@@ -127,7 +127,7 @@ public class DraftService {
 
             // Reload pool with i18n
             List<Long> poolIds = getPoolSkillIds(battleId);
-            List<Skill> poolSkills = skillRepository.findAllById(poolIds);
+            List<Skill> poolSkills = contentCatalog.getSkillsByIds(poolIds);
             state.setPool(poolSkills.stream()
                     .map(skill -> toSkillInfo(skill, lang))
                     .collect(Collectors.toList()));
@@ -201,7 +201,7 @@ public class DraftService {
         addPlayerPick(battleId, playerNum, skillId);
 
         // Get skill name for response
-        Skill skill = skillRepository.findById(skillId).orElse(null);
+        Skill skill = contentCatalog.findSkill(skillId).orElse(null);
         String skillName = skill != null ? getSkillName(skill, lang) : "Unknown";
 
         // Advance to next pick
@@ -285,14 +285,10 @@ public class DraftService {
         Battle battle = battleRepository.findById(battleId)
                 .orElseThrow(() -> new IllegalStateException("Battle not found: " + battleId));
 
-        try {
-            battle.setPlayerEquippedSkills(objectMapper.writeValueAsString(player1SkillIds));
-            battle.setEnemyEquippedSkills(objectMapper.writeValueAsString(player2SkillIds));
-            battle.setDraftCompleted(true);
-            battleRepository.save(battle);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize skills", e);
-        }
+        battle.setPlayerLoadout(PackedLoadout.of(player1SkillIds));
+        battle.setEnemyLoadout(PackedLoadout.of(player2SkillIds));
+        battle.setDraftCompleted(true);
+        battleRepository.save(battle);
 
         // Clean up Redis keys
         cleanupDraft(battleId);
@@ -406,7 +402,7 @@ public class DraftService {
         List<Long> pickIds = getPlayerPickIds(battleId, playerNum);
         if (pickIds.isEmpty()) return new ArrayList<>();
 
-        List<Skill> skills = skillRepository.findAllById(pickIds);
+        List<Skill> skills = contentCatalog.getSkillsByIds(pickIds);
         // Maintain order
         Map<Long, Skill> skillMap = skills.stream()
                 .collect(Collectors.toMap(Skill::getId, s -> s));
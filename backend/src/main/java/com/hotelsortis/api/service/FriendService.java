@@ -6,6 +6,7 @@ import com.hotelsortis.api.entity.Friend;
 import com.hotelsortis.api.entity.Friend.FriendStatus;
 import com.hotelsortis.api.entity.Player;
 import com.hotelsortis.api.repository.BlockListRepository;
+import com.hotelsortis.api.repository.CampaignProgressRepository;
 import com.hotelsortis.api.repository.FriendRepository;
 import com.hotelsortis.api.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +30,7 @@ public class FriendService {
     private final FriendRepository friendRepository;
     private final BlockListRepository blockListRepository;
     private final PlayerRepository playerRepository;
+    private final CampaignProgressRepository campaignProgressRepository;
 
     // ==================== Friend Operations ====================
 
@@ -159,8 +162,19 @@ public class FriendService {
 
         List<Friend> friends = friendRepository.findByPlayerIdAndStatus(playerId, FriendStatus.ACCEPTED);
 
+        // Campaign progress for all friends in one query
+        Map<Long, Integer> highestFloors = friends.isEmpty() ? Map.of() : campaignProgressRepository.findProgressMasks(
+                        friends.stream().map(friend -> friend.getFriend().getId()).toList())
+                .stream()
+                .collect(Collectors.toMap(CampaignProgressRepository.ProgressMask::getPlayerId,
+                        CampaignProgressRepository.ProgressMask::getHighestClearedFloor));
+
         List<SocialDto.FriendResponse> friendResponses = friends.stream()
-                .map(friend -> SocialDto.FriendResponse.fromEntity(friend, friend.getFriend()))
+                .map(friend -> {
+                    SocialDto.FriendResponse response = SocialDto.FriendResponse.fromEntity(friend, friend.getFriend());
+                    response.setHighestFloorCleared(highestFloors.getOrDefault(friend.getFriend().getId(), 0));
+                    return response;
+                })
                 .collect(Collectors.toList());
 
         return SocialDto.FriendListResponse.builder()
@@ -0,0 +1,120 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.dto.CampaignDto;
+import com.hotelsortis.api.entity.BossId;
+import com.hotelsortis.api.entity.Floor;
+import com.hotelsortis.api.game.simulation.LoadoutSearch;
+import com.hotelsortis.api.game.simulation.SimulationScenario;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 층/보스별 보유 스킬 로드아웃 추천
+ *
+ * 탐색(LoadoutSearch)은 고정 시드로 실행하므로 같은 (효과 있는 보유 스킬, 층, 콘텐츠 버전)이면
+ * 결과가 같고, 그 키로 캐시합니다. 효과가 없는 스킬을 새로 얻어도 캐시는 그대로 쓰입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoadoutRecommendationService {
+
+    /**
+     * 캐시에 보관하는 상위 조합 수 (요청 limit의 최댓값)
+     */
+    static final int MAX_RESULTS = 10;
+
+    private static final int DEFAULT_RESULTS = 3;
+
+    /**
+     * 캐시할 최대 결과 수 (초과 시 캐시 비움)
+     */
+    private static final int MAX_CACHED_RESULTS = 4_096;
+
+    private static final long SEARCH_SEED = 0x5EED_10AD_0017L;
+
+    private final ContentCatalog contentCatalog;
+    private final SimulationService simulationService;
+    private final OwnedSkillCache ownedSkillCache;
+    private final LoadoutSearch loadoutSearch;
+
+    private final Map<Key, LoadoutSearch.Result> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 보유 스킬 로드아웃을 승률 순으로 추천
+     *
+     * @param floorNum 대상 층 (bossId와 둘 중 하나)
+     * @param bossId 대상 보스 (해당 보스 층)
+     * @param limit 반환할 조합 수 (기본 3, 최대 10)
+     */
+    public CampaignDto.LoadoutRecommendationResponse recommend(Long playerId, Integer floorNum, String bossId,
+                                                               Integer limit) {
+        int count = limit != null ? limit : DEFAULT_RESULTS;
+        if (count < 1 || count > MAX_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_RESULTS);
+        }
+
+        Floor floor = resolveFloor(floorNum, bossId);
+        BitSet owned = ownedSkillCache.getOwned(playerId);
+        List<Long> skills = loadoutSearch.effectiveSkills(owned.stream().mapToObj(id -> (long) id).toList());
+
+        BitSet skillMask = new BitSet();
+        skills.forEach(id -> skillMask.set(id.intValue()));
+        Key key = new Key(skillMask, floor.getId(), contentCatalog.getVersion());
+
+        LoadoutSearch.Result result = cache.get(key);
+        if (result == null) {
+            if (cache.size() >= MAX_CACHED_RESULTS) {
+                cache.clear();
+            }
+            SimulationScenario target = simulationService.buildScenario(floor, floor.getMutatorId(), List.of());
+            result = cache.computeIfAbsent(key, k -> loadoutSearch.rank(target, skills, MAX_RESULTS, SEARCH_SEED));
+        }
+
+        return CampaignDto.LoadoutRecommendationResponse.builder()
+                .floor(floor.getId())
+                .bossId(floor.getBossId())
+                .mutatorId(floor.getMutatorId())
+                .candidates(result.getCandidates())
+                .battlesSimulated(result.getBattles())
+                .loadouts(result.getLoadouts().stream()
+                        .limit(count)
+                        .map(ranked -> CampaignDto.RecommendedLoadout.builder()
+                                .skillIds(ranked.getSkillIds())
+                                .winRate(ranked.getWinRate())
+                                .winRateLow(ranked.getWinRateLow())
+                                .winRateHigh(ranked.getWinRateHigh())
+                                .battles(ranked.getBattles())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private Floor resolveFloor(Integer floorNum, String bossId) {
+        if (bossId != null) {
+            String value = BossId.fromValue(bossId).getValue();
+            return contentCatalog.getFloors().stream()
+                    .filter(floor -> value.equals(floor.getBossId()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("No floor for boss: " + bossId));
+        }
+        if (floorNum == null) {
+            throw new IllegalArgumentException("floor or bossId is required");
+        }
+        return contentCatalog.getFloor(floorNum);
+    }
+
+    @Value
+    private static class Key {
+        BitSet skills;
+        int floor;
+        long contentVersion;
+    }
+}
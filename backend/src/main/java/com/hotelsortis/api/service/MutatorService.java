@@ -1,16 +1,21 @@
 package com.hotelsortis.api.service;
 
 import com.hotelsortis.api.entity.Mutator;
-import com.hotelsortis.api.repository.MutatorRepository;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.mutator.MutatorRegistry;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Service for handling floor mutator effects.
  *
+ * Mutators are typed MutatorStage implementations (game.mutator.stages) compiled once per battle
+ * into a MutatorPipeline. Several mutators can be stacked by listing their IDs comma-separated
+ * in mutator_id (e.g. "gravity,silence"); they apply in the listed order.
+ *
  * Mutator effects:
  * - gravity: Dice values 1-2 become 3
  * - fog: Hide hand name (frontend only)
@@ -20,100 +25,53 @@ import java.util.Random;
  */
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class MutatorService {
 
-    private final MutatorRepository mutatorRepository;
-    private final Random random = new Random();
+    private final ContentCatalog contentCatalog;
+    private final MutatorRegistry registry = MutatorRegistry.standard();
 
     /**
-     * Get initial HP based on mutator (endurance mutator = 150 HP)
+     * Compile a mutator_id value into the pipeline applied every turn (cached per value)
      */
-    public int getInitialHp(String mutatorId) {
-        if ("endurance".equals(mutatorId)) {
-            log.info("Endurance mutator active: HP set to 150");
-            return 150;
-        }
-        return 100;
+    public MutatorPipeline compilePipeline(String mutatorIds) {
+        return registry.compile(mutatorIds);
     }
 
     /**
-     * Apply DICE_ROLL phase mutator effects to dice array.
-     * Returns the modified dice.
+     * Get initial HP based on mutators (endurance mutator = 150 HP)
      */
-    public int[] applyDiceRollMutator(String mutatorId, int[] dice) {
-        if (mutatorId == null || dice == null) {
-            return dice;
-        }
-
-        int[] modifiedDice = dice.clone();
-
-        switch (mutatorId) {
-            case "gravity" -> {
-                // Dice values 1-2 become 3
-                for (int i = 0; i < modifiedDice.length; i++) {
-                    if (modifiedDice[i] == 1 || modifiedDice[i] == 2) {
-                        log.debug("Gravity mutator: dice[{}] {} -> 3", i, modifiedDice[i]);
-                        modifiedDice[i] = 3;
-                    }
-                }
-                log.info("Gravity mutator applied: {} -> {}",
-                    java.util.Arrays.toString(dice), java.util.Arrays.toString(modifiedDice));
-            }
-            case "chaos" -> {
-                // Re-roll one random dice
-                int rerollIndex = random.nextInt(3);
-                int oldValue = modifiedDice[rerollIndex];
-                modifiedDice[rerollIndex] = random.nextInt(6) + 1;
-                log.info("Chaos mutator applied: dice[{}] {} -> {}",
-                    rerollIndex, oldValue, modifiedDice[rerollIndex]);
-            }
-            default -> {
-                // No dice modification for other mutators
-            }
-        }
-
-        return modifiedDice;
+    public int getInitialHp(String mutatorIds) {
+        return compilePipeline(mutatorIds).getInitialHp();
     }
 
     /**
-     * Check if skills should be silenced (silence mutator has 50% chance to block skills)
-     * Returns true if skills should execute, false if silenced.
+     * Get mutators by ID (comma-separated for stacked mutators, in apply order)
      */
-    public boolean shouldSkillsExecute(String mutatorId) {
-        if ("silence".equals(mutatorId)) {
-            boolean execute = random.nextBoolean();
-            log.info("Silence mutator: skills {} execute", execute ? "WILL" : "WILL NOT");
-            return execute;
+    public List<Mutator> getMutators(String mutatorIds) {
+        List<Mutator> mutators = new ArrayList<>();
+        for (String id : MutatorPipeline.parseIds(mutatorIds)) {
+            contentCatalog.findMutator(id).ifPresent(mutators::add);
         }
-        return true;
+        return mutators;
     }
 
     /**
-     * Check if hand name should be hidden (fog mutator)
-     * This is primarily handled on frontend, but we provide the check here too.
+     * Check if a mutator ID (or comma-separated list) is valid
      */
-    public boolean shouldHideHandName(String mutatorId) {
-        return "fog".equals(mutatorId);
-    }
-
-    /**
-     * Get mutator by ID
-     */
-    public Mutator getMutator(String mutatorId) {
-        if (mutatorId == null) {
-            return null;
+    public boolean isValidMutator(String mutatorIds) {
+        if (mutatorIds == null) {
+            return true; // null is valid (no mutator)
         }
-        return mutatorRepository.findById(mutatorId).orElse(null);
-    }
 
-    /**
-     * Check if a mutator ID is valid
-     */
-    public boolean isValidMutator(String mutatorId) {
-        if (mutatorId == null) {
-            return true; // null is valid (no mutator)
+        List<String> ids = MutatorPipeline.parseIds(mutatorIds);
+        if (ids.isEmpty()) {
+            return false;
         }
-        return mutatorRepository.existsById(mutatorId);
+        for (String id : ids) {
+            if (!registry.isRegistered(id) || contentCatalog.findMutator(id).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,182 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.entity.PlayerSkill;
+import com.hotelsortis.api.entity.Skill;
+import com.hotelsortis.api.repository.PlayerSkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플레이어별 보유 스킬 비트셋 캐시 (비트 i = 스킬 ID i)
+ *
+ * 보상 화면의 미보유 스킬은 콘텐츠 카탈로그의 희귀도 비트셋과 AND NOT 연산으로 구합니다.
+ * 캐시는 노드 로컬이라 다른 노드의 해금을 모르므로 조회용으로만 쓰고 보관 시간이 지나면 다시 읽습니다.
+ * 처음 읽을 때는 복제본 지연을 피해 별도 트랜잭션으로 primary에서 읽고,
+ * 해금(unlock)은 캐시를 믿지 않고 저장 직전에 primary에서 보유 여부를 다시 확인합니다.
+ * 캐시된 비트셋은 공유되므로 수정하지 말고 복사해서 사용할 것 (해금 시 새 비트셋으로 교체).
+ */
+@Slf4j
+@Component
+public class OwnedSkillCache {
+
+    private final PlayerSkillRepository playerSkillRepository;
+    private final ContentCatalog contentCatalog;
+    private final TransactionTemplate primaryRead;
+    private final long ttlMillis;
+
+    private final Map<Long, CachedOwned> ownedByPlayer = new ConcurrentHashMap<>();
+
+    public OwnedSkillCache(
+            PlayerSkillRepository playerSkillRepository,
+            ContentCatalog contentCatalog,
+            PlatformTransactionManager transactionManager,
+            @Value("${game.skill.owned-cache-minutes:10}") long ttlMinutes
+    ) {
+        this.playerSkillRepository = playerSkillRepository;
+        this.contentCatalog = contentCatalog;
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+
+        // 읽기 전용(복제본) 요청 안에서 호출되어도 새 쓰기 트랜잭션으로 primary에서 읽음
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 캐시된 보유 스킬과 만료 시각
+     */
+    private static final class CachedOwned {
+        private final BitSet skills;
+        private final long expiresAtMillis;
+
+        private CachedOwned(BitSet skills, long expiresAtMillis) {
+            this.skills = skills;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+
+    /**
+     * 보유 스킬 비트셋 (공유 인스턴스, 수정 금지)
+     */
+    public BitSet getOwned(Long playerId) {
+        CachedOwned cached = ownedByPlayer.get(playerId);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached.skills;
+        }
+
+        BitSet owned = toBitSet(primaryRead.execute(tx -> playerSkillRepository.findSkillIdsByPlayerId(playerId)));
+        cache(playerId, owned);
+        return owned;
+    }
+
+    /**
+     * 해당 희귀도의 미보유 스킬 (ID 순)
+     */
+    public List<Skill> getUnownedByRarity(Long playerId, Skill.Rarity rarity) {
+        ContentCatalog.Snapshot content = contentCatalog.current();
+        BitSet unowned = content.getRarityMask(rarity);
+        unowned.andNot(getOwned(playerId));
+        return content.getSkillsByMask(unowned);
+    }
+
+    /**
+     * 스킬 해금 (호출 측 쓰기 트랜잭션에서 player_skills 저장)
+     * 이미 보유한 스킬은 건너뜀 (캐시가 아니라 primary에서 한 번 조회해 확인)
+     * 커밋되면 캐시를 DB 기준으로 갱신하고, 실패하거나 롤백되면 캐시에서 제거
+     *
+     * @param skills 해금할 스킬 (캐시 기준 미보유)
+     * @return 실제로 해금한 스킬
+     */
+    public List<Skill> unlock(Long playerId, List<Skill> skills) {
+        if (skills.isEmpty()) {
+            return List.of();
+        }
+
+        BitSet owned = toBitSet(playerSkillRepository.findSkillIdsByPlayerId(playerId));
+        List<Skill> unlocked = new ArrayList<>(skills.size());
+        List<PlayerSkill> rows = new ArrayList<>(skills.size());
+        for (Skill skill : skills) {
+            if (!owned.get(skill.getId().intValue())) {
+                owned.set(skill.getId().intValue());
+                unlocked.add(skill);
+                rows.add(PlayerSkill.builder()
+                        .playerId(playerId)
+                        .skillId(skill.getId())
+                        .build());
+            }
+        }
+        if (unlocked.size() < skills.size()) {
+            log.debug("Player {} already owned {} of the skills to unlock", playerId, skills.size() - unlocked.size());
+        }
+
+        try {
+            playerSkillRepository.saveAll(rows);
+        } catch (RuntimeException e) {
+            evict(playerId);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        cache(playerId, owned);
+                    } else {
+                        evict(playerId);
+                    }
+                }
+            });
+        } else {
+            cache(playerId, owned);
+        }
+        log.debug("Player {} unlocked skills {}", playerId, unlocked.stream().map(Skill::getId).toList());
+        return unlocked;
+    }
+
+    /**
+     * 플레이어의 캐시 제거 (다음 조회 때 primary에서 다시 읽음)
+     */
+    public void evict(Long playerId) {
+        ownedByPlayer.remove(playerId);
+    }
+
+    /**
+     * 보관 시간이 지난 항목 제거 (한꺼번에 비우지 않음)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        ownedByPlayer.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    private void cache(Long playerId, BitSet owned) {
+        ownedByPlayer.put(playerId, new CachedOwned(owned, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private static BitSet toBitSet(Collection<Long> skillIds) {
+        BitSet owned = new BitSet();
+        if (skillIds != null) {
+            skillIds.forEach(skillId -> owned.set(skillId.intValue()));
+        }
+        return owned;
+    }
+}
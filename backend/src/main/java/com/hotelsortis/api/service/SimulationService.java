@@ -0,0 +1,148 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.dto.SimulationDto;
+import com.hotelsortis.api.entity.BossId;
+import com.hotelsortis.api.entity.Floor;
+import com.hotelsortis.api.game.ai.EnemyAi;
+import com.hotelsortis.api.game.boss.BossDefinition;
+import com.hotelsortis.api.game.simulation.BattleSimulator;
+import com.hotelsortis.api.game.simulation.SimulationScenario;
+import com.hotelsortis.api.game.simulation.SimulationStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 밸런스 시뮬레이션 서비스
+ * 층/보스 데이터를 한 번만 읽어 시나리오로 만든 뒤, 전투 자체는 BattleSimulator가 메모리에서 실행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationService {
+
+    private static final int DEFAULT_BATTLES = 10_000;
+    private static final int MAX_BATTLES = 10_000_000;
+    private static final String NO_MUTATOR = "none";
+
+    private final BattleSimulator battleSimulator;
+    private final ContentCatalog contentCatalog;
+    private final CampaignService campaignService;
+    private final MutatorService mutatorService;
+    private final EnemyAi enemyAi;
+
+    /**
+     * 로드아웃 x 층 x 변형 규칙 조합별로 시뮬레이션 실행
+     */
+    public SimulationDto.Response simulate(SimulationDto.Request request) {
+        int battles = request.getBattles() != null ? request.getBattles() : DEFAULT_BATTLES;
+        if (battles <= 0 || battles > MAX_BATTLES) {
+            throw new IllegalArgumentException("battles must be between 1 and " + MAX_BATTLES);
+        }
+        if (request.getFloors() == null || request.getFloors().isEmpty()) {
+            throw new IllegalArgumentException("At least one floor is required");
+        }
+
+        List<List<Long>> loadouts = request.getLoadouts() != null && !request.getLoadouts().isEmpty()
+                ? request.getLoadouts() : List.of(List.of());
+        List<String> mutators = request.getMutators() != null && !request.getMutators().isEmpty()
+                ? request.getMutators() : Collections.singletonList(null);
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+        List<SimulationDto.ScenarioResult> results = new ArrayList<>();
+        for (Integer floorNum : request.getFloors()) {
+            Floor floor = contentCatalog.getFloor(floorNum);
+
+            for (String mutatorOverride : mutators) {
+                String mutatorId = resolveMutator(floor, mutatorOverride);
+
+                for (List<Long> loadout : loadouts) {
+                    SimulationScenario scenario = buildScenario(floor, mutatorId, loadout);
+                    SimulationStats stats = battleSimulator.simulate(scenario, battles, seed);
+                    results.add(toResult(scenario, stats));
+                }
+            }
+        }
+
+        return SimulationDto.Response.builder()
+                .seed(seed)
+                .results(results)
+                .build();
+    }
+
+    private String resolveMutator(Floor floor, String mutatorOverride) {
+        if (mutatorOverride == null) {
+            return floor.getMutatorId();
+        }
+        if (NO_MUTATOR.equals(mutatorOverride)) {
+            return null;
+        }
+        if (!mutatorService.isValidMutator(mutatorOverride)) {
+            throw new IllegalArgumentException("Invalid mutator: " + mutatorOverride);
+        }
+        return mutatorOverride;
+    }
+
+    SimulationScenario buildScenario(Floor floor, String mutatorId, List<Long> loadout) {
+        SimulationScenario.SimulationScenarioBuilder builder = SimulationScenario.builder()
+                .playerSkills(List.copyOf(loadout))
+                .floor(floor.getId())
+                .mutatorId(mutatorId)
+                .initialHp(mutatorService.getInitialHp(mutatorId))
+                .aiLevels(enemyAi.aiLevels(floor.getId(), floor.getBossId()));
+
+        if (floor.getFloorType() == Floor.FloorType.BOSS && floor.getBossId() != null) {
+            // Boss floors: phase 1 skills are always equipped
+            List<Long> bossSkills = campaignService.getBossPhaseSkills(BossId.fromValue(floor.getBossId()), 1);
+            int totalPhases = contentCatalog.findBossDefinition(floor.getBossId())
+                    .map(BossDefinition::getTotalPhases)
+                    .orElse(0);
+            return builder
+                    .bossId(floor.getBossId())
+                    .bossTotalPhases(totalPhases)
+                    .enemySkillPool(bossSkills)
+                    .enemySkillCount(bossSkills.size())
+                    .build();
+        }
+
+        return builder
+                .enemySkillPool(campaignService.getEnemySkillCandidates(floor))
+                .enemySkillCount(floor.getEnemySkillCount())
+                .build();
+    }
+
+    private SimulationDto.ScenarioResult toResult(SimulationScenario scenario, SimulationStats stats) {
+        return SimulationDto.ScenarioResult.builder()
+                .loadout(scenario.getPlayerSkills())
+                .floor(scenario.getFloor())
+                .mutatorId(scenario.getMutatorId())
+                .bossId(scenario.getBossId())
+                .battles(stats.getBattles())
+                .victories(stats.getVictories())
+                .defeats(stats.getDefeats())
+                .draws(stats.getDraws())
+                .winRate(stats.getWinRate())
+                .averageTurns(stats.getAverageTurns())
+                .bossPhaseTransitions(stats.getBossPhaseTransitions())
+                .playerDamageDistribution(toDistribution(stats.getPlayerDamageHistogram()))
+                .enemyDamageDistribution(toDistribution(stats.getEnemyDamageHistogram()))
+                .build();
+    }
+
+    private Map<Integer, Long> toDistribution(long[] histogram) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int damage = 0; damage < histogram.length; damage++) {
+            if (histogram[damage] > 0) {
+                distribution.put(damage, histogram[damage]);
+            }
+        }
+        return distribution;
+    }
+}
@@ -2,13 +2,15 @@ package com.hotelsortis.api.service;
 
 import com.hotelsortis.api.dto.SkillDto;
 import com.hotelsortis.api.entity.Skill;
-import com.hotelsortis.api.repository.SkillRepository;
+import com.hotelsortis.api.game.odds.OddsEngine;
+import com.hotelsortis.api.game.odds.OddsTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -20,7 +22,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SkillService {
 
-    private final SkillRepository skillRepository;
+    private final ContentCatalog contentCatalog;
+    private final MutatorService mutatorService;
+    private final OddsEngine oddsEngine;
 
     /**
      * 모든 스킬 조회 (사용자 언어에 맞게 변환)
@@ -28,15 +32,14 @@ public class SkillService {
      * @param language 언어 코드 ("ko", "en", "ja", "zh")
      * @return 스킬 목록
      */
-    @Transactional(readOnly = true)
     public SkillDto.SkillListResponse getAllSkills(String language) {
         log.info("Getting all skills for language: {}", language);
 
         // 유효한 언어인지 확인
         String validatedLang = validateLanguage(language);
 
-        // DB에서 모든 스킬 조회
-        List<Skill> skills = skillRepository.findAllOrderById();
+        // 콘텐츠 카탈로그에서 모든 스킬 조회
+        List<Skill> skills = contentCatalog.getSkills();
 
         // 사용자 언어에 맞게 변환
         List<SkillDto.SkillResponse> skillResponses = skills.stream()
@@ -59,14 +62,13 @@ public class SkillService {
      * @param language 언어 코드
      * @return 스킬 목록
      */
-    @Transactional(readOnly = true)
     public SkillDto.SkillListResponse getSkillsByRarity(String rarity, String language) {
         log.info("Getting skills by rarity: {} for language: {}", rarity, language);
 
         String validatedLang = validateLanguage(language);
         Skill.Rarity rarityEnum = Skill.Rarity.valueOf(rarity);
 
-        List<Skill> skills = skillRepository.findByRarity(rarityEnum);
+        List<Skill> skills = contentCatalog.getSkillsByRarity(rarityEnum);
 
         List<SkillDto.SkillResponse> skillResponses = skills.stream()
                 .map(skill -> SkillDto.SkillResponse.fromEntity(skill, validatedLang))
@@ -86,13 +88,12 @@ public class SkillService {
      * @param language 언어 코드
      * @return 스킬 정보
      */
-    @Transactional(readOnly = true)
     public SkillDto.SkillResponse getSkill(Long skillId, String language) {
         log.info("Getting skill {} for language: {}", skillId, language);
 
         String validatedLang = validateLanguage(language);
 
-        Skill skill = skillRepository.findById(skillId)
+        Skill skill = contentCatalog.findSkill(skillId)
                 .orElseThrow(() -> new IllegalArgumentException("Skill not found: " + skillId));
 
         return SkillDto.SkillResponse.fromEntity(skill, validatedLang);
@@ -105,7 +106,6 @@ public class SkillService {
      * @param language 언어 코드
      * @return 스킬 목록
      */
-    @Transactional(readOnly = true)
     public SkillDto.SkillListResponse getSkillsByIds(List<Long> skillIds, String language) {
         log.info("Getting skills by IDs: {} for language: {}", skillIds, language);
 
@@ -124,7 +124,7 @@ public class SkillService {
 
         String validatedLang = validateLanguage(language);
 
-        List<Skill> skills = skillRepository.findByIds(skillIds);
+        List<Skill> skills = contentCatalog.getSkillsByIds(skillIds);
 
         List<SkillDto.SkillResponse> skillResponses = skills.stream()
                 .map(skill -> SkillDto.SkillResponse.fromEntity(skill, validatedLang))
@@ -137,6 +137,43 @@ public class SkillService {
                 .build();
     }
 
+    /**
+     * 장착 스킬/변형 규칙 조합에서 공격 1회의 족보/데미지 확률
+     * 모든 주사위·스킬·변형 규칙 난수 경우를 열거한 정확한 값이며, 조합별로 캐시됨
+     *
+     * @param skillIds 장착 스킬 ID (최대 4개)
+     * @param mutatorId 변형 규칙 ID (쉼표 구분, null이면 없음)
+     * @param firstTurn true면 BATTLE_START 스킬 포함
+     * @return 확률 분포
+     */
+    public SkillDto.OddsResponse getOdds(List<Long> skillIds, String mutatorId, boolean firstTurn) {
+        List<Long> skills = skillIds != null ? skillIds : List.of();
+
+        // 최대 4개 검증 (CLAUDE.md 1.1.1절)
+        if (skills.size() > 4) {
+            throw new IllegalArgumentException("Cannot equip more than 4 skills");
+        }
+        if (!mutatorService.isValidMutator(mutatorId)) {
+            throw new IllegalArgumentException("Invalid mutator: " + mutatorId);
+        }
+
+        OddsTable odds = oddsEngine.calculate(skills, mutatorId, firstTurn);
+
+        Map<String, Double> handRanks = new LinkedHashMap<>();
+        odds.getHandRanks().forEach((rank, probability) -> handRanks.put(rank.getNameEn(), probability));
+
+        return SkillDto.OddsResponse.builder()
+                .skillIds(skills)
+                .mutatorId(mutatorId)
+                .firstTurn(firstTurn)
+                .outcomes(odds.getOutcomes())
+                .handRanks(handRanks)
+                .damage(odds.getDamage())
+                .expectedDamage(odds.getExpectedDamage())
+                .skillsSilenced(odds.getSkillsSilenced())
+                .build();
+    }
+
     /**
      * 언어 코드 검증
      * 지원하는 언어: ko, en, ja, zh
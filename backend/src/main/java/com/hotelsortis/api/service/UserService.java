@@ -4,12 +4,10 @@ import com.hotelsortis.api.dto.UserDto;
 import com.hotelsortis.api.entity.Battle;
 import com.hotelsortis.api.entity.Player;
 import com.hotelsortis.api.entity.User;
-import com.hotelsortis.api.repository.BattleRepository;
 import com.hotelsortis.api.repository.PlayerRepository;
 import com.hotelsortis.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -26,7 +25,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PlayerRepository playerRepository;
-    private final BattleRepository battleRepository;
+    private final BattleArchiveService battleArchiveService;
     private final PasswordEncoder passwordEncoder;
 
     /**
@@ -122,17 +121,10 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Player not found"));
 
         // 전적 계산
-        int wins = 0, losses = 0, draws = 0;
-        List<Object[]> results = battleRepository.countPvPResultsByPlayerId(playerId);
-        for (Object[] row : results) {
-            Battle.Status status = (Battle.Status) row[0];
-            Long count = (Long) row[1];
-            switch (status) {
-                case VICTORY -> wins = count.intValue();
-                case DEFEAT -> losses = count.intValue();
-                case DRAW -> draws = count.intValue();
-            }
-        }
+        Map<Battle.Status, Long> results = battleArchiveService.countPvPResults(playerId);
+        int wins = results.getOrDefault(Battle.Status.VICTORY, 0L).intValue();
+        int losses = results.getOrDefault(Battle.Status.DEFEAT, 0L).intValue();
+        int draws = results.getOrDefault(Battle.Status.DRAW, 0L).intValue();
 
         int totalMatches = wins + losses + draws;
         double winRate = totalMatches > 0 ? (double) wins / totalMatches : 0.0;
@@ -165,17 +157,10 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Player not found"));
 
         // 전적 계산
-        int wins = 0, losses = 0, draws = 0;
-        List<Object[]> results = battleRepository.countPvPResultsByPlayerId(player.getId());
-        for (Object[] row : results) {
-            Battle.Status status = (Battle.Status) row[0];
-            Long count = (Long) row[1];
-            switch (status) {
-                case VICTORY -> wins = count.intValue();
-                case DEFEAT -> losses = count.intValue();
-                case DRAW -> draws = count.intValue();
-            }
-        }
+        Map<Battle.Status, Long> results = battleArchiveService.countPvPResults(player.getId());
+        int wins = results.getOrDefault(Battle.Status.VICTORY, 0L).intValue();
+        int losses = results.getOrDefault(Battle.Status.DEFEAT, 0L).intValue();
+        int draws = results.getOrDefault(Battle.Status.DRAW, 0L).intValue();
 
         int totalMatches = wins + losses + draws;
         double winRate = totalMatches > 0 ? (double) wins / totalMatches : 0.0;
@@ -203,10 +188,7 @@ public class UserService {
         Player player = playerRepository.findByUser(user)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found"));
 
-        List<Battle> battles = battleRepository.findRecentPvPBattles(
-                player.getId(),
-                PageRequest.of(0, limit)
-        );
+        List<Battle> battles = battleArchiveService.findRecentPvPBattles(player.getId(), limit);
 
         List<UserDto.MatchHistoryEntryDto> history = new ArrayList<>();
         for (Battle battle : battles) {
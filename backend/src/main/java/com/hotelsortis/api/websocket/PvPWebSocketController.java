@@ -4,8 +4,8 @@ import com.hotelsortis.api.dto.BattleDto;
 import com.hotelsortis.api.dto.PvPDto;
 import com.hotelsortis.api.entity.Battle;
 import com.hotelsortis.api.entity.Player;
-import com.hotelsortis.api.repository.BattleRepository;
 import com.hotelsortis.api.repository.PlayerRepository;
+import com.hotelsortis.api.service.ActiveBattleStore;
 import com.hotelsortis.api.service.BattleService;
 import com.hotelsortis.api.service.EloCalculator;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +16,8 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
+import java.util.List;
+
 /**
  * PvP WebSocket (STOMP) 메시지 핸들러
  *
@@ -30,7 +32,7 @@ import org.springframework.stereotype.Controller;
 public class PvPWebSocketController {
 
     private final BattleService battleService;
-    private final BattleRepository battleRepository;
+    private final ActiveBattleStore activeBattleStore;
     private final PlayerRepository playerRepository;
     private final EloCalculator eloCalculator;
     private final SimpMessagingTemplate messagingTemplate;
@@ -48,7 +50,7 @@ public class PvPWebSocketController {
     ) {
         try {
             // 전투 조회
-            Battle battle = battleRepository.findById(battleId)
+            Battle battle = activeBattleStore.find(battleId)
                 .orElseThrow(() -> new IllegalArgumentException("Battle not found: " + battleId));
 
             // PvP 전투인지 확인
@@ -68,13 +70,15 @@ public class PvPWebSocketController {
             boolean isPlayerTurn = (isPlayer1 && battle.getCurrentTurn() == Battle.TurnActor.PLAYER) ||
                                    (isPlayer2 && battle.getCurrentTurn() == Battle.TurnActor.ENEMY);
 
-            if (!isPlayerTurn) {
+            // idempotencyKey가 있으면 이미 처리한 굴림의 재전송일 수 있으므로 서비스에서 판단 (같은 결과 재전송)
+            if (!isPlayerTurn && request.getIdempotencyKey() == null) {
                 log.warn("Not player's turn: battleId={}, playerId={}", battleId, playerId);
                 return;
             }
 
             // 주사위 굴림
             BattleDto.RollResponse rollResult = battleService.rollDice(battleId, request);
+            boolean replayed = Boolean.TRUE.equals(rollResult.getReplayed());
 
             // 상대방 ID 찾기
             Long opponentId = isPlayer1 ? battle.getEnemyId() : battle.getPlayerId();
@@ -98,6 +102,12 @@ public class PvPWebSocketController {
                 message
             );
 
+            // 재전송: 결과만 다시 보내고, 상대 알림/턴 시작/종료 보상은 처음 요청에서 이미 처리됨
+            if (replayed) {
+                log.debug("Replayed PvP roll: battleId={}, playerId={}", battleId, playerId);
+                return;
+            }
+
             // 상대에게 전송
             messagingTemplate.convertAndSendToUser(
                 opponentId.toString(),
@@ -106,7 +116,7 @@ public class PvPWebSocketController {
             );
 
             // 전투 종료 확인
-            Battle updatedBattle = battleRepository.findById(battleId)
+            Battle updatedBattle = activeBattleStore.find(battleId)
                 .orElseThrow(() -> new IllegalArgumentException("Battle not found"));
 
             if (updatedBattle.getStatus() != Battle.Status.ONGOING) {
@@ -176,8 +186,6 @@ public class PvPWebSocketController {
         int player2NewElo = player2.getElo() + player2EloChange;
         player1.setElo(player1NewElo);
         player2.setElo(player2NewElo);
-        playerRepository.save(player1);
-        playerRepository.save(player2);
 
         // ELO 변동 후 티어 계산
         String player1NewTier = calculateTier(player1NewElo);
@@ -189,8 +197,9 @@ public class PvPWebSocketController {
 
         player1.setSoulStones(player1.getSoulStones() + player1SoulStones);
         player2.setSoulStones(player2.getSoulStones() + player2SoulStones);
-        playerRepository.save(player1);
-        playerRepository.save(player2);
+
+        // ELO와 영혼석을 한 트랜잭션에서 함께 저장 (두 UPDATE를 한 배치로)
+        playerRepository.saveAll(List.of(player1, player2));
 
         // 보상 정보 (티어 변동 포함)
         PvPDto.RewardInfo player1Reward = PvPDto.RewardInfo.builder()
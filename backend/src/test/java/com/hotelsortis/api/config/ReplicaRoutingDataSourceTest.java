@@ -0,0 +1,58 @@
+package com.hotelsortis.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ReplicaRoutingDataSource
+ */
+class ReplicaRoutingDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    void testRoutesDeclaredReadOnlyTransactionsByLag() {
+        ReplicaLagMonitor lag = new ReplicaLagMonitor(new DriverManagerDataSource(), 5, 60_000);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                new DriverManagerDataSource(), new DriverManagerDataSource(), lag);
+
+        // 쓰기 트랜잭션
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.route());
+
+        // 지연 확인 전에는 primary
+        readOnly("com.hotelsortis.api.service.ShopService.getShop");
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.route());
+
+        lag.record(2L, null);
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.route());
+
+        // 리포지토리 기본 트랜잭션은 primary
+        readOnly("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById");
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.route());
+
+        // 지연 초과, 복제 중단
+        readOnly("com.hotelsortis.api.service.SkillService.getAllSkills");
+        lag.record(6L, null);
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.route());
+        lag.record(null, null);
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.route());
+        assertNotNull(lag.getLastError());
+
+        assertEquals(2, routing.getDecisionCount(ReplicaRoutingDataSource.Decision.PRIMARY));
+        assertEquals(1, routing.getDecisionCount(ReplicaRoutingDataSource.Decision.REPLICA));
+        assertEquals(3, routing.getDecisionCount(ReplicaRoutingDataSource.Decision.REPLICA_FALLBACK));
+    }
+
+    private static void readOnly(String transactionName) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        TransactionSynchronizationManager.setCurrentTransactionName(transactionName);
+    }
+}
@@ -0,0 +1,76 @@
+package com.hotelsortis.api.entity;
+
+import com.hotelsortis.api.game.event.BattleEvent;
+import com.hotelsortis.api.game.event.BattleEventLog;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ArchivedBattle
+ */
+class ArchivedBattleTest {
+
+    @Test
+    void testArchiveMergesEventChunks() {
+        Battle battle = Battle.builder()
+                .id(42L)
+                .playerId(1L)
+                .enemyId(2L)
+                .battleType(Battle.BattleType.PVP)
+                .status(Battle.Status.VICTORY)
+                .enemyHp(0)
+                .turnCount(5)
+                .playerLoadout(PackedLoadout.of(List.of(3L, 7L)))
+                .diceSeed("seed")
+                .diceCommitment("commitment")
+                .dicePosition(96L)
+                .startedAt(LocalDateTime.of(2026, 1, 1, 12, 0))
+                .endedAt(LocalDateTime.of(2026, 1, 1, 12, 10))
+                .build();
+
+        BattleEventLog first = new BattleEventLog();
+        first.append(BattleEvent.start(battle));
+        BattleEventLog second = new BattleEventLog();
+        second.append(BattleEvent.bossPhase(battle, 3));
+        second.append(BattleEvent.end(battle, 5));
+        List<BattleEventChunk> chunks = List.of(
+                BattleEventChunk.builder().battleId(42L).eventCount(1).events(first.drain()).build(),
+                BattleEventChunk.builder().battleId(42L).eventCount(2).events(second.drain()).build());
+
+        ArchivedBattle archived = ArchivedBattle.of(battle, chunks, LocalDateTime.now());
+        assertTrue(archived.isNew());
+
+        // 묶음 순서대로 한 컬럼에 합침
+        List<BattleEvent> events = BattleEventLog.decode(archived.getEvents());
+        assertEquals(3, events.size());
+        assertEquals(BattleEvent.Type.START, events.get(0).getType());
+        assertEquals(BattleEvent.Type.BOSS_PHASE, events.get(1).getType());
+        assertEquals(BattleEvent.Type.END, events.get(2).getType());
+
+        Battle restored = archived.toBattle();
+        assertEquals(42L, restored.getId());
+        assertEquals(2L, restored.getEnemyId());
+        assertEquals(Battle.Status.VICTORY, restored.getStatus());
+        assertEquals(0, restored.getEnemyHp());
+        assertEquals(5, restored.getTurnCount());
+        assertEquals(List.of(3L, 7L), restored.getPlayerLoadout().getSkillIds());
+        assertEquals("seed", restored.getDiceSeed());
+        assertEquals(96L, restored.getDicePosition());
+        assertEquals(battle.getEndedAt(), restored.getEndedAt());
+        assertNull(restored.getVersion());
+    }
+
+    @Test
+    void testArchiveWithoutEvents() {
+        Battle battle = Battle.builder().id(7L).playerId(1L).battleType(Battle.BattleType.PVE)
+                .status(Battle.Status.DEFEAT).startedAt(LocalDateTime.now()).build();
+
+        ArchivedBattle archived = ArchivedBattle.of(battle, List.of(), LocalDateTime.now());
+        assertEquals(0, archived.getEvents().length);
+        assertTrue(BattleEventLog.decode(archived.getEvents()).isEmpty());
+    }
+}
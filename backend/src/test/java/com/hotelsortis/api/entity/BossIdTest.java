@@ -19,6 +19,21 @@ class BossIdTest {
         assertEquals("lucifuge", BossId.LUCIFUGE.getValue());
     }
 
+    @Test
+    void testProgressBitsAreStable() {
+        // Persisted in campaign_progress.progress_mask: must not follow declaration order
+        assertEquals(16, BossId.MAMMON.getProgressBit());
+        assertEquals(17, BossId.ELIGOR.getProgressBit());
+        assertEquals(18, BossId.LUCIFUGE.getProgressBit());
+
+        int bits = 0;
+        for (BossId bossId : BossId.values()) {
+            assertTrue(bossId.getProgressBit() >= 16 && bossId.getProgressBit() <= 30);
+            assertEquals(0, bits & 1 << bossId.getProgressBit(), "duplicate bit for " + bossId);
+            bits |= 1 << bossId.getProgressBit();
+        }
+    }
+
     @Test
     void testFromValue() {
         // Test valid conversions
@@ -0,0 +1,71 @@
+package com.hotelsortis.api.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CampaignProgress
+ */
+class CampaignProgressTest {
+
+    @Test
+    void testFloorAndBossBits() {
+        CampaignProgress progress = CampaignProgress.builder().playerId(1L).build();
+        assertEquals(0, progress.getHighestClearedFloor());
+
+        progress.markFloorCleared(1);
+        progress.markFloorCleared(5);
+        progress.markFloorCleared(15);
+        progress.markFloorCleared(16); // out of range, ignored
+        progress.markBossDefeated(BossId.ELIGOR);
+
+        assertTrue(progress.isFloorCleared(1));
+        assertFalse(progress.isFloorCleared(2));
+        assertTrue(progress.isFloorCleared(15));
+        assertFalse(progress.isFloorCleared(0));
+        assertEquals(15, progress.getHighestClearedFloor());
+
+        assertTrue(progress.isBossDefeated(BossId.ELIGOR));
+        assertFalse(progress.isBossDefeated(BossId.MAMMON));
+        assertEquals(1 | 1 << 4 | 1 << 14 | 1 << 17, progress.getProgressMask());
+    }
+
+    @Test
+    void testRunVictoryCounters() {
+        CampaignProgress progress = CampaignProgress.builder().playerId(1L).build();
+
+        assertEquals(1, progress.getRunNumber());
+
+        progress.recordRunVictory(3);
+        progress.recordRunVictory(3);
+        progress.recordRunVictory(15);
+        progress.recordRunVictory(16); // out of range, ignored
+        assertEquals(2, progress.getRunVictories(3));
+        assertEquals(1, progress.getRunVictories(15));
+        assertEquals(0, progress.getRunVictories(4));
+
+        // 층당 최대 15승에서 멈춤 (옆 층 칸을 침범하지 않음)
+        for (int i = 0; i < 20; i++) {
+            progress.recordRunVictory(4);
+        }
+        assertEquals(15, progress.getRunVictories(4));
+        assertEquals(0, progress.getRunVictories(5));
+
+        // 새 런: 승리 수 초기화, 런 번호 증가 (이전 런의 전투는 번호가 달라 세지 않음)
+        progress.resetRun();
+        assertEquals(2, progress.getRunNumber());
+        assertEquals(0, progress.getRunVictories(3));
+        assertEquals(0, progress.getRunVictories(15));
+        assertEquals(1, progress.getCurrentRunFloor());
+    }
+
+    @Test
+    void testBossBitsDoNotCountAsFloors() {
+        int mask = 1 << 2 | 1 << 18;
+
+        assertEquals(3, CampaignProgress.highestClearedFloor(mask));
+        assertTrue(CampaignProgress.isBossDefeated(mask, BossId.LUCIFUGE));
+        assertFalse(CampaignProgress.isFloorCleared(mask, 4));
+    }
+}
@@ -0,0 +1,36 @@
+package com.hotelsortis.api.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for PackedLoadout
+ */
+class PackedLoadoutTest {
+
+    @Test
+    void testPackRoundTrip() {
+        PackedLoadout loadout = PackedLoadout.of(List.of(3L, 71L, 3L, 65_535L));
+        PackedLoadout restored = PackedLoadout.fromPacked(loadout.toPacked());
+
+        // 순서와 중복 유지
+        assertEquals(List.of(3L, 71L, 3L, 65_535L), restored.getSkillIds());
+        assertEquals(loadout, restored);
+
+        PackedLoadoutConverter converter = new PackedLoadoutConverter();
+        assertEquals(loadout, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(loadout)));
+        assertSame(PackedLoadout.EMPTY, converter.convertToEntityAttribute(null));
+        assertSame(PackedLoadout.EMPTY, PackedLoadout.of(null));
+        assertEquals(0L, converter.convertToDatabaseColumn(PackedLoadout.EMPTY));
+    }
+
+    @Test
+    void testRejectsInvalidLoadout() {
+        assertThrows(IllegalArgumentException.class, () -> PackedLoadout.of(List.of(1L, 2L, 3L, 4L, 5L)));
+        assertThrows(IllegalArgumentException.class, () -> PackedLoadout.of(List.of(0L)));
+        assertThrows(IllegalArgumentException.class, () -> PackedLoadout.of(List.of(65_536L)));
+    }
+}
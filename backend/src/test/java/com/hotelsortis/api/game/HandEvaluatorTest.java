@@ -0,0 +1,64 @@
+package com.hotelsortis.api.game;
+
+import com.hotelsortis.api.game.HandEvaluator.HandRank;
+import com.hotelsortis.api.game.HandEvaluator.HandResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for HandEvaluator
+ */
+class HandEvaluatorTest {
+
+    private final HandEvaluator evaluator = new HandEvaluator();
+
+    @Test
+    void testHandRankings() {
+        assertHand(HandRank.ACE, 45, 1, 1, 1);
+        assertHand(HandRank.TRIPLE, 32, 6, 6, 6);
+        assertHand(HandRank.TRIPLE, 16, 2, 2, 2);
+        assertHand(HandRank.STRAIGHT, 38, 6, 4, 5);
+        assertHand(HandRank.STRIKE, 30, 5, 3, 4);
+        assertHand(HandRank.SLASH, 24, 4, 2, 3);
+        assertHand(HandRank.STORM, 16, 3, 1, 2);
+        assertHand(HandRank.PAIR, 17, 6, 1, 6);
+        assertHand(HandRank.PAIR, 7, 1, 5, 1);
+        assertHand(HandRank.NO_HAND, 12, 1, 5, 6);
+    }
+
+    @Test
+    void testTableMatchesRulesForAllOutcomes() {
+        for (int d1 = 1; d1 <= 6; d1++) {
+            for (int d2 = 1; d2 <= 6; d2++) {
+                for (int d3 = 1; d3 <= 6; d3++) {
+                    HandResult expected = HandEvaluator.computeHand(new int[] {d1, d2, d3});
+                    assertEquals(expected, evaluator.evaluate(d1, d2, d3));
+                    assertEquals(expected, evaluator.evaluate(new int[] {d1, d2, d3}));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testResultsAreShared() {
+        // Order of dice does not matter, and no new instance is created per call
+        assertSame(evaluator.evaluate(3, 3, 5), evaluator.evaluate(5, 3, 3));
+        assertSame(evaluator.evaluate(4, 5, 6), evaluator.evaluate(new int[] {6, 5, 4}));
+        assertSame(evaluator.evaluate(1, 1, 1), HandEvaluator.resultAt(HandEvaluator.indexOf(1, 1, 1)));
+    }
+
+    @Test
+    void testInvalidDice() {
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(new int[] {1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(null));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(0, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(1, 2, 7));
+    }
+
+    private void assertHand(HandRank rank, int power, int d1, int d2, int d3) {
+        HandResult result = evaluator.evaluate(d1, d2, d3);
+        assertEquals(rank, result.getRank());
+        assertEquals(power, result.getPower());
+    }
+}
@@ -0,0 +1,85 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import com.hotelsortis.api.service.MutatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for EnemyAi
+ */
+class EnemyAiTest {
+
+    private TurnProcessor turnProcessor;
+    private EnemyAi enemyAi;
+
+    @BeforeEach
+    void setUp() {
+        SkillEffectEngine engine = new SkillEffectEngine();
+        engine.registerSkillEffects(List.of(new SteadyHandEffect(), new PairMasterEffect()));
+        turnProcessor = new TurnProcessor(new HandEvaluator(), engine, new MutatorService(null));
+        enemyAi = new EnemyAi(turnProcessor, null);
+    }
+
+    @Test
+    void testDecisionTables() {
+        MutatorPipeline mutators = turnProcessor.compileMutators(null);
+
+        assertSame(RerollPolicy.NONE, enemyAi.policy(Loadout.EMPTY, mutators, 0));
+        EnemyPolicy level2 = (EnemyPolicy) enemyAi.policy(Loadout.EMPTY, mutators, 2);
+        assertSame(level2, enemyAi.policy(Loadout.EMPTY, mutators, 2));
+        assertEquals(2, level2.getRerolls());
+
+        // 최고 족보는 그대로 두고, 노 핸드는 재굴림
+        assertEquals(HoldMasks.HOLD_ALL, level2.holdMask(100, 2, new int[]{1, 1, 1}));
+        assertEquals(HoldMasks.HOLD_ALL, level2.holdMask(100, 2, new int[]{6, 6, 6}));
+        assertNotEquals(HoldMasks.HOLD_ALL, level2.holdMask(100, 2, new int[]{1, 3, 6}));
+
+        // 레벨 3: 대상 HP가 45면 ACE만 처치 가능하므로 1-1을 남기고 나머지를 재굴림
+        EnemyPolicy level3 = (EnemyPolicy) enemyAi.policy(Loadout.EMPTY, mutators, 3);
+        assertEquals(0b011, level3.holdMask(45, 1, new int[]{1, 1, 6}));
+    }
+
+    @Test
+    void testHigherLevelDealsMoreDamage() {
+        Loadout skills = turnProcessor.compileLoadout(List.of(2L, 5L));
+        MutatorPipeline mutators = turnProcessor.compileMutators(null);
+
+        double plain = averageDamage(skills, mutators, RerollPolicy.NONE);
+        double smart = averageDamage(skills, mutators, enemyAi.policy(skills, mutators, 2));
+        assertTrue(smart > plain + 3, "level 2 average " + smart + " vs level 0 " + plain);
+    }
+
+    private double averageDamage(Loadout skills, MutatorPipeline mutators, RerollPolicy policy) {
+        SplittableDiceSource dice = new SplittableDiceSource(42L);
+        Battle battle = Battle.builder().battleType(Battle.BattleType.PVE).build();
+        TurnProcessor.TurnContext context = TurnProcessor.TurnContext.builder()
+            .battle(battle)
+            .enemySkills(skills)
+            .mutators(mutators)
+            .enemyPolicy(policy)
+            .dice(dice)
+            .build();
+
+        long total = 0;
+        int attacks = 20_000;
+        for (int i = 0; i < attacks; i++) {
+            battle.setPlayerHp(1_000);
+            battle.setTurnCount(2);
+            total += turnProcessor.attack(context, Battle.TurnActor.ENEMY).getDamage();
+        }
+        return (double) total / attacks;
+    }
+}
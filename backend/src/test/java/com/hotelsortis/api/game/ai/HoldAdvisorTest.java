@@ -0,0 +1,74 @@
+package com.hotelsortis.api.game.ai;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.mutator.MutatorPipeline;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import com.hotelsortis.api.service.MutatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for HoldAdvisor
+ */
+class HoldAdvisorTest {
+
+    private TurnProcessor turnProcessor;
+    private HoldAdvisor holdAdvisor;
+
+    @BeforeEach
+    void setUp() {
+        SkillEffectEngine engine = new SkillEffectEngine();
+        engine.registerSkillEffects(List.of(new SteadyHandEffect(), new PairMasterEffect()));
+        turnProcessor = new TurnProcessor(new HandEvaluator(), engine, new MutatorService(null));
+        holdAdvisor = new HoldAdvisor(turnProcessor);
+    }
+
+    @Test
+    void testHoldTable() {
+        MutatorPipeline mutators = turnProcessor.compileMutators(null);
+        HoldTable table = holdAdvisor.table(Loadout.EMPTY, mutators);
+        assertSame(table, holdAdvisor.table(Loadout.EMPTY, mutators));
+
+        // 최고 족보는 그대로 두고, 노 핸드는 재굴림 (재굴림 기회가 없으면 그대로)
+        assertEquals(HoldMasks.HOLD_ALL, table.bestMask(2, HandEvaluator.indexOf(1, 1, 1)));
+        assertNotEquals(HoldMasks.HOLD_ALL, table.bestMask(1, HandEvaluator.indexOf(1, 3, 6)));
+        assertEquals(HoldMasks.HOLD_ALL, table.bestMask(0, HandEvaluator.indexOf(1, 3, 6)));
+
+        // 최선의 마스크가 다른 모든 마스크 이상, 재굴림 기회가 많을수록 기대값이 줄지 않음
+        int index = HandEvaluator.indexOf(2, 4, 5);
+        for (int left = 1; left <= TurnProcessor.PLAYER_REROLLS; left++) {
+            double best = table.expectedValue(left, index, table.bestMask(left, index));
+            for (int mask = 0; mask < HoldMasks.COUNT; mask++) {
+                assertTrue(best >= table.expectedValue(left, index, mask) - 1e-9);
+            }
+            assertTrue(best >= table.expectedValue(left - 1, index, HoldMasks.HOLD_ALL) - 1e-9);
+        }
+    }
+
+    @Test
+    void testRerollAndPlayTurnWithHeldDice() {
+        SplittableDiceSource dice = new SplittableDiceSource(7L);
+        int[] rerolled = turnProcessor.reroll(new int[]{4, 4, 1}, 0b011, dice);
+        assertEquals(4, rerolled[0]);
+        assertEquals(4, rerolled[1]);
+        assertThrows(IllegalArgumentException.class,
+                () -> turnProcessor.reroll(new int[]{4, 4, 1}, HoldMasks.HOLD_ALL, dice));
+
+        Battle battle = Battle.builder().battleType(Battle.BattleType.PVE).build();
+        TurnProcessor.TurnOutcome outcome = turnProcessor.playTurn(
+                TurnProcessor.TurnContext.builder().battle(battle).dice(dice).build(), new int[]{6, 6, 6});
+        assertArrayEquals(new int[]{6, 6, 6}, outcome.getPlayerAttack().getRolledDice());
+        assertEquals(HandEvaluator.resultAt(HandEvaluator.indexOf(6, 6, 6)).getPower(),
+                outcome.getPlayerAttack().getDamage());
+    }
+}
@@ -0,0 +1,61 @@
+package com.hotelsortis.api.game.boss;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelsortis.api.entity.Boss;
+import com.hotelsortis.api.entity.BossId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BossDefinition
+ */
+class BossDefinitionTest {
+
+    private static final Map<String, Long> SKILL_IDS = Map.of("greed_dice", 11L, "high_roller", 4L);
+
+    @Test
+    void testCompilePhases() {
+        BossDefinition definition = compile();
+
+        assertEquals(BossId.MAMMON, definition.getBossId());
+        assertEquals(2, definition.getTotalPhases());
+        // 없는 스킬 코드(double_or_nothing)는 제외
+        assertEquals(List.of(11L), definition.getPhaseSkillIds(1));
+        assertEquals(List.of(11L, 4L), definition.getPhaseSkillIds(2));
+        assertEquals(List.of(), definition.getPhaseSkillIds(3));
+        assertEquals(80, definition.findPhase(2).orElseThrow().getHp());
+        assertEquals(2, definition.findPhase(2).orElseThrow().getAiLevel());
+    }
+
+    @Test
+    void testQuoteFallbacks() {
+        BossDefinition definition = compile();
+
+        assertEquals("ALL IN!", definition.getPhaseQuote(2, "en"));
+        assertEquals("올인!", definition.getPhaseQuote(2, "ko"));
+        // 번역이 없으면 영어
+        assertEquals("ALL IN!", definition.getPhaseQuote(2, "ja"));
+        // 1페이즈 대사가 없으면 등장 대사
+        assertEquals("전부 걸어!", definition.getPhaseQuote(1, "ko"));
+        assertEquals("The house...", definition.getQuote("defeat", "zh"));
+    }
+
+    private BossDefinition compile() {
+        Boss boss = Boss.builder()
+            .id("mammon")
+            .totalPhases(2)
+            .phaseConfig("""
+                {"phase1": {"hp": 100, "aiLevel": 1, "skills": ["greed_dice", "double_or_nothing"]},
+                 "phase2": {"hp": 80, "aiLevel": 2, "skills": ["greed_dice", "high_roller"]}}""")
+            .quotes("""
+                {"intro_en": "Bet EVERYTHING!", "intro_ko": "전부 걸어!",
+                 "phase2_en": "ALL IN!", "phase2_ko": "올인!", "defeat_en": "The house..."}""")
+            .build();
+        return BossDefinition.compile(boss, new ObjectMapper(), code -> Optional.ofNullable(SKILL_IDS.get(code)));
+    }
+}
@@ -0,0 +1,98 @@
+package com.hotelsortis.api.game.dice;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DiceSource implementations
+ */
+class DiceSourceTest {
+
+    @Test
+    void testRollsStayInRange() {
+        DiceSource[] sources = {
+            DiceSource.secure(),
+            new SplittableDiceSource(),
+            new SeededDiceSource(42L),
+            new HashDrbgDiceSource(new byte[DiceCommitments.SEED_BYTES], 0L)
+        };
+
+        for (DiceSource source : sources) {
+            int[] dice = new int[3];
+            for (int i = 0; i < 1000; i++) {
+                source.roll(dice);
+                for (int value : dice) {
+                    assertTrue(value >= 1 && value <= 6, "Dice value out of range: " + value);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSeededSourceIsReproducible() {
+        SeededDiceSource first = new SeededDiceSource(7L);
+        SeededDiceSource second = new SeededDiceSource(7L);
+
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(first.rollDice(), second.rollDice());
+        }
+        assertEquals(300, first.getDrawCount());
+    }
+
+    @Test
+    void testSeededSourceReset() {
+        SeededDiceSource source = new SeededDiceSource(123L);
+        int[] firstRoll = source.rollDice();
+        source.rollDice();
+
+        source.reset();
+
+        assertEquals(0, source.getDrawCount());
+        assertArrayEquals(firstRoll, source.rollDice());
+    }
+
+    @Test
+    void testSplitSourcesAreIndependent() {
+        SplittableDiceSource parent = new SplittableDiceSource(1L);
+        SplittableDiceSource child = parent.split();
+
+        boolean differs = false;
+        for (int i = 0; i < 20 && !differs; i++) {
+            differs = parent.rollDie() != child.rollDie();
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void testHashDrbgResumesFromPosition() {
+        byte[] seed = DiceCommitments.newSeed(new SeededDiceSource(5L));
+        HashDrbgDiceSource full = new HashDrbgDiceSource(seed, 0L);
+        HashDrbgDiceSource resumed = new HashDrbgDiceSource(seed, 0L);
+
+        for (int i = 0; i < 7; i++) {
+            full.rollDice();
+            resumed.rollDice();
+        }
+        // 블록 경계가 아닌 지점에서 재개해도 같은 난수열
+        resumed = new HashDrbgDiceSource(seed, resumed.getPosition());
+        for (int i = 0; i < 50; i++) {
+            assertArrayEquals(full.rollDice(), resumed.rollDice());
+            assertEquals(full.nextInt(1_000_000), resumed.nextInt(1_000_000));
+        }
+    }
+
+    @Test
+    void testCommitmentAndChainAreVerifiable() {
+        byte[] seed = DiceCommitments.newSeed(new SeededDiceSource(9L));
+        String commitment = DiceCommitments.commitment(seed);
+
+        assertEquals(64, commitment.length());
+        assertEquals(commitment, DiceCommitments.commitment(DiceCommitments.fromHex(DiceCommitments.toHex(seed))));
+
+        String turn1 = DiceCommitments.nextChain(commitment, 1, new int[]{1, 2, 3});
+        assertEquals(turn1, DiceCommitments.nextChain(commitment, 1, new int[]{1, 2, 3}));
+        assertNotEquals(turn1, DiceCommitments.nextChain(commitment, 1, new int[]{1, 2, 4}));
+        assertNotEquals(turn1, DiceCommitments.nextChain(commitment, 2, new int[]{1, 2, 3}));
+    }
+}
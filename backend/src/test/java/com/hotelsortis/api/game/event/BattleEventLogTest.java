@@ -0,0 +1,99 @@
+package com.hotelsortis.api.game.event;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.skill.Loadout;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import com.hotelsortis.api.service.MutatorService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BattleEventLog
+ */
+class BattleEventLogTest {
+
+    @Test
+    void testRecordRoundTrip() {
+        Battle battle = Battle.builder().id(1L).bossPhase(2).turnCount(3).build();
+        TurnProcessor.AttackResult attack = new TurnProcessor.AttackResult(
+            new int[]{1, 5, 6}, new int[]{2, 5, 6}, new HandEvaluator().evaluate(2, 5, 6), 13, true, 1L << 2 | 1L << 5);
+
+        BattleEventLog log = new BattleEventLog();
+        log.append(BattleEvent.attack(battle, Battle.TurnActor.ENEMY, 3, attack));
+        assertEquals(1, log.size());
+
+        byte[] records = log.drain();
+        assertEquals(BattleEvent.RECORD_SIZE, records.length);
+        assertTrue(log.isEmpty());
+
+        BattleEvent event = BattleEventLog.decode(records).get(0);
+        assertEquals(BattleEvent.Type.ATTACK, event.getType());
+        assertEquals(Battle.TurnActor.ENEMY, event.getActor());
+        assertTrue(event.isSkillsSilenced());
+        assertEquals(3, event.getTurn());
+        assertArrayEquals(new int[]{1, 5, 6}, event.getRolledDice());
+        assertArrayEquals(new int[]{2, 5, 6}, event.getDice());
+        assertEquals(attack.getHand().getRank(), event.getHandRank());
+        assertEquals(2, event.getBossPhase());
+        assertEquals(13, event.getDamage());
+        assertEquals(1L << 2 | 1L << 5, event.getTriggeredSkillMask());
+    }
+
+    @Test
+    void testReplayRebuildsBattleState() {
+        SkillEffectEngine engine = new SkillEffectEngine();
+        engine.registerSkillEffects(List.of(new SteadyHandEffect(), new PairMasterEffect()));
+        TurnProcessor turnProcessor = new TurnProcessor(
+            new HandEvaluator(), engine, new MutatorService(null));
+        Loadout loadout = turnProcessor.compileLoadout(List.of(2L, 5L));
+        SplittableDiceSource dice = new SplittableDiceSource(7L);
+
+        for (int i = 0; i < 200; i++) {
+            Battle battle = Battle.builder()
+                .id((long) i)
+                .battleType(Battle.BattleType.PVE)
+                .bossId("boss")
+                .bossPhase(1)
+                .playerHp(150)
+                .enemyHp(60)
+                .build();
+
+            TurnProcessor.TurnContext context = TurnProcessor.TurnContext.builder()
+                .battle(battle)
+                .playerSkills(loadout)
+                .enemySkills(loadout)
+                .mutators(turnProcessor.compileMutators(null))
+                .bossTotalPhases(() -> 3)
+                .dice(dice)
+                .build();
+            BattleEventLog log = new BattleEventLog();
+            log.append(BattleEvent.start(battle));
+            while (battle.getStatus() == Battle.Status.ONGOING) {
+                int turn = battle.getTurnCount();
+                log.appendTurn(battle, turn, turnProcessor.playTurn(context, null));
+            }
+
+            // 저장 실패 후 복원된 버퍼도 같은 순서로 재생되어야 함
+            byte[] records = log.drain();
+            log.restore(records);
+            Battle replayed = BattleEventLog.replay(Battle.builder().id(battle.getId()).build(),
+                BattleEventLog.decode(log.drain()));
+
+            assertEquals(battle.getPlayerHp(), replayed.getPlayerHp());
+            assertEquals(battle.getEnemyHp(), replayed.getEnemyHp());
+            assertEquals(battle.getPlayerShield(), replayed.getPlayerShield());
+            assertEquals(battle.getEnemyShield(), replayed.getEnemyShield());
+            assertEquals(battle.getBossPhase(), replayed.getBossPhase());
+            assertEquals(battle.getTurnCount(), replayed.getTurnCount());
+            assertEquals(battle.getStatus(), replayed.getStatus());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hotelsortis.api.game.mutator;
+
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MutatorPipeline
+ */
+class MutatorPipelineTest {
+
+    private final MutatorRegistry registry = MutatorRegistry.standard();
+
+    @Test
+    void testNoMutators() {
+        MutatorPipeline pipeline = registry.compile(null);
+        int[] rolled = {1, 2, 3};
+
+        assertSame(MutatorPipeline.NONE, pipeline);
+        assertSame(rolled, pipeline.transformDice(rolled, new SplittableDiceSource(1L)));
+        assertTrue(pipeline.allowSkills(new SplittableDiceSource(1L)));
+        assertEquals(MutatorPipeline.BASE_HP, pipeline.getInitialHp());
+        assertFalse(pipeline.hidesHandName());
+    }
+
+    @Test
+    void testStackedMutatorsApplyInOrder() {
+        MutatorPipeline pipeline = registry.compile("endurance, fog,gravity,unknown");
+
+        assertSame(pipeline, registry.compile("endurance, fog,gravity,unknown"));
+        assertEquals(List.of("endurance", "fog", "gravity"), pipeline.getMutatorIds());
+        assertEquals(150, pipeline.getInitialHp());
+        assertTrue(pipeline.hidesHandName());
+
+        int[] rolled = {1, 2, 6};
+        assertArrayEquals(new int[]{3, 3, 6}, pipeline.transformDice(rolled, new SplittableDiceSource(1L)));
+        assertArrayEquals(new int[]{1, 2, 6}, rolled);
+
+        // gravity 다음 chaos: 주사위 1개만 다시 굴려짐
+        int[] chaotic = registry.compile("gravity,chaos").transformDice(rolled, new SplittableDiceSource(3L));
+        int changed = 0;
+        for (int i = 0; i < 3; i++) {
+            if (chaotic[i] != new int[]{3, 3, 6}[i]) {
+                changed++;
+            }
+        }
+        assertTrue(changed <= 1);
+    }
+
+    @Test
+    void testSilenceGatesSkills() {
+        MutatorPipeline pipeline = registry.compile("silence");
+        SplittableDiceSource dice = new SplittableDiceSource(5L);
+
+        int silenced = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (!pipeline.allowSkills(dice)) {
+                silenced++;
+            }
+        }
+        assertTrue(silenced > 4_500 && silenced < 5_500, "silenced=" + silenced);
+    }
+}
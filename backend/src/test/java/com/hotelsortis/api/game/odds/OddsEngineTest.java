@@ -0,0 +1,82 @@
+package com.hotelsortis.api.game.odds;
+
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.HandEvaluator.HandRank;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.effects.HighRollerEffect;
+import com.hotelsortis.api.game.skill.effects.LuckyRerollEffect;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SafeBetEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import com.hotelsortis.api.service.MutatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for OddsEngine
+ */
+class OddsEngineTest {
+
+    private static final double EPSILON = 1e-12;
+
+    private OddsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        SkillEffectEngine skillEffectEngine = new SkillEffectEngine();
+        skillEffectEngine.registerSkillEffects(List.of(
+            new LuckyRerollEffect(), new SteadyHandEffect(), new SafeBetEffect(),
+            new HighRollerEffect(), new PairMasterEffect()));
+        engine = new OddsEngine(new TurnProcessor(
+            new HandEvaluator(), skillEffectEngine, new MutatorService(null)));
+    }
+
+    @Test
+    void testPlainDiceMatchesCounting() {
+        OddsTable odds = engine.calculate(List.of(), null, false);
+
+        assertEquals(216, odds.getOutcomes());
+        assertEquals(1.0, odds.getHandRanks().values().stream().mapToDouble(Double::doubleValue).sum(), EPSILON);
+        assertEquals(1.0, odds.getDamage().values().stream().mapToDouble(Double::doubleValue).sum(), EPSILON);
+        // 1-1-1 은 ACE, 나머지 5가지가 TRIPLE
+        assertEquals(1.0 / 216, odds.getHandRanks().get(HandRank.ACE), EPSILON);
+        assertEquals(5.0 / 216, odds.getHandRanks().get(HandRank.TRIPLE), EPSILON);
+        assertEquals(0.0, odds.getSkillsSilenced(), EPSILON);
+    }
+
+    @Test
+    void testSkillsAndMutatorsUseRealLogic() {
+        // Gravity: 1-2 → 3 이므로 3은 1/2, 4-6은 각 1/6
+        OddsTable gravity = engine.calculate(List.of(2L), "gravity", false);
+        assertEquals(216, gravity.getOutcomes());
+        assertEquals(0.0, gravity.getHandRanks().get(HandRank.ACE), EPSILON);
+        assertEquals(30.0 / 216, gravity.getHandRanks().get(HandRank.TRIPLE), EPSILON);
+
+        // Silence: 절반은 스킬 봉인, 나머지 절반만 Pair Master 보너스
+        OddsTable silence = engine.calculate(List.of(5L), "silence", false);
+        OddsTable plain = engine.calculate(List.of(), null, false);
+        OddsTable pairMaster = engine.calculate(List.of(5L), null, false);
+        assertEquals(0.5, silence.getSkillsSilenced(), EPSILON);
+        assertEquals((plain.getExpectedDamage() + pairMaster.getExpectedDamage()) / 2,
+            silence.getExpectedDamage(), 1e-9);
+
+        // High Roller는 난수 분기를 추가로 열거
+        OddsTable highRoller = engine.calculate(List.of(4L), null, false);
+        assertTrue(highRoller.getOutcomes() > 216);
+        assertEquals(1.0, highRoller.getHandRanks().values().stream().mapToDouble(Double::doubleValue).sum(), EPSILON);
+    }
+
+    @Test
+    void testMemoizedPerLoadoutAndMutator() {
+        OddsTable first = engine.calculate(List.of(2L, 5L), "gravity,chaos", false);
+
+        assertSame(first, engine.calculate(List.of(2L, 5L), "gravity,chaos", false));
+        assertNotSame(first, engine.calculate(List.of(2L, 5L), "gravity,chaos", true));
+        assertNotSame(first, engine.calculate(List.of(2L, 5L), "gravity", false));
+    }
+}
@@ -0,0 +1,95 @@
+package com.hotelsortis.api.game.simulation;
+
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.ai.EnemyAi;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.effects.HighRollerEffect;
+import com.hotelsortis.api.game.skill.effects.LuckyRerollEffect;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SafeBetEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import com.hotelsortis.api.service.MutatorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BattleSimulator
+ */
+class BattleSimulatorTest {
+
+    private BattleSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        SkillEffectEngine engine = new SkillEffectEngine();
+        engine.registerSkillEffects(List.of(
+            new LuckyRerollEffect(), new SteadyHandEffect(), new SafeBetEffect(),
+            new HighRollerEffect(), new PairMasterEffect()));
+
+        TurnProcessor turnProcessor = new TurnProcessor(
+            new HandEvaluator(), engine, new MutatorService(null));
+        simulator = new BattleSimulator(turnProcessor, new EnemyAi(turnProcessor, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    void testOutcomesAddUp() {
+        SimulationScenario scenario = SimulationScenario.builder()
+            .playerSkills(List.of(2L, 5L))
+            .floor(4)
+            .mutatorId("gravity")
+            .enemySkillPool(List.of(1L, 2L, 3L, 4L, 5L))
+            .enemySkillCount(1)
+            .build();
+
+        SimulationStats stats = simulator.simulate(scenario, 20_000, 99L);
+
+        assertEquals(20_000, stats.getBattles());
+        assertEquals(stats.getBattles(), stats.getVictories() + stats.getDefeats() + stats.getDraws());
+        assertTrue(stats.getAverageTurns() >= 1.0 && stats.getAverageTurns() <= 10.0);
+        assertTrue(Arrays.stream(stats.getPlayerDamageHistogram()).sum() > 0);
+    }
+
+    @Test
+    void testSameSeedSameResult() {
+        SimulationScenario scenario = SimulationScenario.builder()
+            .playerSkills(List.of(1L, 3L))
+            .floor(9)
+            .mutatorId("chaos")
+            .build();
+
+        SimulationStats first = simulator.simulate(scenario, 10_000, 1234L);
+        SimulationStats second = simulator.simulate(scenario, 10_000, 1234L);
+
+        assertEquals(first.getVictories(), second.getVictories());
+        assertEquals(first.getTotalTurns(), second.getTotalTurns());
+        assertArrayEquals(first.getPlayerDamageHistogram(), second.getPlayerDamageHistogram());
+    }
+
+    @Test
+    void testBossPhasesAreSimulated() {
+        SimulationScenario scenario = SimulationScenario.builder()
+            .playerSkills(List.of())
+            .floor(15)
+            .bossId("lucifuge")
+            .bossTotalPhases(3)
+            .build();
+
+        SimulationStats stats = simulator.simulate(scenario, 5_000, 7L);
+
+        assertTrue(stats.getBossPhaseTransitions() > 0);
+        // Each won boss battle passed through every phase
+        assertTrue(stats.getBossPhaseTransitions() >= stats.getVictories() * 2);
+    }
+}
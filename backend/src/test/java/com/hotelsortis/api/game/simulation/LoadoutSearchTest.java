@@ -0,0 +1,78 @@
+package com.hotelsortis.api.game.simulation;
+
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.ai.EnemyAi;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.game.skill.effects.HighRollerEffect;
+import com.hotelsortis.api.game.skill.effects.LuckyRerollEffect;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SafeBetEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import com.hotelsortis.api.service.MutatorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LoadoutSearch
+ */
+class LoadoutSearchTest {
+
+    private BattleSimulator simulator;
+    private LoadoutSearch search;
+
+    @BeforeEach
+    void setUp() {
+        SkillEffectEngine engine = new SkillEffectEngine();
+        engine.registerSkillEffects(List.of(
+            new LuckyRerollEffect(), new SteadyHandEffect(), new SafeBetEffect(),
+            new HighRollerEffect(), new PairMasterEffect()));
+
+        TurnProcessor turnProcessor = new TurnProcessor(
+            new HandEvaluator(), engine, new MutatorService(null));
+        simulator = new BattleSimulator(turnProcessor, new EnemyAi(turnProcessor, null));
+        search = new LoadoutSearch(simulator, turnProcessor, engine);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    void testRanksOwnedLoadouts() {
+        SimulationScenario target = SimulationScenario.builder()
+            .floor(4)
+            .enemySkillPool(List.of(1L, 2L, 3L, 4L, 5L))
+            .enemySkillCount(1)
+            .aiLevels(List.of(1))
+            .build();
+
+        // 40, 41은 효과가 없는 스킬 → 후보에서 제외
+        assertEquals(List.of(2L, 5L), search.effectiveSkills(List.of(41L, 5L, 2L, 40L, 5L)));
+
+        LoadoutSearch.Result result = search.rank(target, List.of(1L, 2L, 3L, 4L, 5L, 40L), 3, 7L);
+
+        // 빈 로드아웃 + C(5,1..4) = 31개 조합
+        assertEquals(31, result.getCandidates());
+        assertEquals(3, result.getLoadouts().size());
+        assertTrue(result.getBattles() < 31L * LoadoutSearch.MAX_BATTLES, "pruning should skip battles");
+
+        double previous = 1.0;
+        for (LoadoutSearch.RankedLoadout ranked : result.getLoadouts()) {
+            assertTrue(ranked.getSkillIds().size() <= LoadoutSearch.MAX_SKILLS);
+            assertFalse(ranked.getSkillIds().contains(40L));
+            assertTrue(ranked.getWinRate() <= previous);
+            assertTrue(ranked.getWinRateLow() <= ranked.getWinRate() && ranked.getWinRate() <= ranked.getWinRateHigh());
+            previous = ranked.getWinRate();
+        }
+
+        // 같은 시드면 같은 결과
+        assertEquals(result, search.rank(target, List.of(1L, 2L, 3L, 4L, 5L, 40L), 3, 7L));
+    }
+}
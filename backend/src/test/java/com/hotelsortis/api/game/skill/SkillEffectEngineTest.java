@@ -0,0 +1,84 @@
+package com.hotelsortis.api.game.skill;
+
+import com.hotelsortis.api.game.skill.effects.HighRollerEffect;
+import com.hotelsortis.api.game.skill.effects.LuckyRerollEffect;
+import com.hotelsortis.api.game.skill.effects.PairMasterEffect;
+import com.hotelsortis.api.game.skill.effects.SafeBetEffect;
+import com.hotelsortis.api.game.skill.effects.SteadyHandEffect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SkillEffectEngine
+ */
+class SkillEffectEngineTest {
+
+    private SkillEffectEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new SkillEffectEngine();
+        engine.registerSkillEffects(List.of(
+            new LuckyRerollEffect(), new SteadyHandEffect(), new SafeBetEffect(),
+            new HighRollerEffect(), new PairMasterEffect()));
+    }
+
+    @Test
+    void testCompileLoadoutGroupsByTriggerInEquipOrder() {
+        Loadout loadout = engine.compileLoadout(List.of(5L, 2L, 99L, 3L));
+
+        assertEquals(List.of(5L, 2L, 99L, 3L), loadout.getSkillIds());
+        assertArrayEquals(new Long[]{2L},
+            Arrays.stream(loadout.effectsFor(SkillTrigger.DICE_ROLL)).map(SkillEffect::getSkillId).toArray());
+        assertArrayEquals(new Long[]{5L, 3L},
+            Arrays.stream(loadout.effectsFor(SkillTrigger.BEFORE_DAMAGE)).map(SkillEffect::getSkillId).toArray());
+        assertFalse(loadout.hasEffects(SkillTrigger.AFTER_DAMAGE));
+        assertEquals(0, loadout.effectsFor(SkillTrigger.AFTER_DAMAGE).length);
+    }
+
+    @Test
+    void testCompileLoadoutIsCachedPerSkillIdList() {
+        Loadout first = engine.compileLoadout(List.of(2L, 5L));
+
+        assertSame(first, engine.compileLoadout(new ArrayList<>(List.of(2L, 5L))));
+        assertNotSame(first, engine.compileLoadout(List.of(5L, 2L)));
+        assertSame(Loadout.EMPTY, engine.compileLoadout(null));
+        assertSame(Loadout.EMPTY, engine.compileLoadout(List.of()));
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.compileLoadout(List.of(1L, 2L, 3L, 4L, 5L)));
+
+        // 재등록 시 캐시 무효화
+        engine.registerSkillEffect(new SteadyHandEffect());
+        assertNotSame(first, engine.compileLoadout(List.of(2L, 5L)));
+    }
+
+    @Test
+    void testCompiledAndListPathsMatch() {
+        List<Long> skills = List.of(2L, 5L);
+        Loadout loadout = engine.compileLoadout(skills);
+
+        GameState viaList = newState(new int[]{1, 1, 4});
+        GameState viaLoadout = newState(new int[]{1, 1, 4});
+        engine.executeSkillsByTrigger(SkillTrigger.DICE_ROLL, skills, viaList);
+        engine.executeSkillsByTrigger(SkillTrigger.DICE_ROLL, loadout, viaLoadout);
+
+        assertArrayEquals(viaList.getDice(), viaLoadout.getDice());
+        assertEquals(viaList.getTriggeredSkillIds(), viaLoadout.getTriggeredSkillIds());
+    }
+
+    private GameState newState(int[] dice) {
+        return GameState.builder()
+            .dice(dice)
+            .playerHp(100)
+            .enemyHp(100)
+            .turnCount(1)
+            .currentTurn("PLAYER")
+            .build();
+    }
+}
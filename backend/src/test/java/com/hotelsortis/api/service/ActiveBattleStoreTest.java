@@ -0,0 +1,273 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.entity.BattleEventChunk;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.ai.EnemyAi;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.event.BattleEvent;
+import com.hotelsortis.api.game.event.BattleEventLog;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.repository.BattleEventChunkRepository;
+import com.hotelsortis.api.repository.BattleRepository;
+import com.hotelsortis.api.repository.CampaignProgressRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for ActiveBattleStore
+ */
+class ActiveBattleStoreTest {
+
+    private static final long BATTLE_ID = 10L;
+
+    private final Map<Long, Battle> rows = new ConcurrentHashMap<>();
+    private final List<BattleEventChunk> chunks = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failNextChunk = new AtomicBoolean();
+    private final AtomicReference<CountDownLatch> chunkGate = new AtomicReference<>(new CountDownLatch(0));
+    private final AtomicReference<Thread> flushThread = new AtomicReference<>();
+    private CampaignProgressRepository campaignProgressRepository;
+    private ActiveBattleStore store;
+
+    @BeforeEach
+    void setUp() {
+        BattleRepository battleRepository = mock(BattleRepository.class);
+        when(battleRepository.findById(any())).thenAnswer(inv -> Optional.ofNullable(rows.get(inv.<Long>getArgument(0))));
+        when(battleRepository.save(any())).thenAnswer(inv -> {
+            // @Version 검사: 저장하는 버전이 행의 버전과 다르면 실패
+            Battle battle = inv.getArgument(0);
+            flushThread.set(Thread.currentThread());
+            Battle row = rows.get(battle.getId());
+            if (row != null && !row.getVersion().equals(battle.getVersion())) {
+                throw new OptimisticLockingFailureException("stale battle " + battle.getId());
+            }
+            battle.setVersion(battle.getVersion() + 1);
+            rows.put(battle.getId(), battle);
+            return battle;
+        });
+        BattleEventChunkRepository chunkRepository = mock(BattleEventChunkRepository.class);
+        campaignProgressRepository = mock(CampaignProgressRepository.class);
+        when(chunkRepository.save(any())).thenAnswer(inv -> {
+            chunkGate.get().await();
+            if (failNextChunk.getAndSet(false)) {
+                throw new IllegalStateException("connection lost");
+            }
+            chunks.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+
+        TurnProcessor turnProcessor = new TurnProcessor(
+            new HandEvaluator(), new SkillEffectEngine(), new MutatorService(null));
+        store = new ActiveBattleStore(battleRepository, chunkRepository, campaignProgressRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), turnProcessor,
+            new EnemyAi(turnProcessor, null), new SplittableDiceSource(7L), 30);
+
+        Battle battle = Battle.builder()
+            .id(BATTLE_ID)
+            .playerId(1L)
+            .enemyId(2L)
+            .battleType(Battle.BattleType.PVP)
+            .version(0L)
+            .build();
+        store.commitDice(battle);
+        rows.put(BATTLE_ID, battle);
+        store.register(battle);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chunkGate.get().countDown();
+        store.shutdown();
+    }
+
+    @Test
+    void testQueuedFlushesCarryPersistedVersion() {
+        CountDownLatch gate = new CountDownLatch(1);
+        chunkGate.set(gate);
+
+        // 첫 저장이 끝나기 전에 두 번째 저장을 예약
+        applyTurn(90, 2);
+        applyTurn(80, 3);
+        gate.countDown();
+        store.awaitFlushed(BATTLE_ID);
+
+        // 두 번째 저장은 첫 저장이 올린 버전으로 실행되어 충돌 없이 나중 상태가 남음
+        assertEquals(1, store.size());
+        assertEquals(2L, rows.get(BATTLE_ID).getVersion());
+        assertEquals(80, rows.get(BATTLE_ID).getPlayerHp());
+        assertEquals(List.of(BattleEvent.Type.START, BattleEvent.Type.BOSS_PHASE, BattleEvent.Type.BOSS_PHASE),
+            savedEvents().stream().map(BattleEvent::getType).toList());
+        assertEquals(List.of(1, 2, 3), savedEvents().stream().map(BattleEvent::getTurn).toList());
+    }
+
+    @Test
+    void testFailedFlushRestoresEvents() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        chunkGate.set(gate);
+        failNextChunk.set(true);
+        applyTurn(90, 2);
+
+        // 실패할 저장이 끝나기 전에 대기 시작 (실패 후 재시도가 먼저 성공하지 않도록)
+        AtomicReference<Thread> waiter = new AtomicReference<>();
+        CompletableFuture<Void> awaiting = CompletableFuture.runAsync(() -> {
+            waiter.set(Thread.currentThread());
+            store.awaitFlushed(BATTLE_ID);
+        });
+        awaitState(waiter, Thread.State.TIMED_WAITING);
+        gate.countDown();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> awaiting.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertTrue(chunks.isEmpty());
+        assertEquals(0L, rows.get(BATTLE_ID).getVersion());
+
+        // 실패한 묶음의 이벤트가 다음 이벤트 앞에 복원되어 다시 저장됨
+        applyTurn(80, 3);
+        store.awaitFlushed(BATTLE_ID);
+        assertEquals(1, store.size());
+        assertEquals(1L, rows.get(BATTLE_ID).getVersion());
+        assertEquals(80, rows.get(BATTLE_ID).getPlayerHp());
+        assertEquals(List.of(1, 2, 3), savedEvents().stream().map(BattleEvent::getTurn).toList());
+    }
+
+    @Test
+    void testExecuteReloadsBattleEvictedWhileWaiting() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        chunkGate.set(gate);
+        AtomicReference<Battle> ended = new AtomicReference<>();
+        AtomicReference<CompletableFuture<Battle>> waiting = new AtomicReference<>();
+
+        store.execute(BATTLE_ID, active -> {
+            active.getBattle().setStatus(Battle.Status.VICTORY);
+            active.appendEvent(BattleEvent.end(active.getBattle(), 2));
+            store.flushAsync(active);
+            ended.set(active.getBattle());
+
+            // 저장이 끝난 뒤 제거는 저장 스레드에서 실행 (flushAsync 반환 전에 끝나면 이 스레드에서 바로 실행됨)
+            gate.countDown();
+
+            // 저장 스레드가 제거하려고 락을 기다리는 동안 다른 요청도 락을 기다림
+            // (flushThread는 게이트 이후 battles 저장에서 기록되므로 WAITING은 전투 락 대기)
+            awaitParked(flushThread);
+            AtomicReference<Thread> requester = new AtomicReference<>();
+            waiting.set(CompletableFuture.supplyAsync(() -> {
+                requester.set(Thread.currentThread());
+                return store.execute(BATTLE_ID, ActiveBattleStore.ActiveBattle::getBattle);
+            }));
+            awaitParked(requester);
+            return null;
+        });
+
+        // 제거된 사본 대신 DB에서 다시 읽은 종료 상태로 실행
+        Battle seen = waiting.get().get(5, TimeUnit.SECONDS);
+        assertNotSame(ended.get(), seen);
+        assertEquals(Battle.Status.VICTORY, seen.getStatus());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testAwaitFlushedWaitsForPendingSave() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        chunkGate.set(gate);
+        store.execute(BATTLE_ID, active -> {
+            active.getBattle().setPlayerHp(90);
+            active.markDirty(); // 주기 저장 전 - awaitFlushed가 직접 저장
+            return null;
+        });
+
+        CompletableFuture<Void> awaiting = CompletableFuture.runAsync(() -> store.awaitFlushed(BATTLE_ID));
+        assertThrows(TimeoutException.class, () -> awaiting.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(0L, rows.get(BATTLE_ID).getVersion());
+
+        gate.countDown();
+        awaiting.get(5, TimeUnit.SECONDS);
+        assertEquals(1L, rows.get(BATTLE_ID).getVersion());
+        assertEquals(90, rows.get(BATTLE_ID).getPlayerHp());
+
+        // 메모리에 없는 전투는 바로 반환
+        store.awaitFlushed(99L);
+    }
+
+    @Test
+    void testCampaignDefeatRecordedWithFlush() {
+        store.execute(BATTLE_ID, active -> {
+            active.getBattle().setCampaignRun(3);
+            active.getBattle().setPlayerHp(0);
+            active.getBattle().setStatus(Battle.Status.DEFEAT);
+            active.appendEvent(BattleEvent.end(active.getBattle(), 2));
+            store.flushAsync(active);
+            return null;
+        });
+        store.awaitFlushed(BATTLE_ID);
+
+        // 종료 상태와 같은 저장에서 그 런의 패배를 기록
+        assertEquals(Battle.Status.DEFEAT, rows.get(BATTLE_ID).getStatus());
+        verify(campaignProgressRepository).recordDefeat(eq(1L), eq(3), any());
+    }
+
+    @Test
+    void testNonCampaignDefeatLeavesProgress() {
+        store.execute(BATTLE_ID, active -> {
+            active.getBattle().setStatus(Battle.Status.DEFEAT);
+            store.flushAsync(active);
+            return null;
+        });
+        store.awaitFlushed(BATTLE_ID);
+
+        verify(campaignProgressRepository, never()).recordDefeat(any(), any(), any());
+    }
+
+    private void applyTurn(int playerHp, int turn) {
+        store.execute(BATTLE_ID, active -> {
+            active.getBattle().setPlayerHp(playerHp);
+            active.appendEvent(BattleEvent.bossPhase(active.getBattle(), turn));
+            store.flushAsync(active);
+            return null;
+        });
+    }
+
+    private List<BattleEvent> savedEvents() {
+        List<BattleEvent> events = new ArrayList<>();
+        chunks.forEach(chunk -> events.addAll(BattleEventLog.decode(chunk.getEvents())));
+        return events;
+    }
+
+    private static void awaitParked(AtomicReference<Thread> thread) {
+        awaitState(thread, Thread.State.WAITING);
+    }
+
+    private static void awaitState(AtomicReference<Thread> thread, Thread.State state) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (thread.get() == null || thread.get().getState() != state) {
+            assertTrue(System.currentTimeMillis() < deadline, "thread did not block (" + state + ")");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.dto.BattleDto;
+import com.hotelsortis.api.entity.Battle;
+import com.hotelsortis.api.entity.BattleEventChunk;
+import com.hotelsortis.api.entity.Player;
+import com.hotelsortis.api.game.HandEvaluator;
+import com.hotelsortis.api.game.TurnProcessor;
+import com.hotelsortis.api.game.ai.EnemyAi;
+import com.hotelsortis.api.game.dice.SplittableDiceSource;
+import com.hotelsortis.api.game.event.BattleEvent;
+import com.hotelsortis.api.game.event.BattleEventLog;
+import com.hotelsortis.api.game.skill.SkillEffectEngine;
+import com.hotelsortis.api.repository.BattleEventChunkRepository;
+import com.hotelsortis.api.repository.BattleRepository;
+import com.hotelsortis.api.repository.CampaignProgressRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for BattleService
+ */
+class BattleServiceTest {
+
+    private static final long BATTLE_ID = 10L;
+    private static final long PLAYER_ID = 1L;
+
+    private final Map<Long, Battle> rows = new ConcurrentHashMap<>();
+    private final List<BattleEventChunk> chunks = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(100);
+    private CampaignProgressRepository campaignProgressRepository;
+    private ActiveBattleStore store;
+    private BattleService battleService;
+
+    @BeforeEach
+    void setUp() {
+        BattleRepository battleRepository = mock(BattleRepository.class);
+        when(battleRepository.findById(any())).thenAnswer(inv -> Optional.ofNullable(rows.get(inv.<Long>getArgument(0))));
+        when(battleRepository.save(any())).thenAnswer(inv -> {
+            // @Version 검사: 저장하는 버전이 행의 버전과 다르면 실패
+            Battle battle = inv.getArgument(0);
+            if (battle.getId() == null) {
+                battle.setId(nextId.incrementAndGet());
+            }
+            Battle row = rows.get(battle.getId());
+            if (row != null && !row.getVersion().equals(battle.getVersion())) {
+                throw new OptimisticLockingFailureException("stale battle " + battle.getId());
+            }
+            battle.setVersion(battle.getVersion() != null ? battle.getVersion() + 1 : 0L);
+            rows.put(battle.getId(), battle);
+            return battle;
+        });
+        BattleEventChunkRepository chunkRepository = mock(BattleEventChunkRepository.class);
+        campaignProgressRepository = mock(CampaignProgressRepository.class);
+        when(chunkRepository.save(any())).thenAnswer(inv -> {
+            chunks.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+
+        TurnProcessor turnProcessor = new TurnProcessor(
+            new HandEvaluator(), new SkillEffectEngine(), new MutatorService(null));
+        store = new ActiveBattleStore(battleRepository, chunkRepository, campaignProgressRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), turnProcessor,
+            new EnemyAi(turnProcessor, null), new SplittableDiceSource(7L), 30);
+        battleService = new BattleService(battleRepository, null, null, turnProcessor,
+            new MutatorService(null), null, store, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void testDuplicateKeyReplaysFirstResponse() {
+        saveBattle(100);
+
+        BattleDto.RollResponse first = battleService.rollDice(BATTLE_ID, roll("key-1"));
+        BattleDto.RollResponse retry = battleService.rollDice(BATTLE_ID, roll("key-1"));
+
+        assertNull(first.getReplayed());
+        assertEquals(Boolean.TRUE, retry.getReplayed());
+        assertArrayEquals(first.getDice(), retry.getDice());
+        assertEquals(first.getHash(), retry.getHash());
+        assertEquals(first.getEnemyHp(), retry.getEnemyHp());
+        assertEquals(2, currentTurn());
+
+        // 다른 키는 새 턴
+        BattleDto.RollResponse next = battleService.rollDice(BATTLE_ID, roll("key-2"));
+        assertNull(next.getReplayed());
+        assertNotEquals(first.getHash(), next.getHash());
+        assertEquals(3, currentTurn());
+    }
+
+    @Test
+    void testConcurrentDuplicatesRunOneTurn() throws Exception {
+        saveBattle(100);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BattleDto.RollResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return battleService.rollDice(BATTLE_ID, roll("same-key"));
+            }));
+        }
+        start.countDown();
+
+        List<BattleDto.RollResponse> responses = new ArrayList<>();
+        for (Future<BattleDto.RollResponse> future : futures) {
+            responses.add(future.get());
+        }
+        executor.shutdown();
+
+        assertEquals(1, responses.stream().filter(r -> r.getReplayed() == null).count());
+        for (BattleDto.RollResponse response : responses) {
+            assertEquals(responses.get(0).getHash(), response.getHash());
+        }
+        assertEquals(2, currentTurn());
+    }
+
+    @Test
+    void testReplayAfterBattleEnds() {
+        saveBattle(1);
+
+        String lastKey = null;
+        BattleDto.RollResponse last = null;
+        for (int i = 0; i < TurnProcessor.MAX_TURNS && (last == null || "ONGOING".equals(last.getStatus())); i++) {
+            lastKey = "key-" + i;
+            last = battleService.rollDice(BATTLE_ID, roll(lastKey));
+        }
+        assertNotEquals("ONGOING", last.getStatus());
+        store.awaitFlushed(BATTLE_ID);
+
+        // 종료시킨 굴림의 재시도는 저장된 응답, 새 키는 거부
+        BattleDto.RollResponse retry = battleService.rollDice(BATTLE_ID, roll(lastKey));
+        assertEquals(Boolean.TRUE, retry.getReplayed());
+        assertEquals(last.getStatus(), retry.getStatus());
+        assertEquals(last.getHash(), retry.getHash());
+        assertThrows(IllegalStateException.class, () -> battleService.rollDice(BATTLE_ID, roll("new-key")));
+    }
+
+    @Test
+    void testStaleVersionDiscardsMemoryCopy() {
+        saveBattle(100);
+        battleService.rollDice(BATTLE_ID, roll("key-1"));
+
+        // 다른 노드가 행을 변경 (버전 증가)
+        Battle row = rows.get(BATTLE_ID);
+        row.setVersion(row.getVersion() + 1);
+        row.setPlayerHp(42);
+
+        assertThrows(IllegalStateException.class, () -> store.awaitFlushed(BATTLE_ID));
+        assertEquals(0, store.size());
+        assertEquals(42, store.find(BATTLE_ID).orElseThrow().getPlayerHp());
+
+        // 다시 적재한 사본은 새 버전으로 저장됨
+        battleService.rollDice(BATTLE_ID, roll("key-2"));
+        store.awaitFlushed(BATTLE_ID);
+        assertEquals(row.getVersion() + 1, rows.get(BATTLE_ID).getVersion());
+    }
+
+    @Test
+    void testResolveCommitsBeforeReturning() {
+        saveBattle(100);
+        rows.get(BATTLE_ID).setBattleType(Battle.BattleType.PVE);
+
+        BattleDto.ResolveResponse response = battleService.resolveBattle(BATTLE_ID, roll("resolve"), 3);
+
+        // 응답 시점에 이미 DB에 반영되어 있어야 함
+        Battle row = rows.get(BATTLE_ID);
+        assertEquals(1L, row.getVersion());
+        assertEquals(response.getStatus(), row.getStatus().name());
+        assertEquals(response.getTurns().get(response.getTurnsPlayed() - 1).getPlayerHp(), row.getPlayerHp());
+    }
+
+    @Test
+    void testPvPBattlesRecordStartEvent() {
+        Player player1 = Player.builder().id(1L).elo(1000).build();
+        Player player2 = Player.builder().id(2L).elo(1000).build();
+
+        // 드래프트 전투: 메모리에 올리지 않고 시작 이벤트만 바로 저장
+        Battle draft = battleService.createPvPBattleWithDraft(player1, player2);
+        assertEquals(0, store.size());
+        assertStartEvent(draft.getId());
+
+        // 일반 PvP 전투: PvE처럼 메모리에 등록, 첫 저장 때 시작 이벤트 기록
+        Battle battle = battleService.createPvPBattle(player1, player2);
+        assertEquals(1, store.size());
+        store.awaitFlushed(battle.getId());
+        assertStartEvent(battle.getId());
+    }
+
+    private void assertStartEvent(Long battleId) {
+        List<BattleEvent> events = new ArrayList<>();
+        chunks.stream()
+            .filter(chunk -> chunk.getBattleId().equals(battleId))
+            .forEach(chunk -> events.addAll(BattleEventLog.decode(chunk.getEvents())));
+        assertEquals(1, events.size());
+        assertEquals(BattleEvent.Type.START, events.get(0).getType());
+
+        Battle replayed = BattleEventLog.replay(Battle.builder().id(battleId).build(), events);
+        assertEquals(100, replayed.getPlayerHp());
+        assertEquals(100, replayed.getEnemyHp());
+    }
+
+    private void saveBattle(int enemyHp) {
+        Battle battle = Battle.builder()
+            .id(BATTLE_ID)
+            .playerId(PLAYER_ID)
+            .enemyId(2L)
+            .battleType(Battle.BattleType.PVP)
+            .enemyHp(enemyHp)
+            .version(0L)
+            .build();
+        store.commitDice(battle);
+        rows.put(BATTLE_ID, battle);
+    }
+
+    private int currentTurn() {
+        return store.find(BATTLE_ID).orElseThrow().getTurnCount();
+    }
+
+    private static BattleDto.RollRequest roll(String idempotencyKey) {
+        BattleDto.RollRequest request = new BattleDto.RollRequest();
+        request.setPlayerId(PLAYER_ID);
+        request.setIdempotencyKey(idempotencyKey);
+        return request;
+    }
+}
@@ -0,0 +1,107 @@
+package com.hotelsortis.api.service;
+
+import com.hotelsortis.api.entity.PlayerSkill;
+import com.hotelsortis.api.entity.Skill;
+import com.hotelsortis.api.repository.PlayerSkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for OwnedSkillCache
+ */
+class OwnedSkillCacheTest {
+
+    private static final long PLAYER_ID = 1L;
+
+    /** player_skills의 현재 내용 (다른 노드의 해금도 여기에 반영) */
+    private final List<Long> ownedRows = new ArrayList<>();
+    private final List<PlayerSkill> saved = new ArrayList<>();
+    private PlayerSkillRepository playerSkillRepository;
+    private OwnedSkillCache cache;
+
+    @BeforeEach
+    void setUp() {
+        playerSkillRepository = mock(PlayerSkillRepository.class);
+        when(playerSkillRepository.findSkillIdsByPlayerId(PLAYER_ID)).thenAnswer(inv -> List.copyOf(ownedRows));
+        when(playerSkillRepository.saveAll(anyIterable())).thenAnswer(inv -> {
+            inv.<Iterable<PlayerSkill>>getArgument(0).forEach(saved::add);
+            return saved;
+        });
+        cache = new OwnedSkillCache(playerSkillRepository, null, mock(PlatformTransactionManager.class), 10);
+    }
+
+    @Test
+    void testUnlockSkipsSkillsOwnedElsewhere() {
+        ownedRows.add(1L);
+        assertEquals(List.of(1), cache.getOwned(PLAYER_ID).stream().boxed().toList());
+
+        // 다른 노드에서 2번 해금: 캐시는 아직 모름
+        ownedRows.add(2L);
+        assertFalse(cache.getOwned(PLAYER_ID).get(2));
+
+        List<Skill> unlocked = cache.unlock(PLAYER_ID, List.of(skill(2L), skill(3L)));
+
+        assertEquals(List.of(3L), unlocked.stream().map(Skill::getId).toList());
+        assertEquals(List.of(3L), saved.stream().map(PlayerSkill::getSkillId).toList());
+        assertEquals(List.of(1, 2, 3), cache.getOwned(PLAYER_ID).stream().boxed().toList());
+    }
+
+    @Test
+    void testRolledBackUnlockEvictsEntry() {
+        cache.getOwned(PLAYER_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.unlock(PLAYER_ID, List.of(skill(5L)));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // 롤백된 해금은 캐시에 남지 않고 다음 조회에서 DB를 다시 읽음
+        assertFalse(cache.getOwned(PLAYER_ID).get(5));
+        verify(playerSkillRepository, times(3)).findSkillIdsByPlayerId(PLAYER_ID);
+    }
+
+    @Test
+    void testFailedSaveEvictsEntry() {
+        cache.getOwned(PLAYER_ID);
+        when(playerSkillRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("uk_player_skill"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> cache.unlock(PLAYER_ID, List.of(skill(5L))));
+
+        ownedRows.add(5L);
+        assertTrue(cache.getOwned(PLAYER_ID).get(5));
+    }
+
+    @Test
+    void testExpiredEntryIsReloaded() {
+        OwnedSkillCache uncached = new OwnedSkillCache(playerSkillRepository, null, mock(PlatformTransactionManager.class), 0);
+        uncached.getOwned(PLAYER_ID);
+
+        ownedRows.add(4L);
+        assertTrue(uncached.getOwned(PLAYER_ID).get(4));
+        uncached.purgeExpired();
+    }
+
+    private static Skill skill(long id) {
+        return Skill.builder().id(id).build();
+    }
+}
@@ -12,12 +12,15 @@
 -- =====================================================
 -- 기존 테이블 삭제 (개발용, 운영시 주석 처리)
 -- =====================================================
+DROP TABLE IF EXISTS battle_archive;
+DROP TABLE IF EXISTS id_generators;
 DROP TABLE IF EXISTS chat_messages;
 DROP TABLE IF EXISTS block_list;
 DROP TABLE IF EXISTS friends;
 DROP TABLE IF EXISTS player_cosmetics;
 DROP TABLE IF EXISTS dice_skins;
 DROP TABLE IF EXISTS avatars;
+DROP TABLE IF EXISTS battle_events;
 DROP TABLE IF EXISTS battle_logs;
 DROP TABLE IF EXISTS battles;
 DROP TABLE IF EXISTS player_skills;
@@ -112,6 +115,25 @@ COMMENT='플레이어가 보유한 스킬';
 -- =====================================================
 -- 5. 전투 테이블 (battles)
 -- =====================================================
+-- 기존 DB 이전 (JSON 장착 스킬 → player_loadout/enemy_loadout):
+--   ALTER TABLE battles ADD COLUMN player_loadout BIGINT NOT NULL DEFAULT 0 AFTER current_turn,
+--                       ADD COLUMN enemy_loadout BIGINT NOT NULL DEFAULT 0 AFTER player_loadout;
+--   UPDATE battles SET
+--       player_loadout = IFNULL(JSON_VALUE(player_equipped_skills, '$[0]'), 0)
+--                      | IFNULL(JSON_VALUE(player_equipped_skills, '$[1]'), 0) << 16
+--                      | IFNULL(JSON_VALUE(player_equipped_skills, '$[2]'), 0) << 32
+--                      | IFNULL(JSON_VALUE(player_equipped_skills, '$[3]'), 0) << 48,
+--       enemy_loadout  = IFNULL(JSON_VALUE(enemy_equipped_skills, '$[0]'), 0)
+--                      | IFNULL(JSON_VALUE(enemy_equipped_skills, '$[1]'), 0) << 16
+--                      | IFNULL(JSON_VALUE(enemy_equipped_skills, '$[2]'), 0) << 32
+--                      | IFNULL(JSON_VALUE(enemy_equipped_skills, '$[3]'), 0) << 48;
+--   ALTER TABLE battles DROP COLUMN player_equipped_skills, DROP COLUMN enemy_equipped_skills;
+-- 기존 DB 이전 (낙관적 잠금):
+--   ALTER TABLE battles ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER rerolls_left;
+-- 기존 DB 이전 (캠페인 런 번호):
+--   ALTER TABLE battles ADD COLUMN campaign_run INT AFTER draft_completed;
+-- 기존 DB 이전 (보관 대상 조회용 인덱스, 19. battle_archive 참고):
+--   CREATE INDEX idx_battles_ended_at ON battles (ended_at);
 CREATE TABLE battles (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     player_id BIGINT NOT NULL,
@@ -120,7 +142,7 @@ CREATE TABLE battles (
     floor INT COMMENT 'PvE 층 번호',
     boss_id VARCHAR(50) COMMENT '보스 ID (보스전인 경우)',
     boss_phase INT DEFAULT 1 COMMENT '현재 보스 페이즈',
-    mutator_id VARCHAR(50) COMMENT '층 변형 규칙 ID',
+    mutator_id VARCHAR(50) COMMENT '층 변형 규칙 ID (여러 개는 쉼표로 구분, 적용 순서)',
     status ENUM('ONGOING', 'VICTORY', 'DEFEAT', 'DRAW') NOT NULL DEFAULT 'ONGOING',
     player_hp INT NOT NULL DEFAULT 100,
     enemy_hp INT NOT NULL DEFAULT 100,
@@ -128,15 +150,24 @@ CREATE TABLE battles (
     enemy_shield INT NOT NULL DEFAULT 0 COMMENT '적 쉴드',
     turn_count INT NOT NULL DEFAULT 1,
     current_turn ENUM('PLAYER', 'ENEMY') NOT NULL DEFAULT 'PLAYER',
-    player_equipped_skills JSON COMMENT '플레이어 장착 스킬',
-    enemy_equipped_skills JSON COMMENT '적 장착 스킬',
+    player_loadout BIGINT NOT NULL DEFAULT 0 COMMENT '플레이어 장착 스킬 (슬롯 i = 비트 16i~16i+15의 스킬 ID, 0 = 빈 슬롯)',
+    enemy_loadout BIGINT NOT NULL DEFAULT 0 COMMENT '적 장착 스킬 (player_loadout과 같은 형식)',
     draft_completed BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'PvP 드래프트 완료 여부',
+    campaign_run INT COMMENT '캠페인 런 번호 (campaign_progress.run_number, 승리 수에 반영하면 NULL)',
+    dice_seed CHAR(64) COMMENT '주사위 DRBG 시드 (전투 종료 후 공개)',
+    dice_commitment CHAR(64) COMMENT 'SHA-256(시드), 전투 시작 시 공개',
+    dice_position BIGINT NOT NULL DEFAULT 0 COMMENT 'DRBG 소비 바이트 수',
+    dice_chain CHAR(64) COMMENT '마지막 턴 주사위 hash 체인',
+    pending_dice SMALLINT COMMENT '보류/재굴림 단계의 플레이어 주사위 (조합 인덱스 0-215)',
+    rerolls_left INT COMMENT '이번 턴 남은 플레이어 재굴림 횟수',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 잠금 버전',
     started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     ended_at TIMESTAMP,
     FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE,
     INDEX idx_player_id (player_id),
     INDEX idx_status (status),
-    INDEX idx_battle_type (battle_type)
+    INDEX idx_battle_type (battle_type),
+    INDEX idx_battles_ended_at (ended_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='전투 기록';
 
@@ -163,32 +194,44 @@ CREATE TABLE battle_logs (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='전투 턴별 로그';
 
+-- =====================================================
+-- 6-1. 전투 이벤트 테이블 (battle_events)
+-- =====================================================
+CREATE TABLE battle_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    battle_id BIGINT NOT NULL,
+    event_count INT NOT NULL COMMENT '묶음 내 이벤트 수',
+    events VARBINARY(8192) NOT NULL COMMENT '32바이트 고정 길이 레코드 (BattleEvent)',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (battle_id) REFERENCES battles(id) ON DELETE CASCADE,
+    INDEX idx_battle_id (battle_id, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='전투 이벤트 로그 (추가 전용, 묶음 저장)';
+
 -- =====================================================
 -- 7. 캠페인 진행도 테이블 (campaign_progress)
 -- =====================================================
+-- 기존 DB 이전 (floor_N_cleared/보스 격파 컬럼 → progress_mask):
+--   ALTER TABLE campaign_progress ADD COLUMN progress_mask INT NOT NULL DEFAULT 0 AFTER current_run_hp;
+--   UPDATE campaign_progress SET progress_mask =
+--       IFNULL(floor_1_cleared, 0) | IFNULL(floor_2_cleared, 0) << 1 | IFNULL(floor_3_cleared, 0) << 2
+--     | IFNULL(floor_4_cleared, 0) << 3 | IFNULL(floor_5_cleared, 0) << 4 | IFNULL(floor_6_cleared, 0) << 5
+--     | IFNULL(floor_7_cleared, 0) << 6 | IFNULL(floor_8_cleared, 0) << 7 | IFNULL(floor_9_cleared, 0) << 8
+--     | IFNULL(floor_10_cleared, 0) << 9 | IFNULL(floor_11_cleared, 0) << 10 | IFNULL(floor_12_cleared, 0) << 11
+--     | IFNULL(floor_13_cleared, 0) << 12 | IFNULL(floor_14_cleared, 0) << 13 | IFNULL(floor_15_cleared, 0) << 14
+--     | IFNULL(mammon_defeated, 0) << 16 | IFNULL(eligor_defeated, 0) << 17 | IFNULL(lucifuge_defeated, 0) << 18;
+--   ALTER TABLE campaign_progress DROP COLUMN floor_1_cleared, ..., DROP COLUMN lucifuge_defeated;
+-- 기존 DB 이전 (전투 ID 기준 중복 판정 → 런 번호, 이전 중 진행 중이던 캠페인 전투의 승리는 세지 않음):
+--   ALTER TABLE campaign_progress ADD COLUMN run_number INT NOT NULL DEFAULT 1 AFTER run_victory_counts,
+--                                 DROP COLUMN last_counted_battle_id;
 CREATE TABLE campaign_progress (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     player_id BIGINT NOT NULL UNIQUE,
     current_run_floor INT NOT NULL DEFAULT 1 COMMENT '현재 런 진행 층',
     current_run_hp INT NOT NULL DEFAULT 100 COMMENT '현재 런 HP',
-    floor_1_cleared BOOLEAN DEFAULT FALSE,
-    floor_2_cleared BOOLEAN DEFAULT FALSE,
-    floor_3_cleared BOOLEAN DEFAULT FALSE,
-    floor_4_cleared BOOLEAN DEFAULT FALSE,
-    floor_5_cleared BOOLEAN DEFAULT FALSE,
-    floor_6_cleared BOOLEAN DEFAULT FALSE,
-    floor_7_cleared BOOLEAN DEFAULT FALSE,
-    floor_8_cleared BOOLEAN DEFAULT FALSE,
-    floor_9_cleared BOOLEAN DEFAULT FALSE,
-    floor_10_cleared BOOLEAN DEFAULT FALSE,
-    floor_11_cleared BOOLEAN DEFAULT FALSE,
-    floor_12_cleared BOOLEAN DEFAULT FALSE,
-    floor_13_cleared BOOLEAN DEFAULT FALSE,
-    floor_14_cleared BOOLEAN DEFAULT FALSE,
-    floor_15_cleared BOOLEAN DEFAULT FALSE,
-    mammon_defeated BOOLEAN DEFAULT FALSE COMMENT '5층 보스 격파',
-    eligor_defeated BOOLEAN DEFAULT FALSE COMMENT '10층 보스 격파',
-    lucifuge_defeated BOOLEAN DEFAULT FALSE COMMENT '15층 보스 격파',
+    progress_mask INT NOT NULL DEFAULT 0 COMMENT '비트 0-14: 1-15층 클리어, 비트 16-18: mammon/eligor/lucifuge 격파 (BossId.progressBit, 고정)',
+    run_victory_counts BIGINT NOT NULL DEFAULT 0 COMMENT '현재 런의 층별 승리 수 (층마다 4비트)',
+    run_number INT NOT NULL DEFAULT 1 COMMENT '현재 런 번호 (새 런마다 증가, battles.campaign_run과 비교)',
     total_runs INT NOT NULL DEFAULT 0,
     total_victories INT NOT NULL DEFAULT 0,
     total_defeats INT NOT NULL DEFAULT 0,
@@ -206,7 +249,7 @@ CREATE TABLE floors (
     floor_type ENUM('NORMAL', 'ELITE', 'BOSS') NOT NULL,
     battle_count INT NOT NULL COMMENT '전투 횟수',
     boss_id VARCHAR(50) COMMENT '보스 ID (보스층인 경우)',
-    mutator_id VARCHAR(50) COMMENT '층 변형 규칙 ID',
+    mutator_id VARCHAR(50) COMMENT '층 변형 규칙 ID (여러 개는 쉼표로 구분, 적용 순서)',
     ai_level INT NOT NULL DEFAULT 0 COMMENT 'AI 레벨 (0-3)',
     enemy_skill_count INT NOT NULL DEFAULT 0 COMMENT '적 스킬 개수',
     skill_reward_rarity ENUM('Common', 'Rare', 'Epic', 'Legendary') COMMENT '보상 스킬 등급',
@@ -427,8 +470,63 @@ CREATE TABLE chat_messages (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='채팅 메시지 (GLOBAL: 전체, WHISPER: 1:1)';
 
+-- =====================================================
+-- 18. ID 생성기 테이블 (id_generators)
+-- =====================================================
+-- 쓰기가 많은 테이블(battles, battle_events, player_skills, player_cosmetics, friends, chat_messages)은
+-- AUTO_INCREMENT 대신 이 테이블에서 ID를 50개씩 받아 씁니다 (Hibernate pooled 테이블 생성기, INSERT 배치 가능).
+-- next_val = 다음에 받아 갈 블록의 끝 값 (블록 = next_val - 49 ~ next_val, 받아 가면 next_val + 50으로 갱신)
+-- 기존 DB 이전 (행이 있는 테이블은 next_val >= MAX(id) + 50 이어야 함):
+--   INSERT INTO id_generators (name, next_val)
+--   SELECT 'battles', COALESCE(MAX(id), 0) + 50 FROM battles
+--   UNION ALL SELECT 'battle_events', COALESCE(MAX(id), 0) + 50 FROM battle_events
+--   UNION ALL SELECT 'player_skills', COALESCE(MAX(id), 0) + 50 FROM player_skills
+--   UNION ALL SELECT 'player_cosmetics', COALESCE(MAX(id), 0) + 50 FROM player_cosmetics
+--   UNION ALL SELECT 'friends', COALESCE(MAX(id), 0) + 50 FROM friends
+--   UNION ALL SELECT 'chat_messages', COALESCE(MAX(id), 0) + 50 FROM chat_messages;
+CREATE TABLE id_generators (
+    name VARCHAR(64) PRIMARY KEY COMMENT '테이블 이름',
+    next_val BIGINT NOT NULL COMMENT '다음에 할당할 ID 블록의 끝 값'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='풀링 ID 생성기 (Hibernate TableGenerator)';
+
+-- =====================================================
+-- 19. 전투 보관 테이블 (battle_archive)
+-- =====================================================
+-- 종료 후 game.battle.archive.after-days(기본 90일)가 지난 전투를 매일 battles에서 옮겨 옵니다 (BattleArchiveService).
+-- ID는 원래 전투 ID, 진행 중에만 쓰는 컬럼은 버리고 battle_events 묶음은 events 한 컬럼으로 합칩니다.
+-- 옮긴 전투의 battle_events 행은 삭제되고, 예전 battle_logs 행은 battles FK(ON DELETE CASCADE)로 함께 삭제됩니다.
+-- (월별 파티션은 파티션 키가 모든 고유 키에 포함되어야 하고 FK를 쓸 수 없어 battles에는 적용하지 않음)
+CREATE TABLE battle_archive (
+    id BIGINT PRIMARY KEY COMMENT '원래 battles.id',
+    player_id BIGINT NOT NULL,
+    enemy_id BIGINT,
+    battle_type ENUM('PVE', 'PVP') NOT NULL,
+    floor INT,
+    boss_id VARCHAR(50),
+    mutator_id VARCHAR(50),
+    status ENUM('ONGOING', 'VICTORY', 'DEFEAT', 'DRAW') NOT NULL,
+    player_hp INT NOT NULL,
+    enemy_hp INT NOT NULL,
+    turn_count INT NOT NULL,
+    player_loadout BIGINT NOT NULL,
+    enemy_loadout BIGINT NOT NULL,
+    dice_seed CHAR(64),
+    dice_commitment CHAR(64),
+    dice_position BIGINT,
+    dice_chain CHAR(64),
+    events MEDIUMBLOB NOT NULL COMMENT '전투의 모든 BattleEvent 레코드 (battle_events 묶음을 ID 순으로 이어 붙임)',
+    started_at TIMESTAMP NOT NULL,
+    ended_at TIMESTAMP NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE,
+    INDEX idx_archive_player (player_id, battle_type, ended_at),
+    INDEX idx_archive_enemy (enemy_id, battle_type, ended_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci ROW_FORMAT=COMPRESSED
+COMMENT='보관된 전투 (종료 후 오래된 전투, 조회 전용)';
+
 -- =====================================================
 -- 완료 메시지
 -- =====================================================
-SELECT 'Table creation complete! (17 tables)' AS message;
+SELECT 'Table creation complete! (19 tables)' AS message;
 SHOW TABLES;
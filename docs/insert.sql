@@ -1067,6 +1067,13 @@ SET equipped_dice_skin_id = (SELECT id FROM dice_skins WHERE skin_code = 'classi
     equipped_avatar_id = (SELECT id FROM avatars WHERE avatar_code = 'the_wanderer')
 WHERE id IN (1, 2);
 
+-- =====================================================
+-- ID 생성기 (위에서 직접 넣은 행 이후부터 할당되도록)
+-- =====================================================
+INSERT INTO id_generators (name, next_val)
+SELECT 'player_skills', COALESCE(MAX(id), 0) + 50 FROM player_skills
+UNION ALL SELECT 'player_cosmetics', COALESCE(MAX(id), 0) + 50 FROM player_cosmetics;
+
 -- =====================================================
 -- 완료 메시지
 -- =====================================================